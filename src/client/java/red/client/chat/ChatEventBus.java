@@ -0,0 +1,334 @@
+package red.client.chat;
+
+import net.fabricmc.fabric.api.client.message.v1.ClientReceiveMessageEvents;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import red.client.fishing.util.SeaCreatureCatalog;
+import red.client.util.MultiPatternMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Chat Event Bus - Classifies game chat once and hands typed events to subscribers
+ *
+ * Every event type is a list of keyword groups: a message is of that type when
+ * each group has at least one keyword in it. All keywords of all types, plus the
+ * sea creature names, are compiled into one case-insensitive MultiPatternMatcher,
+ * so a message is classified in a single pass no matter how many types exist.
+ *
+ * Work per message is only done for types somebody currently listens to:
+ * - no active subscriber: the Text is never flattened
+ * - otherwise: flatten once, one matcher pass, dispatch to the matching types
+ *
+ * Player chat and action bar messages never produce events, so typing a
+ * keyword in chat cannot trigger a feature. Player chat is recognised by its
+ * prefix only (optional channel, level/rank brackets, a username, ":"), so a
+ * game message that merely contains a colon is still classified.
+ *
+ * Client thread only.
+ *
+ * Performance: O(message length) per message, nothing while nobody listens
+ */
+public final class ChatEventBus {
+
+    /**
+     * Message categories, each defined by keyword groups (all groups must match, any keyword per group)
+     */
+    public enum Type {
+        /** "You didn't ... it escaped" - XYZ capture failed */
+        ESCAPE(new String[] {"you didn't"}, new String[] {"escaped"}),
+        /** "You caught ... Shard" / "You received ... Shard" - XYZ capture succeeded */
+        SHARD_CATCH(new String[] {"you caught", "you received"}, new String[] {"shard"}),
+        /** "GOOD CATCH!", "TROPHY FISH!" ... */
+        FISH_CATCH(new String[] {"good catch!", "great catch!", "outstanding catch!", "trophy fish!"}),
+        /** A catalogued sea creature is named (spawn messages); the event carries its id */
+        SEA_CREATURE(),
+        /** "☠ You were killed by ...", "You died" */
+        DEATH(new String[] {"☠ you ", "you died"});
+
+        private final String[][] groups;
+
+        Type(String[]... groups) {
+            this.groups = groups;
+        }
+    }
+
+    /**
+     * One classified message
+     * @param message    plain text (formatting codes removed)
+     * @param creatureId SeaCreatureCatalog id of the longest creature name in the message, or NONE
+     */
+    public record ChatEvent(Type type, String message, int creatureId) {
+    }
+
+    /**
+     * Subscriber for one event type
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onChatEvent(ChatEvent event);
+    }
+
+    private record Subscription(Type type, BooleanSupplier active, Listener listener) {
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    // Channel prefixes in front of the sender of player chat
+    private static final String[] CHAT_CHANNELS = {"Party > ", "Guild > ", "Officer > ", "Co-op > ", "From ", "To "};
+    private static final int MAX_USERNAME_LENGTH = 16;
+
+    // Pattern id -> keyword bit (keywords) or creature id (names); -1 when not that kind
+    private static final MultiPatternMatcher matcher;
+    private static final int[] patternKeyword;
+    private static final int[] patternCreature;
+    private static final int[] patternLength;
+    // Per type: one keyword bitmask per group
+    private static final long[][] typeGroups = new long[TYPES.length][];
+
+    private static final List<Subscription> subscriptions = new ArrayList<>();
+    private static boolean registered = false;
+
+    // Scratch for one classification (client thread only)
+    private static long matchedKeywords;
+    private static int matchedCreature;
+    private static int matchedCreatureLength;
+    private static String scanText;
+
+    static {
+        List<String> patterns = new ArrayList<>();
+        List<Integer> keywordBits = new ArrayList<>();
+        List<String> keywords = new ArrayList<>();
+
+        for (Type type : TYPES) {
+            long[] masks = new long[type.groups.length];
+            for (int g = 0; g < type.groups.length; g++) {
+                for (String keyword : type.groups[g]) {
+                    int bit = keywords.indexOf(keyword);
+                    if (bit < 0) {
+                        bit = keywords.size();
+                        keywords.add(keyword);
+                        patterns.add(keyword);
+                        keywordBits.add(bit);
+                    }
+                    masks[g] |= 1L << bit;
+                }
+            }
+            typeGroups[type.ordinal()] = masks;
+        }
+        if (keywords.size() > Long.SIZE) {
+            throw new IllegalStateException("Too many chat keywords: " + keywords.size());
+        }
+
+        int keywordCount = patterns.size();
+        for (int id = 0; id < SeaCreatureCatalog.size(); id++) {
+            patterns.add(SeaCreatureCatalog.getName(id));
+        }
+
+        patternKeyword = new int[patterns.size()];
+        patternCreature = new int[patterns.size()];
+        patternLength = new int[patterns.size()];
+        for (int i = 0; i < patterns.size(); i++) {
+            patternKeyword[i] = i < keywordCount ? keywordBits.get(i) : -1;
+            patternCreature[i] = i < keywordCount ? SeaCreatureCatalog.NONE : i - keywordCount;
+            patternLength[i] = patterns.get(i).length();
+        }
+        matcher = new MultiPatternMatcher(patterns.toArray(new String[0]), true);
+    }
+
+    private ChatEventBus() {
+    }
+
+    /**
+     * Hook the game message event - called once during client init
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ClientReceiveMessageEvents.GAME.register(ChatEventBus::onGameMessage);
+    }
+
+    /**
+     * Listen for one event type while active holds (checked per message, before any parsing)
+     */
+    public static void subscribe(Type type, BooleanSupplier active, Listener listener) {
+        subscriptions.add(new Subscription(type, active, listener));
+    }
+
+    /**
+     * Entry point for ClientReceiveMessageEvents.GAME
+     */
+    public static void onGameMessage(Text message, boolean overlay) {
+        if (overlay) {
+            return; // Action bar (HP/mana every tick), never carries events
+        }
+
+        int interested = activeTypes();
+        if (interested == 0) {
+            return;
+        }
+
+        dispatch(flatten(message), interested);
+    }
+
+    /**
+     * Event types a plain message belongs to, as a bitmask over Type ordinals (debug / benchmarks)
+     */
+    public static int classify(String plain) {
+        return classify(plain, (1 << TYPES.length) - 1);
+    }
+
+    // ===== Internals =====
+
+    private static int activeTypes() {
+        int mask = 0;
+        for (int i = 0; i < subscriptions.size(); i++) {
+            Subscription subscription = subscriptions.get(i);
+            if (subscription.active().getAsBoolean()) {
+                mask |= 1 << subscription.type().ordinal();
+            }
+        }
+        return mask;
+    }
+
+    private static String flatten(Text message) {
+        String text = message.getString();
+        return text.indexOf('§') >= 0 ? Formatting.strip(text) : text;
+    }
+
+    private static void dispatch(String plain, int interested) {
+        int types = classify(plain, interested);
+        if (types == 0) {
+            return;
+        }
+
+        for (Type type : TYPES) {
+            if ((types & (1 << type.ordinal())) == 0) {
+                continue;
+            }
+
+            ChatEvent event = new ChatEvent(type, plain, matchedCreature);
+            for (int i = 0; i < subscriptions.size(); i++) {
+                Subscription subscription = subscriptions.get(i);
+                if (subscription.type() == type && subscription.active().getAsBoolean()) {
+                    subscription.listener().onChatEvent(event);
+                }
+            }
+        }
+    }
+
+    private static int classify(String plain, int interested) {
+        if (plain.isEmpty() || isPlayerChat(plain)) {
+            return 0;
+        }
+
+        matchedKeywords = 0;
+        matchedCreature = SeaCreatureCatalog.NONE;
+        matchedCreatureLength = 0;
+        scanText = plain;
+        matcher.forEachMatch(plain, ChatEventBus::onMatch);
+        scanText = null;
+
+        int types = 0;
+        for (Type type : TYPES) {
+            int bit = 1 << type.ordinal();
+            if ((interested & bit) != 0 && matches(type)) {
+                types |= bit;
+            }
+        }
+        return types;
+    }
+
+    private static void onMatch(int patternId, int end) {
+        int keyword = patternKeyword[patternId];
+        if (keyword >= 0) {
+            matchedKeywords |= 1L << keyword;
+            return;
+        }
+
+        // Creature names must be whole words ("Ent" is not in "entered")
+        int length = patternLength[patternId];
+        int start = end - length;
+        if (length > matchedCreatureLength && isWordBoundary(scanText, start - 1) && isWordBoundary(scanText, end)) {
+            matchedCreature = patternCreature[patternId];
+            matchedCreatureLength = length;
+        }
+    }
+
+    private static boolean matches(Type type) {
+        if (type == Type.SEA_CREATURE) {
+            return matchedCreature != SeaCreatureCatalog.NONE;
+        }
+
+        long[] groups = typeGroups[type.ordinal()];
+        for (long group : groups) {
+            if ((matchedKeywords & group) == 0) {
+                return false;
+            }
+        }
+        return groups.length > 0;
+    }
+
+    private static boolean isWordBoundary(String text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    /**
+     * "[MVP+] Name: hi", "[287] ⚡ [MVP+] Name: hi", "Guild > Name [Officer]: hi", "From [VIP] Name: hi"
+     * Optional channel, then any level/rank brackets and emblem symbols, a username, an optional
+     * guild rank bracket and ":"
+     */
+    private static boolean isPlayerChat(String plain) {
+        int i = 0;
+        for (String channel : CHAT_CHANNELS) {
+            if (plain.startsWith(channel)) {
+                i = channel.length();
+                break;
+            }
+        }
+
+        // Level / rank brackets and emblems ("[287] ⚡ [MVP+] ")
+        while (i < plain.length()) {
+            char c = plain.charAt(i);
+            if (c == '[') {
+                int close = plain.indexOf(']', i);
+                if (close < 0) {
+                    return false;
+                }
+                i = close + 1;
+            } else if (c == ' ' || (c > 0x7F && !Character.isLetterOrDigit(c))) {
+                i++;
+            } else {
+                break;
+            }
+        }
+
+        int nameStart = i;
+        while (i < plain.length() && i - nameStart <= MAX_USERNAME_LENGTH && isUsernameChar(plain.charAt(i))) {
+            i++;
+        }
+        int nameLength = i - nameStart;
+        if (nameLength == 0 || nameLength > MAX_USERNAME_LENGTH) {
+            return false;
+        }
+
+        // Guild rank after the name ("Name [Officer]: hi")
+        if (plain.startsWith(" [", i)) {
+            int close = plain.indexOf(']', i);
+            if (close < 0) {
+                return false;
+            }
+            i = close + 1;
+        }
+        return plain.startsWith(": ", i);
+    }
+
+    private static boolean isUsernameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+}
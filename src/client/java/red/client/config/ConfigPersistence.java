@@ -0,0 +1,155 @@
+package red.client.config;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Config Persistence - Write-behind saving for the config classes
+ *
+ * Config setters call save(), which used to serialize and write the file on the
+ * client thread every time (a YACL slider drag meant dozens of writes). save()
+ * now only records "this file is dirty" here. A daemon thread waits until
+ * changes have been quiet for DEBOUNCE_MS (at most MAX_DELAY_MS after the first
+ * one), then serializes each dirty config once and replaces the file
+ * atomically (temp file + move), so a crash mid-write never leaves a truncated
+ * config behind.
+ *
+ * Everything pending is flushed synchronously when the client stops.
+ *
+ * Serializers run on the worker thread and read the config's static fields.
+ * Those are independent primitives and strings; if a setter races a write, it
+ * has already marked the file dirty again and the next write picks it up.
+ */
+public final class ConfigPersistence {
+    private static final long DEBOUNCE_MS = 500;
+    private static final long MAX_DELAY_MS = 2000;
+
+    private static final Object lock = new Object();
+    private static final Object writeLock = new Object(); // Lets flush() wait out a write already in progress
+    private static final Map<Path, Supplier<String>> pending = new LinkedHashMap<>();
+    private static long firstChange;
+    private static long lastChange;
+    private static Thread worker;
+    private static boolean registered = false;
+
+    private ConfigPersistence() {
+    }
+
+    /**
+     * Flush pending writes when the client stops
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> flush());
+    }
+
+    /**
+     * Mark a config file dirty; repeated calls before the write coalesce
+     * @param serializer produces the full file contents, called on the worker thread
+     */
+    public static void schedule(Path file, Supplier<String> serializer) {
+        synchronized (lock) {
+            long now = System.nanoTime() / 1_000_000L;
+            if (pending.isEmpty()) {
+                firstChange = now;
+            }
+            lastChange = now;
+            pending.put(file, serializer);
+
+            if (worker == null) {
+                worker = new Thread(ConfigPersistence::run, "RedClient Config Writer");
+                worker.setDaemon(true);
+                worker.start();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Write everything pending now, on the calling thread
+     */
+    public static void flush() {
+        synchronized (writeLock) {
+            writeAll(takePending());
+        }
+    }
+
+    // ===== Internals =====
+
+    private static void run() {
+        while (true) {
+            synchronized (lock) {
+                try {
+                    while (pending.isEmpty()) {
+                        lock.wait();
+                    }
+
+                    long now = System.nanoTime() / 1_000_000L;
+                    long due = Math.min(lastChange + DEBOUNCE_MS, firstChange + MAX_DELAY_MS);
+                    if (now < due) {
+                        lock.wait(due - now);
+                        continue;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            synchronized (writeLock) {
+                writeAll(takePending());
+            }
+        }
+    }
+
+    private static List<Map.Entry<Path, Supplier<String>>> takePending() {
+        synchronized (lock) {
+            List<Map.Entry<Path, Supplier<String>>> batch = new ArrayList<>();
+            for (Map.Entry<Path, Supplier<String>> entry : pending.entrySet()) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            pending.clear();
+            return batch;
+        }
+    }
+
+    private static void writeAll(List<Map.Entry<Path, Supplier<String>>> batch) {
+        for (Map.Entry<Path, Supplier<String>> entry : batch) {
+            try {
+                writeAtomically(entry.getKey(), entry.getValue().get());
+            } catch (Exception e) {
+                System.err.println("[ConfigPersistence] Failed to save " + entry.getKey().getFileName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Write to a sibling temp file, then move it over the target
+     */
+    private static void writeAtomically(Path file, String contents) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+
+        Path temp = dir.resolve(file.getFileName() + ".tmp");
+        Files.writeString(temp, contents, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package red.client.config;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Config Store - One versioned config document (config/redclient.json) for every feature
+ *
+ * Layout:
+ *   { "version": 1, "sections": { "autofish": {...}, "flarecombat": {...}, ... } }
+ *
+ * The file is read and parsed once. Each config class owns a typed Section that
+ * is only deserialized the first time the class asks for it. Saving marks the
+ * section dirty. The write (through ConfigPersistence) re-serializes only dirty
+ * sections; everything else, including sections this version does not know
+ * about, is written back from the parsed tree untouched.
+ *
+ * On first run the old per-feature files (autofish.json, ...) are migrated into
+ * the document and left in place as a backup.
+ */
+public final class ConfigStore {
+    public static final int VERSION = 1;
+    private static final String FILE_NAME = "redclient.json";
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    // Pre-store files, migrated on first run: section name -> file name in the config dir
+    private static final Map<String, String> LEGACY_FILES = new LinkedHashMap<>();
+
+    static {
+        LEGACY_FILES.put("autofish", "autofish.json");
+        LEGACY_FILES.put("flarecombat", "flarecombat.json");
+        LEGACY_FILES.put("macro_scheduler", "macro_scheduler.json");
+        LEGACY_FILES.put("spike_helper", "spike_helper.json");
+        LEGACY_FILES.put("mob_highlight", "mobhighlight.json");
+        LEGACY_FILES.put("cinderbat_highlight", "cinderbat_highlight.json");
+        LEGACY_FILES.put("bezal_farmer", "bezal_farmer.json");
+        LEGACY_FILES.put("xyz_macro", "xyz_macro.json");
+    }
+
+    // Guarded by ConfigStore.class (client thread reads, config writer thread serializes)
+    private static Path file; // null when running without Fabric Loader (headless tests/benchmarks)
+    private static JsonObject sections;
+    private static final Set<Section<?>> dirty = new LinkedHashSet<>();
+
+    /**
+     * One feature's block in the document
+     */
+    public static final class Section<T> {
+        private final String name;
+        private final Class<T> type;
+        private final Supplier<T> defaults;
+        private final Consumer<T> validator;
+        private volatile T value;
+
+        private Section(String name, Class<T> type, Supplier<T> defaults, Consumer<T> validator) {
+            this.name = name;
+            this.type = type;
+            this.defaults = defaults;
+            this.validator = validator;
+        }
+
+        /**
+         * The section's data, deserialized on first use
+         */
+        public T get() {
+            T current = value;
+            if (current == null) {
+                current = decode(this);
+            }
+            return current;
+        }
+
+        /**
+         * Schedule a write of the document with this section re-serialized
+         */
+        public void markDirty() {
+            Path target;
+            synchronized (ConfigStore.class) {
+                dirty.add(this);
+                target = file;
+            }
+            if (target != null) {
+                ConfigPersistence.schedule(target, ConfigStore::serialize);
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private ConfigStore() {
+    }
+
+    /**
+     * Declare a section (call once, from the config class's static initializer)
+     */
+    public static <T> Section<T> section(String name, Class<T> type, Supplier<T> defaults) {
+        return section(name, type, defaults, null);
+    }
+
+    /**
+     * Declare a section with a validator run on the loaded data (clamps, value migrations)
+     */
+    public static <T> Section<T> section(String name, Class<T> type, Supplier<T> defaults, Consumer<T> validator) {
+        return new Section<>(name, type, defaults, validator);
+    }
+
+    /**
+     * Read and parse the document (once; later calls do nothing)
+     */
+    public static synchronized void load() {
+        if (sections != null) {
+            return;
+        }
+
+        try {
+            file = FabricLoader.getInstance().getConfigDir().resolve(FILE_NAME);
+        } catch (RuntimeException | LinkageError e) {
+            System.out.println("[ConfigStore] No Fabric Loader, using in-memory defaults");
+            sections = new JsonObject();
+            return;
+        }
+
+        if (Files.exists(file)) {
+            sections = readDocument(file);
+        } else {
+            sections = migrateLegacyFiles(file.getParent());
+            if (sections.size() > 0) {
+                System.out.println("[ConfigStore] Migrated " + sections.size() + " legacy config files into " + FILE_NAME);
+            }
+            // Write the new document once, even if no section is ever touched
+            ConfigPersistence.schedule(file, ConfigStore::serialize);
+        }
+    }
+
+    // ===== Internals =====
+
+    private static synchronized <T> T decode(Section<T> section) {
+        if (section.value != null) {
+            return section.value;
+        }
+        load();
+
+        T data = null;
+        JsonElement json = sections.get(section.name);
+        if (json != null && json.isJsonObject()) {
+            try {
+                data = GSON.fromJson(json, section.type);
+            } catch (RuntimeException e) {
+                System.err.println("[ConfigStore] Invalid '" + section.name + "' section, using defaults: " + e.getMessage());
+            }
+        }
+        if (data == null) {
+            data = section.defaults.get();
+        }
+        if (section.validator != null) {
+            section.validator.accept(data);
+        }
+
+        section.value = data;
+        return data;
+    }
+
+    /**
+     * Full document, re-serializing only dirty sections (runs on the config writer thread)
+     */
+    private static synchronized String serialize() {
+        if (sections == null) {
+            sections = new JsonObject();
+        }
+        for (Section<?> section : dirty) {
+            Object value = section.value;
+            if (value != null) {
+                sections.add(section.name, GSON.toJsonTree(value));
+            }
+        }
+        dirty.clear();
+
+        JsonObject root = new JsonObject();
+        root.addProperty("version", VERSION);
+        root.add("sections", sections);
+        return GSON.toJson(root);
+    }
+
+    private static JsonObject readDocument(Path file) {
+        try {
+            JsonObject root = JsonParser.parseString(Files.readString(file, StandardCharsets.UTF_8)).getAsJsonObject();
+            int version = root.has("version") ? root.get("version").getAsInt() : 0;
+            if (version > VERSION) {
+                System.err.println("[ConfigStore] " + FILE_NAME + " is from a newer version (" + version + "), unknown settings are kept as-is");
+            }
+
+            JsonElement body = root.get("sections");
+            return body != null && body.isJsonObject() ? body.getAsJsonObject() : new JsonObject();
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[ConfigStore] Failed to read " + FILE_NAME + ", starting from defaults: " + e.getMessage());
+            backupBrokenFile(file);
+            return new JsonObject();
+        }
+    }
+
+    private static JsonObject migrateLegacyFiles(Path configDir) {
+        JsonObject migrated = new JsonObject();
+
+        for (Map.Entry<String, String> legacy : LEGACY_FILES.entrySet()) {
+            Path file = configDir.resolve(legacy.getValue());
+            if (!Files.exists(file)) {
+                continue;
+            }
+            try {
+                JsonElement json = JsonParser.parseString(Files.readString(file, StandardCharsets.UTF_8));
+                if (json.isJsonObject()) {
+                    migrated.add(legacy.getKey(), json);
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[ConfigStore] Skipping unreadable legacy config " + file.getFileName() + ": " + e.getMessage());
+            }
+        }
+        return migrated;
+    }
+
+    private static void backupBrokenFile(Path file) {
+        try {
+            Files.copy(file, file.resolveSibling(FILE_NAME + ".broken"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("[ConfigStore] Failed to back up " + FILE_NAME + ": " + e.getMessage());
+        }
+    }
+}
@@ -223,15 +223,7 @@ public final class RedClientYaclConfigScreen {
                                         .valueFormatter(value -> Text.literal(value + " min")))
                                 .build())
                         .build())
-                .save(() -> {
-                    FishConfig.save();
-                    FlareConfig.save();
-                    SpikeHelperConfig.save();
-                    BezalFarmerConfig.save();
-                    XYZConfig.save();
-                    CinderbatHighlightConfig.save();
-                    MacroSchedulerConfig.save();
-                })
+                .save(ConfigPersistence::flush) // Setters already marked their sections dirty
                 .build()
                 .generateScreen(parent);
     }
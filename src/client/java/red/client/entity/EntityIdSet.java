@@ -0,0 +1,106 @@
+package red.client.entity;
+
+import java.util.Arrays;
+
+/**
+ * Entity Id Set - Primitive open-addressing set of entity ids
+ *
+ * Membership is a hash probe on an int[] - no boxing, no equals() calls,
+ * no per-insert allocation once the table has grown. Used for the highlight
+ * sets the outline mixins query for every rendered entity.
+ *
+ * Not thread-safe on its own, see TrackedEntitySet for publishing.
+ */
+public final class EntityIdSet {
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] table;
+    private int size = 0;
+
+    public EntityIdSet() {
+        this(16);
+    }
+
+    public EntityIdSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(4, expected * 2 - 1)) << 1;
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+    }
+
+    /**
+     * Add an id
+     * @return true if it was not present
+     */
+    public boolean add(int id) {
+        if ((size + 1) * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+
+        int slot = slot(table, id);
+        if (table[slot] == id) {
+            return false;
+        }
+        table[slot] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * Whether the id is in the set
+     */
+    public boolean contains(int id) {
+        return id != EMPTY && table[slot(table, id)] == id;
+    }
+
+    /**
+     * Number of ids in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Add every id of another set
+     */
+    public void addAll(EntityIdSet other) {
+        for (int id : other.table) {
+            if (id != EMPTY) {
+                add(id);
+            }
+        }
+    }
+
+    /**
+     * Remove all ids, keeping the table
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(table, EMPTY);
+            size = 0;
+        }
+    }
+
+    private static int slot(int[] table, int id) {
+        int mask = table.length - 1;
+        int slot = ((id * 0x9E3779B9) >>> 16) & mask;
+        while (table[slot] != EMPTY && table[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int capacity) {
+        int[] old = table;
+        table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        for (int id : old) {
+            if (id != EMPTY) {
+                table[slot(table, id)] = id;
+            }
+        }
+    }
+}
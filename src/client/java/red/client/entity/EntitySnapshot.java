@@ -0,0 +1,177 @@
+package red.client.entity;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.passive.BatEntity;
+import net.minecraft.entity.projectile.FishingBobberEntity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Entity Snapshot - Shared per-tick view of the client world's entities
+ *
+ * Walks client.world.getEntities() once per tick and splits the result into
+ * the categories features actually care about, so each feature queries a short
+ * list instead of scanning the whole world on its own.
+ *
+ * Categories:
+ * - Named armor stands (Hypixel name tags, bite markers, REEL indicators)
+ * - Living mobs (excluding armor stands and the local player)
+ * - Bats (Cinderbat candidates)
+ * - Fishing bobbers
+ * - Named entities of any type (Flare detection)
+ *
+ * Named armor stands and living mobs are also bucketed into spatial hash grids,
+ * so "within R blocks of X" lookups only visit the nearby chunk sections.
+ *
+ * Performance: One world pass per tick, backing lists and grids are reused between ticks
+ */
+public class EntitySnapshot {
+    private static final List<ArmorStandEntity> namedArmorStands = new ArrayList<>();
+    private static final List<LivingEntity> livingMobs = new ArrayList<>();
+    private static final List<BatEntity> bats = new ArrayList<>();
+    private static final List<FishingBobberEntity> bobbers = new ArrayList<>();
+    private static final List<Entity> namedEntities = new ArrayList<>();
+
+    // Spatial indexes rebuilt alongside the lists
+    private static final SpatialHashGrid<ArmorStandEntity> namedArmorStandGrid = new SpatialHashGrid<>();
+    private static final SpatialHashGrid<LivingEntity> livingMobGrid = new SpatialHashGrid<>();
+
+    // Read-only views handed out to features
+    private static final List<ArmorStandEntity> namedArmorStandsView = Collections.unmodifiableList(namedArmorStands);
+    private static final List<LivingEntity> livingMobsView = Collections.unmodifiableList(livingMobs);
+    private static final List<BatEntity> batsView = Collections.unmodifiableList(bats);
+    private static final List<FishingBobberEntity> bobbersView = Collections.unmodifiableList(bobbers);
+    private static final List<Entity> namedEntitiesView = Collections.unmodifiableList(namedEntities);
+
+    private static boolean stale = true;
+    private static boolean registered = false;
+
+    /**
+     * Register the tick hook that marks the snapshot stale at the start of every tick
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ClientTickEvents.START_CLIENT_TICK.register(client -> stale = true);
+    }
+
+    /**
+     * Rebuild the snapshot if it has not been built yet this tick
+     * Safe to call from several END_CLIENT_TICK handlers, only the first call does work
+     */
+    public static void update(MinecraftClient client) {
+        if (!stale) {
+            return;
+        }
+        stale = false;
+
+        clear();
+
+        if (client.world == null || client.player == null) {
+            return;
+        }
+
+        for (Entity entity : client.world.getEntities()) {
+            if (entity == null || entity.isRemoved()) {
+                continue;
+            }
+
+            boolean named = entity.hasCustomName();
+            if (named) {
+                namedEntities.add(entity);
+            }
+
+            if (entity instanceof ArmorStandEntity armorStand) {
+                if (named) {
+                    namedArmorStands.add(armorStand);
+                    namedArmorStandGrid.add(armorStand, armorStand.getX(), armorStand.getY(), armorStand.getZ());
+                }
+                continue;
+            }
+
+            if (entity instanceof FishingBobberEntity bobber) {
+                bobbers.add(bobber);
+                continue;
+            }
+
+            if (entity instanceof LivingEntity living && entity != client.player) {
+                livingMobs.add(living);
+                livingMobGrid.add(living, living.getX(), living.getY(), living.getZ());
+                if (entity instanceof BatEntity bat) {
+                    bats.add(bat);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop all references (world change / disconnect)
+     */
+    public static void clear() {
+        namedArmorStands.clear();
+        livingMobs.clear();
+        bats.clear();
+        bobbers.clear();
+        namedEntities.clear();
+        namedArmorStandGrid.clear();
+        livingMobGrid.clear();
+    }
+
+    /**
+     * Armor stands carrying a custom name
+     */
+    public static List<ArmorStandEntity> getNamedArmorStands() {
+        return namedArmorStandsView;
+    }
+
+    /**
+     * Living entities other than armor stands and the local player
+     */
+    public static List<LivingEntity> getLivingMobs() {
+        return livingMobsView;
+    }
+
+    /**
+     * All bat entities in the world
+     */
+    public static List<BatEntity> getBats() {
+        return batsView;
+    }
+
+    /**
+     * All fishing bobbers in the world (own and other players')
+     */
+    public static List<FishingBobberEntity> getBobbers() {
+        return bobbersView;
+    }
+
+    /**
+     * Every entity with a custom name, regardless of type
+     */
+    public static List<Entity> getNamedEntities() {
+        return namedEntitiesView;
+    }
+
+    /**
+     * Spatial index over getNamedArmorStands()
+     */
+    public static SpatialHashGrid<ArmorStandEntity> getNamedArmorStandGrid() {
+        return namedArmorStandGrid;
+    }
+
+    /**
+     * Spatial index over getLivingMobs()
+     */
+    public static SpatialHashGrid<LivingEntity> getLivingMobGrid() {
+        return livingMobGrid;
+    }
+}
@@ -0,0 +1,190 @@
+package red.client.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import red.client.fishing.util.SeaCreatureCatalog;
+import red.client.fishing.util.SkyblockHealth;
+
+import java.util.Locale;
+
+/**
+ * Nametag Cache - One parsed record per named entity, keyed by entity id
+ *
+ * A record is only rebuilt when the entity's custom name Text instance changes.
+ * Every name update from the server deserializes a new Text, so identity is a
+ * cheap and exact change check. Everything derived from the name (plain and
+ * lowercase string, level, creature name, HP, flags) is computed once per update
+ * and then read as plain fields by every feature, every tick.
+ *
+ * Entries are dropped by ClientWorldMixin when the entity leaves the world.
+ *
+ * Performance: One identity compare per lookup once an entry is warm
+ */
+public final class NametagCache {
+    // Flags
+    public static final int FLAG_LEVEL = 1;            // Has a "[Lv80]" prefix
+    public static final int FLAG_HEALTH = 1 << 1;      // Has a "current/max" health pair (a lone "300k❤" only sets currentHp)
+    public static final int FLAG_BITE_MARKER = 1 << 2; // Exactly "!!!" (fish bite)
+    public static final int FLAG_REEL = 1 << 3;        // Contains "reel" (XYZ capture prompt)
+    public static final int FLAG_PLAYER_NAME = 1 << 4; // Mentions the local player (own pet / title, never a mob)
+
+    private static final Int2ObjectOpenHashMap<Entry> entries = new Int2ObjectOpenHashMap<>();
+    private static final SkyblockHealth.Result health = new SkyblockHealth.Result(); // Parse scratch, client thread only
+
+    /**
+     * Parsed name tag record
+     * Fields are only valid until the next get() for the same entity
+     */
+    public static final class Entry {
+        private Text source;
+
+        public String raw = "";           // Text.getString()
+        public String plain = "";         // Formatting codes removed
+        public String lower = "";         // plain, lowercase (Locale.ROOT)
+        public int level = -1;            // -1 when absent
+        public String creatureName = "";  // Name between level tag and health, symbols trimmed
+        public double currentHp = -1;     // -1 when absent
+        public double maxHp = -1;         // -1 when absent
+        public int creatureId = SeaCreatureCatalog.NONE;
+        public int flags;
+
+        public boolean has(int flag) {
+            return (flags & flag) != 0;
+        }
+    }
+
+    private NametagCache() {
+    }
+
+    /**
+     * Parsed record for an entity's custom name
+     * @return the cached record, or null if the entity has no custom name
+     */
+    public static Entry get(Entity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        Text name = entity.getCustomName();
+        if (name == null) {
+            return null;
+        }
+
+        Entry entry = entries.get(entity.getId());
+        if (entry == null) {
+            entry = new Entry();
+            entries.put(entity.getId(), entry);
+        }
+
+        if (entry.source != name) {
+            parse(entry, name);
+        }
+        return entry;
+    }
+
+    /**
+     * Drop the record for an entity (despawn)
+     */
+    public static void remove(int entityId) {
+        entries.remove(entityId);
+    }
+
+    /**
+     * Drop every record (world change)
+     */
+    public static void clear() {
+        entries.clear();
+    }
+
+    // ===== Parsing =====
+
+    private static void parse(Entry entry, Text name) {
+        entry.source = name;
+        entry.raw = name.getString();
+        entry.plain = Formatting.strip(entry.raw);
+        entry.lower = entry.plain.toLowerCase(Locale.ROOT);
+        entry.level = -1;
+        entry.currentHp = -1;
+        entry.maxHp = -1;
+        entry.flags = 0;
+
+        String plain = entry.plain;
+        int nameStart = 0;
+        int nameEnd = plain.length();
+
+        int levelEnd = parseLevel(entry, plain);
+        if (levelEnd > 0) {
+            entry.flags |= FLAG_LEVEL;
+            nameStart = levelEnd;
+        }
+
+        if (SkyblockHealth.parse(plain, health) && health.start >= nameStart) {
+            entry.currentHp = health.current;
+            entry.maxHp = health.max;
+            nameEnd = health.start;
+            if (health.hasMax()) {
+                entry.flags |= FLAG_HEALTH;
+            }
+        }
+
+        entry.creatureName = trimSymbols(plain, nameStart, nameEnd);
+        entry.creatureId = SeaCreatureCatalog.match(entry.plain);
+
+        if ("!!!".equals(plain)) {
+            entry.flags |= FLAG_BITE_MARKER;
+        }
+        if (entry.lower.contains("reel")) {
+            entry.flags |= FLAG_REEL;
+        }
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player != null) {
+            String playerName = client.player.getName().getString().toLowerCase(Locale.ROOT);
+            if (!playerName.isEmpty() && entry.lower.contains(playerName)) {
+                entry.flags |= FLAG_PLAYER_NAME;
+            }
+        }
+    }
+
+    /**
+     * Read a "[Lv80]" tag into entry.level
+     * @return index just past the tag, or -1 if there is none
+     */
+    private static int parseLevel(Entry entry, String plain) {
+        int open = plain.indexOf("[Lv");
+        if (open < 0) {
+            return -1;
+        }
+
+        int level = 0;
+        int i = open + 3;
+        int digitsStart = i;
+        while (i < plain.length() && plain.charAt(i) >= '0' && plain.charAt(i) <= '9' && i - digitsStart < 9) {
+            level = level * 10 + (plain.charAt(i) - '0');
+            i++;
+        }
+
+        if (i == digitsStart || i >= plain.length() || plain.charAt(i) != ']') {
+            return -1;
+        }
+
+        entry.level = level;
+        return i + 1;
+    }
+
+    /**
+     * Substring with leading/trailing non-letters removed ("♨ Bezal " -> "Bezal")
+     */
+    private static String trimSymbols(String s, int start, int end) {
+        while (start < end && !Character.isLetter(s.charAt(start))) {
+            start++;
+        }
+        while (end > start && !Character.isLetterOrDigit(s.charAt(end - 1))) {
+            end--;
+        }
+        return s.substring(start, end);
+    }
+}
@@ -0,0 +1,209 @@
+package red.client.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.text.Text;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Nametag Index - Event-driven index of armor stand name tags
+ *
+ * Kept current by mixins instead of polling:
+ * - ClientWorld.addEntity / removeEntity (spawn + despawn)
+ * - Entity.onTrackedDataSet for CUSTOM_NAME (Hypixel rewrites name tags in place,
+ *   e.g. "Bezal 300k/300k" -> "Bezal 9k/300k" or the "!!!" bite marker)
+ * - ClientWorld construction (world change clears everything)
+ *
+ * Each change updates exactly one entry and notifies subscribers on the client
+ * thread, in the same tick the packet was handled.
+ *
+ * Performance: O(1) per event, no per-tick world scans
+ */
+public class NametagIndex {
+    private static final Int2ObjectOpenHashMap<ArmorStandEntity> stands = new Int2ObjectOpenHashMap<>();
+    private static final Int2ObjectOpenHashMap<ArmorStandEntity> named = new Int2ObjectOpenHashMap<>();
+    private static final Int2ObjectOpenHashMap<String> names = new Int2ObjectOpenHashMap<>();
+    private static final Collection<ArmorStandEntity> namedView = Collections.unmodifiableCollection(named.values());
+    private static final List<Listener> listeners = new ArrayList<>();
+    private static boolean registered = false;
+
+    /**
+     * Subscriber for name tag changes
+     */
+    public interface Listener {
+        /**
+         * A name tag was set or changed (name is the plain string, never null)
+         */
+        void onNametagChanged(ArmorStandEntity stand, String name);
+
+        /**
+         * A named stand lost its name or left the world
+         */
+        default void onNametagRemoved(ArmorStandEntity stand) {
+        }
+
+        /**
+         * The whole index was dropped (world change / disconnect)
+         */
+        default void onNametagsCleared() {
+        }
+    }
+
+    /**
+     * Register the disconnect hook (the world mixin covers world changes)
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> client.execute(NametagIndex::clear));
+    }
+
+    /**
+     * Subscribe to name tag changes
+     * Existing named stands are replayed so late subscribers start consistent
+     */
+    public static void subscribe(Listener listener) {
+        if (listeners.contains(listener)) {
+            return;
+        }
+        listeners.add(listener);
+
+        for (Int2ObjectMap.Entry<ArmorStandEntity> entry : named.int2ObjectEntrySet()) {
+            listener.onNametagChanged(entry.getValue(), names.get(entry.getIntKey()));
+        }
+    }
+
+    /**
+     * Unsubscribe from name tag changes
+     */
+    public static void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    // ===== Mixin hooks =====
+
+    /**
+     * Called by ClientWorldMixin after an entity joined the client world
+     */
+    public static void onEntityAdded(Entity entity) {
+        if (!(entity instanceof ArmorStandEntity stand)) {
+            return;
+        }
+
+        stands.put(stand.getId(), stand);
+        refresh(stand);
+    }
+
+    /**
+     * Called by ClientWorldMixin before an entity is removed from the client world
+     */
+    public static void onEntityRemoved(int entityId) {
+        ArmorStandEntity stand = stands.remove(entityId);
+        if (stand == null) {
+            return;
+        }
+
+        if (named.remove(entityId) != null) {
+            names.remove(entityId);
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).onNametagRemoved(stand);
+            }
+        }
+    }
+
+    /**
+     * Called by EntityNametagMixin when an entity's CUSTOM_NAME tracked data changes
+     * Ignores entities that are not registered in the client world (integrated server copies)
+     */
+    public static void onCustomNameChanged(Entity entity) {
+        // Server-side entities in singleplayer share the mixin but run on the server thread
+        if (!MinecraftClient.getInstance().isOnThread()) {
+            return;
+        }
+        if (!(entity instanceof ArmorStandEntity stand) || stands.get(stand.getId()) != stand) {
+            return;
+        }
+
+        refresh(stand);
+    }
+
+    /**
+     * Drop every entry (world change / disconnect)
+     */
+    public static void clear() {
+        if (stands.isEmpty()) {
+            return;
+        }
+
+        stands.clear();
+        named.clear();
+        names.clear();
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onNametagsCleared();
+        }
+    }
+
+    // ===== Queries =====
+
+    /**
+     * All armor stands currently carrying a name tag
+     */
+    public static Collection<ArmorStandEntity> getNamedStands() {
+        return namedView;
+    }
+
+    /**
+     * Current plain name of a stand, or null if it has none
+     */
+    public static String getName(int entityId) {
+        return names.get(entityId);
+    }
+
+    /**
+     * Number of named stands in the index
+     */
+    public static int size() {
+        return named.size();
+    }
+
+    // ===== Internals =====
+
+    private static void refresh(ArmorStandEntity stand) {
+        int id = stand.getId();
+        Text customName = stand.getCustomName();
+
+        if (customName == null) {
+            if (named.remove(id) != null) {
+                names.remove(id);
+                for (int i = 0; i < listeners.size(); i++) {
+                    listeners.get(i).onNametagRemoved(stand);
+                }
+            }
+            return;
+        }
+
+        String name = customName.getString();
+        String previous = names.put(id, name);
+        named.put(id, stand);
+
+        // Hypixel re-sends identical names on every metadata refresh, only real changes notify
+        if (name.equals(previous)) {
+            return;
+        }
+
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).onNametagChanged(stand, name);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package red.client.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nametag Linker - Incremental armor stand -> mob association
+ *
+ * Hypixel draws a mob's name and health on an armor stand floating above it.
+ * The linker remembers which mob belongs to which name tag (by entity id) and
+ * only searches again when the link breaks: the mob despawned, died, or the two
+ * drifted apart beyond the link tolerance. Resolving a target is then a map
+ * lookup plus a bounds check instead of a world box query and a stream min.
+ *
+ * Relinking uses the living mob grid from EntitySnapshot, so only mobs in the
+ * stand's own chunk sections are considered.
+ *
+ * Performance: O(1) per resolve while the link holds
+ */
+public final class NametagLinker {
+    private static final int NO_LINK = -1;
+
+    // Link tolerance around the stand: mobs sit below their name tag
+    private static final double HORIZONTAL_TOLERANCE = 1.0;
+    private static final double BELOW_TOLERANCE = 3.5;
+    private static final double ABOVE_TOLERANCE = 0.5;
+
+    private static final Int2IntOpenHashMap links = new Int2IntOpenHashMap();
+    private static final List<LivingEntity> candidates = new ArrayList<>(); // Reused relink buffer
+    private static boolean registered = false;
+
+    static {
+        links.defaultReturnValue(NO_LINK);
+    }
+
+    private NametagLinker() {
+    }
+
+    /**
+     * Drop links together with their name tags
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        NametagIndex.subscribe(new NametagIndex.Listener() {
+            @Override
+            public void onNametagChanged(ArmorStandEntity stand, String name) {
+                // Name changes (health updates) keep the same mob
+            }
+
+            @Override
+            public void onNametagRemoved(ArmorStandEntity stand) {
+                links.remove(stand.getId());
+            }
+
+            @Override
+            public void onNametagsCleared() {
+                links.clear();
+            }
+        });
+    }
+
+    /**
+     * Mob below a name tag, relinking only if the cached link broke
+     * @return the linked mob, or null if none is in tolerance
+     */
+    public static LivingEntity resolve(ArmorStandEntity stand) {
+        return resolve(stand, null);
+    }
+
+    /**
+     * Mob below a name tag, preferring a specific type when a new link is made
+     * (e.g. Spikes are pufferfish, so a passing squid should not win)
+     * @return the linked mob, or null if none is in tolerance
+     */
+    public static LivingEntity resolve(ArmorStandEntity stand, Class<? extends LivingEntity> preferredType) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (stand == null || stand.isRemoved() || client.world == null) {
+            return null;
+        }
+
+        int standId = stand.getId();
+        int mobId = links.get(standId);
+        if (mobId != NO_LINK) {
+            Entity linked = client.world.getEntityById(mobId);
+            if (linked instanceof LivingEntity mob && isLinkValid(stand, mob)) {
+                return mob;
+            }
+            links.remove(standId);
+        }
+
+        LivingEntity mob = findBelow(stand, preferredType);
+        if (mob != null) {
+            links.put(standId, mob.getId());
+        }
+        return mob;
+    }
+
+    /**
+     * Forget the link for a stand (e.g. the feature decided it was wrong)
+     */
+    public static void unlink(ArmorStandEntity stand) {
+        if (stand != null) {
+            links.remove(stand.getId());
+        }
+    }
+
+    /**
+     * Whether a mob offset (mob - stand) is inside the link tolerance
+     */
+    public static boolean isWithinLinkTolerance(double dx, double dy, double dz) {
+        return dx * dx + dz * dz <= HORIZONTAL_TOLERANCE * HORIZONTAL_TOLERANCE
+            && dy >= -BELOW_TOLERANCE && dy <= ABOVE_TOLERANCE;
+    }
+
+    /**
+     * Number of live links (debug)
+     */
+    public static int size() {
+        return links.size();
+    }
+
+    // ===== Internals =====
+
+    private static boolean isLinkValid(ArmorStandEntity stand, LivingEntity mob) {
+        if (mob.isRemoved() || !mob.isAlive()) {
+            return false;
+        }
+
+        return isWithinLinkTolerance(mob.getX() - stand.getX(), mob.getY() - stand.getY(), mob.getZ() - stand.getZ());
+    }
+
+    /**
+     * Closest valid mob under the stand, preferred type first
+     */
+    private static LivingEntity findBelow(ArmorStandEntity stand, Class<? extends LivingEntity> preferredType) {
+        double x = stand.getX();
+        double y = stand.getY();
+        double z = stand.getZ();
+
+        candidates.clear();
+        EntitySnapshot.getLivingMobGrid().queryBox(
+            x - HORIZONTAL_TOLERANCE, y - BELOW_TOLERANCE, z - HORIZONTAL_TOLERANCE,
+            x + HORIZONTAL_TOLERANCE, y + ABOVE_TOLERANCE, z + HORIZONTAL_TOLERANCE,
+            candidates
+        );
+
+        LivingEntity best = null;
+        LivingEntity bestPreferred = null;
+        double bestDistanceSq = Double.MAX_VALUE;
+        double bestPreferredDistanceSq = Double.MAX_VALUE;
+
+        for (int i = 0; i < candidates.size(); i++) {
+            LivingEntity mob = candidates.get(i);
+            if (!isLinkValid(stand, mob)) {
+                continue;
+            }
+
+            double distanceSq = mob.squaredDistanceTo(stand);
+            if (distanceSq < bestDistanceSq) {
+                best = mob;
+                bestDistanceSq = distanceSq;
+            }
+            if (preferredType != null && preferredType.isInstance(mob) && distanceSq < bestPreferredDistanceSq) {
+                bestPreferred = mob;
+                bestPreferredDistanceSq = distanceSq;
+            }
+        }
+
+        candidates.clear();
+        return bestPreferred != null ? bestPreferred : best;
+    }
+}
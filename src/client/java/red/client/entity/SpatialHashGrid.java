@@ -0,0 +1,382 @@
+package red.client.entity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Spatial Hash Grid - Buckets positioned items by chunk section (16x16x16 cells)
+ *
+ * Rebuilt once per tick by EntitySnapshot, then answers radius, box and
+ * nearest-k queries by visiting only the cells that overlap the query volume.
+ * Query cost scales with the number of items nearby, not the world total.
+ *
+ * Storage is fully primitive (open-addressed cell table + chained entry arrays),
+ * so rebuilding and querying do not allocate once the arrays have grown.
+ * Distances are compared squared - no sqrt on the hot path.
+ *
+ * Not thread-safe: build and query from the client thread.
+ */
+public class SpatialHashGrid<T> {
+    private static final int CELL_SHIFT = 4; // 16 block cells, same as chunk sections
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final int INITIAL_ENTRIES = 64;
+    private static final int INITIAL_CELLS = 64; // power of two
+
+    // Entry storage (parallel arrays, chained per cell through next[])
+    private double[] xs = new double[INITIAL_ENTRIES];
+    private double[] ys = new double[INITIAL_ENTRIES];
+    private double[] zs = new double[INITIAL_ENTRIES];
+    private Object[] items = new Object[INITIAL_ENTRIES];
+    private int[] next = new int[INITIAL_ENTRIES];
+    private int size = 0;
+
+    // Cell table (open addressing, linear probing)
+    private long[] cellKeys = newKeyTable(INITIAL_CELLS);
+    private int[] cellHeads = new int[INITIAL_CELLS];
+    private int cellCount = 0;
+
+    // Scratch buffers for nearest-k queries
+    private double[] bestDist = new double[8];
+    private Object[] bestItem = new Object[8];
+
+    /**
+     * Remove all items, keeping the backing arrays for the next rebuild
+     */
+    public void clear() {
+        if (cellCount > 0) {
+            Arrays.fill(cellKeys, EMPTY_KEY);
+            cellCount = 0;
+        }
+        Arrays.fill(items, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Insert an item at the given position
+     */
+    public void add(T item, double x, double y, double z) {
+        if (size == items.length) {
+            growEntries();
+        }
+        if ((cellCount + 1) * 2 > cellKeys.length) {
+            growCells();
+        }
+
+        int index = size++;
+        xs[index] = x;
+        ys[index] = y;
+        zs[index] = z;
+        items[index] = item;
+
+        long key = cellKey(cell(x), cell(y), cell(z));
+        int slot = findSlot(cellKeys, key);
+        if (cellKeys[slot] == EMPTY_KEY) {
+            cellKeys[slot] = key;
+            cellHeads[slot] = -1;
+            cellCount++;
+        }
+        next[index] = cellHeads[slot];
+        cellHeads[slot] = index;
+    }
+
+    /**
+     * Number of items currently indexed
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Append every item within radius of (x, y, z) to out
+     * @return number of items appended
+     */
+    public int queryRadius(double x, double y, double z, double radius, List<? super T> out) {
+        return queryRadius(x, y, z, radius, null, out);
+    }
+
+    /**
+     * Append every item within radius of (x, y, z) that passes the filter to out
+     * @return number of items appended
+     */
+    @SuppressWarnings("unchecked")
+    public int queryRadius(double x, double y, double z, double radius, Predicate<? super T> filter, List<? super T> out) {
+        if (size == 0) {
+            return 0;
+        }
+
+        double radiusSq = radius * radius;
+        int found = 0;
+
+        if (shouldScanLinearly(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius)) {
+            for (int i = 0; i < size; i++) {
+                if (distanceSq(i, x, y, z) <= radiusSq && accept(i, filter)) {
+                    out.add((T) items[i]);
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        int minCx = cell(x - radius), maxCx = cell(x + radius);
+        int minCy = cell(y - radius), maxCy = cell(y + radius);
+        int minCz = cell(z - radius), maxCz = cell(z + radius);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cy = minCy; cy <= maxCy; cy++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    for (int i = head(cx, cy, cz); i != -1; i = next[i]) {
+                        if (distanceSq(i, x, y, z) <= radiusSq && accept(i, filter)) {
+                            out.add((T) items[i]);
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Append every item inside the axis-aligned box to out
+     * @return number of items appended
+     */
+    public int queryBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ, List<? super T> out) {
+        return queryBox(minX, minY, minZ, maxX, maxY, maxZ, null, out);
+    }
+
+    /**
+     * Append every item inside the axis-aligned box that passes the filter to out
+     * @return number of items appended
+     */
+    @SuppressWarnings("unchecked")
+    public int queryBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                        Predicate<? super T> filter, List<? super T> out) {
+        if (size == 0) {
+            return 0;
+        }
+
+        int found = 0;
+
+        if (shouldScanLinearly(minX, minY, minZ, maxX, maxY, maxZ)) {
+            for (int i = 0; i < size; i++) {
+                if (inBox(i, minX, minY, minZ, maxX, maxY, maxZ) && accept(i, filter)) {
+                    out.add((T) items[i]);
+                    found++;
+                }
+            }
+            return found;
+        }
+
+        for (int cx = cell(minX); cx <= cell(maxX); cx++) {
+            for (int cy = cell(minY); cy <= cell(maxY); cy++) {
+                for (int cz = cell(minZ); cz <= cell(maxZ); cz++) {
+                    for (int i = head(cx, cy, cz); i != -1; i = next[i]) {
+                        if (inBox(i, minX, minY, minZ, maxX, maxY, maxZ) && accept(i, filter)) {
+                            out.add((T) items[i]);
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Nearest item within radius that passes the filter
+     * @return the closest item, or null if none qualifies
+     */
+    @SuppressWarnings("unchecked")
+    public T nearest(double x, double y, double z, double radius, Predicate<? super T> filter) {
+        if (size == 0) {
+            return null;
+        }
+
+        double bestSq = radius * radius;
+        int best = -1;
+
+        if (shouldScanLinearly(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius)) {
+            for (int i = 0; i < size; i++) {
+                double d = distanceSq(i, x, y, z);
+                if (d <= bestSq && accept(i, filter)) {
+                    bestSq = d;
+                    best = i;
+                }
+            }
+            return best == -1 ? null : (T) items[best];
+        }
+
+        int minCx = cell(x - radius), maxCx = cell(x + radius);
+        int minCy = cell(y - radius), maxCy = cell(y + radius);
+        int minCz = cell(z - radius), maxCz = cell(z + radius);
+
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cy = minCy; cy <= maxCy; cy++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    for (int i = head(cx, cy, cz); i != -1; i = next[i]) {
+                        double d = distanceSq(i, x, y, z);
+                        if (d <= bestSq && accept(i, filter)) {
+                            bestSq = d;
+                            best = i;
+                        }
+                    }
+                }
+            }
+        }
+        return best == -1 ? null : (T) items[best];
+    }
+
+    /**
+     * Append up to k nearest items within radius that pass the filter, closest first
+     * @return number of items appended
+     */
+    @SuppressWarnings("unchecked")
+    public int nearestK(double x, double y, double z, double radius, int k, Predicate<? super T> filter, List<? super T> out) {
+        if (size == 0 || k <= 0) {
+            return 0;
+        }
+        if (bestDist.length < k) {
+            bestDist = new double[k];
+            bestItem = new Object[k];
+        }
+
+        double radiusSq = radius * radius;
+        int count = 0;
+
+        int minCx = cell(x - radius), maxCx = cell(x + radius);
+        int minCy = cell(y - radius), maxCy = cell(y + radius);
+        int minCz = cell(z - radius), maxCz = cell(z + radius);
+        boolean linear = shouldScanLinearly(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius);
+
+        if (linear) {
+            for (int i = 0; i < size; i++) {
+                count = offerNearest(i, x, y, z, radiusSq, k, count, filter);
+            }
+        } else {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cy = minCy; cy <= maxCy; cy++) {
+                    for (int cz = minCz; cz <= maxCz; cz++) {
+                        for (int i = head(cx, cy, cz); i != -1; i = next[i]) {
+                            count = offerNearest(i, x, y, z, radiusSq, k, count, filter);
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            out.add((T) bestItem[i]);
+            bestItem[i] = null;
+        }
+        return count;
+    }
+
+    // ===== Internals =====
+
+    /**
+     * Insertion into the sorted scratch buffer - k is small, so this beats a heap
+     */
+    private int offerNearest(int index, double x, double y, double z, double radiusSq, int k, int count, Predicate<? super T> filter) {
+        double d = distanceSq(index, x, y, z);
+        if (d > radiusSq || (count == k && d >= bestDist[count - 1]) || !accept(index, filter)) {
+            return count;
+        }
+
+        int pos = count < k ? count++ : k - 1;
+        while (pos > 0 && bestDist[pos - 1] > d) {
+            bestDist[pos] = bestDist[pos - 1];
+            bestItem[pos] = bestItem[pos - 1];
+            pos--;
+        }
+        bestDist[pos] = d;
+        bestItem[pos] = items[index];
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean accept(int index, Predicate<? super T> filter) {
+        return filter == null || filter.test((T) items[index]);
+    }
+
+    private double distanceSq(int index, double x, double y, double z) {
+        double dx = xs[index] - x;
+        double dy = ys[index] - y;
+        double dz = zs[index] - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private boolean inBox(int index, double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        double x = xs[index], y = ys[index], z = zs[index];
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Huge query volumes over sparse grids touch more empty cells than entries - scan the entries instead
+     */
+    private boolean shouldScanLinearly(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        long cells = (long) (cell(maxX) - cell(minX) + 1)
+                * (cell(maxY) - cell(minY) + 1)
+                * (cell(maxZ) - cell(minZ) + 1);
+        return cells > size;
+    }
+
+    private int head(int cx, int cy, int cz) {
+        int slot = findSlot(cellKeys, cellKey(cx, cy, cz));
+        return cellKeys[slot] == EMPTY_KEY ? -1 : cellHeads[slot];
+    }
+
+    private static int cell(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> CELL_SHIFT;
+    }
+
+    /**
+     * Pack section coordinates the same way ChunkSectionPos.asLong does
+     */
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((cx & 0x3FFFFFL) << 42) | (cy & 0xFFFFFL) | ((cz & 0x3FFFFFL) << 20);
+    }
+
+    private static int findSlot(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long[] newKeyTable(int capacity) {
+        long[] keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        return keys;
+    }
+
+    private void growEntries() {
+        int capacity = items.length * 2;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        zs = Arrays.copyOf(zs, capacity);
+        items = Arrays.copyOf(items, capacity);
+        next = Arrays.copyOf(next, capacity);
+    }
+
+    private void growCells() {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+        cellKeys = newKeyTable(oldKeys.length * 2);
+        cellHeads = new int[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = findSlot(cellKeys, oldKeys[i]);
+                cellKeys[slot] = oldKeys[i];
+                cellHeads[slot] = oldHeads[i];
+            }
+        }
+    }
+}
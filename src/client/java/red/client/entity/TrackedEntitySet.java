@@ -0,0 +1,72 @@
+package red.client.entity;
+
+import net.minecraft.entity.Entity;
+
+/**
+ * Tracked Entity Set - Double-buffered entity id set for render-time lookups
+ *
+ * The tick side fills the back buffer (begin / add / publish), publish swaps it
+ * to the front with a volatile write. The render side only ever reads the front
+ * buffer, which stays unchanged until the next publish - no copies, no locks,
+ * and a stable answer for the whole frame.
+ *
+ * Performance: O(1) contains() per rendered entity
+ */
+public final class TrackedEntitySet {
+    private volatile EntityIdSet front = new EntityIdSet();
+    private EntityIdSet back = new EntityIdSet();
+
+    /**
+     * Start a new tick's contents (tick side)
+     */
+    public void begin() {
+        back.clear();
+    }
+
+    /**
+     * Add an entity to the pending contents (tick side)
+     */
+    public void add(Entity entity) {
+        if (entity != null) {
+            back.add(entity.getId());
+        }
+    }
+
+    /**
+     * Make the pending contents visible to readers (tick side)
+     */
+    public void publish() {
+        EntityIdSet published = back;
+        back = front;
+        front = published;
+    }
+
+    /**
+     * Publish an empty set (tick side)
+     */
+    public void publishEmpty() {
+        if (front.isEmpty()) {
+            return;
+        }
+        begin();
+        publish();
+    }
+
+    /**
+     * Whether the entity is in the published set (render side)
+     */
+    public boolean contains(Entity entity) {
+        return entity != null && front.contains(entity.getId());
+    }
+
+    /**
+     * Number of entities in the published set
+     */
+    public int size() {
+        return front.size();
+    }
+
+    public boolean isEmpty() {
+        return front.isEmpty();
+    }
+}
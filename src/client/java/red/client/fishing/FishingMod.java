@@ -2,23 +2,32 @@ package red.client.fishing;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
-import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
-import net.fabricmc.fabric.api.client.message.v1.ClientReceiveMessageEvents;
+import net.minecraft.client.MinecraftClient;
+import red.client.chat.ChatEventBus;
+import red.client.config.ConfigPersistence;
+import red.client.config.ConfigStore;
+import red.client.entity.EntitySnapshot;
+import red.client.entity.NametagIndex;
+import red.client.entity.NametagLinker;
 import red.client.fishing.command.FishCommand;
 import red.client.fishing.command.HighlightCommand;
 import red.client.fishing.command.RedCommand;
-import red.client.fishing.config.FishConfig;
-import red.client.fishing.config.MobHighlightConfig;
-import red.client.fishing.config.SpikeHelperConfig;
 import red.client.fishing.config.CinderbatHighlightConfig;
+import red.client.fishing.config.MobHighlightConfig;
 import red.client.fishing.feature.AutoFishingFeature;
+import red.client.fishing.feature.BezalFarmer;
 import red.client.fishing.feature.CinderbatHighlight;
 import red.client.fishing.feature.MobHighlight;
+import red.client.fishing.feature.SeaCreatureKiller;
 import red.client.fishing.feature.SpikeHelper;
+import red.client.fishing.feature.XYZMacro;
 import red.client.fishing.keybind.FishKeybindings;
+import red.client.fishing.util.BiteDetector;
 import red.client.gui.GuiCommand;
-import red.client.scheduler.MacroSchedulerConfig;
-import red.client.scheduler.MacroScheduler;
+import red.client.render.OutlineColorRegistry;
+import red.client.target.TargetSelectionWorker;
+import red.client.tick.TickScheduler;
+import red.client.tick.TimerWheel;
 
 public class FishingMod implements ClientModInitializer {
 
@@ -31,14 +40,11 @@ public class FishingMod implements ClientModInitializer {
         }
 
         try {
-            // Load config
-            FishConfig.load();
-            MacroSchedulerConfig.load();
-            SpikeHelperConfig.load();
-            MobHighlightConfig.load();
-            CinderbatHighlightConfig.load();
-            red.client.fishing.config.BezalFarmerConfig.load();
-            red.client.fishing.config.XYZConfig.load();
+            // Load config (one read of redclient.json, sections decode on first use)
+            ConfigStore.load();
+
+            // Config saves are written behind on a worker thread, flushed when the client stops
+            ConfigPersistence.register();
 
             // Initialize keybindings
             FishKeybindings.register();
@@ -51,36 +57,27 @@ public class FishingMod implements ClientModInitializer {
                 GuiCommand.register(dispatcher, registryAccess);
             });
 
-            // Register tick event for auto fishing, sea creature killer, spike helper, mob highlight, bezal farmer, XYZ macro, and scheduler
-            ClientTickEvents.END_CLIENT_TICK.register(client -> {
-                if (client.player != null && client.world != null) {
-                    AutoFishingFeature.tick();
-                    red.client.fishing.feature.SeaCreatureKiller.tick();
-                    SpikeHelper.tick();
-                    MobHighlight.tick();
-                    CinderbatHighlight.tick();
-                    red.client.fishing.feature.BezalFarmer.tick();
-                    red.client.fishing.feature.XYZMacro.tick();
-                    MacroScheduler.tick();
-                }
-            });
+            // Shared entity snapshot - marked stale at tick start, rebuilt once before the features run
+            EntitySnapshot.register();
+
+            // Event-driven name tag index - features react to name tag changes instead of rescanning
+            NametagIndex.register();
+            NametagLinker.register();
+            BiteDetector.register();
+            SpikeHelper.register();
+            MobHighlight.register();
+
+            // Feature ticks - cadence, order and enablement are declared once, the scheduler runs them
+            registerTickTasks();
             
-            // Register chat event for XYZ Macro
-            ClientReceiveMessageEvents.GAME.register((message, overlay) -> {
-                String text = message.getString();
-                red.client.fishing.feature.XYZMacro.onChat(text);
-            });
+            // Typed chat events - messages are only parsed while a subscriber is active
+            ChatEventBus.register();
+            XYZMacro.register();
 
             // Add shutdown hook
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 System.out.println("[AutoFish] Shutting down, saving config...");
-                FishConfig.save();
-                MacroSchedulerConfig.save();
-                SpikeHelperConfig.save();
-                MobHighlightConfig.save();
-                CinderbatHighlightConfig.save();
-                red.client.fishing.config.BezalFarmerConfig.save();
-                red.client.fishing.config.XYZConfig.save();
+                ConfigPersistence.flush();
             }));
 
             initialized = true;
@@ -91,4 +88,62 @@ public class FishingMod implements ClientModInitializer {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Schedule the fishing features, in run order (each is timed under its own /red perf section)
+     * Highlights only need to look every few ticks and are staggered; delays and cooldowns are TimerWheel timers
+     */
+    private static void registerTickTasks() {
+        TickScheduler.task("Timers", TimerWheel::advance)
+            .phase(TickScheduler.Phase.START) // Due delays and cooldowns end before the features tick
+            .enabledWhen(TimerWheel::hasPending)
+            .register();
+        TickScheduler.task("EntitySnapshot", () -> EntitySnapshot.update(MinecraftClient.getInstance()))
+            .register();
+        TickScheduler.task("TargetCapture", TargetSelectionWorker::capture) // Selection itself runs off-thread
+            .enabledWhen(() -> SeaCreatureKiller.isEnabled() || BezalFarmer.isEnabled() || XYZMacro.isEnabled())
+            .onDisable(TargetSelectionWorker::onCaptureStopped)
+            .register();
+        TickScheduler.task("AutoFishing", AutoFishingFeature::tick)
+            .enabledWhen(AutoFishingFeature::isEnabled)
+            .register();
+        TickScheduler.task("SeaCreatureKiller", SeaCreatureKiller::tick)
+            .enabledWhen(SeaCreatureKiller::isEnabled)
+            .register();
+        TickScheduler.task("SpikeHelper", SpikeHelper::tick)
+            .enabledWhen(SpikeHelper::isEnabled)
+            .onDisable(SpikeHelper::onDisabled)
+            .register();
+        TickScheduler.task("MobHighlight", MobHighlight::tick)
+            .every(2)
+            .enabledWhen(MobHighlightConfig::isEnabled)
+            .onDisable(MobHighlight::onDisabled)
+            .register();
+        TickScheduler.task("CinderbatHighlight", CinderbatHighlight::tick)
+            .every(2)
+            .enabledWhen(CinderbatHighlightConfig::isEnabled)
+            .onDisable(CinderbatHighlight::onDisabled)
+            .register();
+        TickScheduler.task("BezalFarmer", BezalFarmer::tick)
+            .enabledWhen(BezalFarmer::isEnabled)
+            .onDisable(BezalFarmer::onDisabled)
+            .register();
+        TickScheduler.task("XYZMacro", XYZMacro::tick)
+            .enabledWhen(XYZMacro::isEnabled)
+            .register();
+        TickScheduler.task("OutlineColors", FishingMod::publishOutlineColors)
+            .register();
+    }
+
+    /**
+     * Outline colors for this tick, read by EntityOutlineColorMixin (later features win)
+     */
+    private static void publishOutlineColors() {
+        OutlineColorRegistry.begin();
+        MobHighlight.contributeOutlineColors();
+        CinderbatHighlight.contributeOutlineColors();
+        BezalFarmer.contributeOutlineColors();
+        SpikeHelper.contributeOutlineColors();
+        OutlineColorRegistry.publish();
+    }
 }
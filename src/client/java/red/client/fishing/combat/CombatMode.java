@@ -1,7 +1,6 @@
 package red.client.fishing.combat;
 
 import net.minecraft.entity.Entity;
-import net.minecraft.item.ItemStack;
 
 /**
  * Base interface for Sea Creature Killer combat modes
@@ -77,18 +76,4 @@ public interface CombatMode {
         }
         return result.toString();
     }
-    
-    /**
-     * Check if an item is a fishing rod
-     */
-    default boolean isFishingRod(ItemStack stack) {
-        if (stack == null || stack.isEmpty()) return false;
-
-        String itemName = stack.getItem().toString().toLowerCase();
-        String displayName = stack.getName().getString().toLowerCase();
-
-        return itemName.contains("fishing_rod") ||
-               displayName.contains("fishing rod") ||
-               displayName.contains("rod");
-    }
 }
@@ -112,14 +112,4 @@ public class CombatModeManager {
     public String getCurrentModeName() {
         return currentMode != null ? currentMode.getModeName() : "None";
     }
-    
-    /**
-     * Tick melee mode rotation updates
-     */
-    public void tick() {
-        // Only melee mode needs tick updates for rotation
-        if (currentMode instanceof MeleeMode) {
-            ((MeleeMode) currentMode).getMeleeRotationManager().tick();
-        }
-    }
 }
@@ -2,29 +2,23 @@ package red.client.fishing.combat;
 
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
-import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.decoration.ArmorStandEntity;
-import net.minecraft.item.ItemStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import net.minecraft.util.math.Box;
-import net.minecraft.util.math.Vec3d;
-import red.client.fishing.util.RotationManager;
-import red.client.fishing.util.WeaponDetector;
-import red.client.fishing.feature.SeaCreatureKiller;
+import red.client.inventory.InventoryIndex;
+import red.client.rotation.RotationService;
+import red.client.tick.TimerWheel;
 
 import org.lwjgl.glfw.GLFW;
 import red.client.flarecombat.mixin.MouseMixin;
 
 import java.util.*;
-import java.util.Comparator;
 import java.util.Random;
 
 /**
  * Melee Combat Mode - Exact implementation based on FishMaster's MeleeMode
  * 
  * Uses armor stand detection to find actual sea creature entities
- * Implements smooth continuous rotation tracking via RotationManager
+ * Implements smooth continuous rotation tracking via RotationService
  * Enforces click rate limiting (~3 clicks per second)
  * Explicitly rejects RCM weapons (Hyperion, Fire Veil Wand)
  * 
@@ -33,24 +27,23 @@ import java.util.Random;
  * 2. Check click rate limiting (334ms minimum interval)
  * 3. Switch to melee weapon (priority: Figstone > Prime Axe > other)
  * 4. Find actual entity via armor stand detection
- * 5. Start continuous rotation tracking via RotationManager.trackTarget()
+ * 5. Start continuous rotation tracking via RotationService.lookAt()
  * 6. Simulate left click (click happens while tracking is active)
- * 7. RotationManager.tick() continues updating every frame in SeaCreatureKiller.tick()
+ * 7. RotationService keeps following the target on every rendered frame
  */
 public class MeleeMode implements CombatMode {
     
     private static final long MIN_ATTACK_INTERVAL = 334; // ~3 attacks per second
     private static final double ENTITY_SEARCH_RANGE = 15.0;
+    private static final int RCM_WEAPONS = InventoryIndex.HYPERION | InventoryIndex.FIRE_VEIL; // Never used for melee
     
-    private long lastAttackTime = 0;
+    private final TimerWheel.Timer attackCooldown = TimerWheel.timer("Melee attack cooldown");
     private int originalSlot = -1;
     private Entity actualTargetEntity = null;
     
-    private final RotationManager rotationManager;
+    private static final float ROTATION_SPEED = 0.3f; // Per-tick smoothing, like FishMaster
     
-    public MeleeMode() {
-        this.rotationManager = new RotationManager();
-    }
+    private final MeleeTargetResolver targetResolver = new MeleeTargetResolver(ENTITY_SEARCH_RANGE);
     
     @Override
     public boolean performAttack(Entity target) {
@@ -60,11 +53,6 @@ public class MeleeMode implements CombatMode {
         }
         
         // Check click rate limiting first
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastAttackTime < MIN_ATTACK_INTERVAL) {
-            return false;
-        }
-        
         if (!canAttack()) {
             return false;
         }
@@ -98,7 +86,7 @@ public class MeleeMode implements CombatMode {
         
         // Execute the attack immediately (rotation will update continuously via tick())
         simulateLeftClick(client);
-        lastAttackTime = currentTime;
+        attackCooldown.schedule(MIN_ATTACK_INTERVAL);
         
         return true;
     }
@@ -110,7 +98,7 @@ public class MeleeMode implements CombatMode {
     
     @Override
     public boolean canAttack() {
-        return System.currentTimeMillis() - lastAttackTime >= MIN_ATTACK_INTERVAL;
+        return !attackCooldown.isPending();
     }
     
     @Override
@@ -140,22 +128,18 @@ public class MeleeMode implements CombatMode {
         if (client.player == null) return;
         
         // Stop rotation tracking
-        rotationManager.stopTracking();
+        RotationService.release(this);
         actualTargetEntity = null;
         
         // Restore original slot
         if (originalSlot != -1) {
-            ItemStack originalItem = client.player.getInventory().getStack(originalSlot);
-            if (isFishingRod(originalItem)) {
+            if (InventoryIndex.is(originalSlot, InventoryIndex.ROD)) {
                 client.player.getInventory().setSelectedSlot(originalSlot);
             } else {
                 // Find any fishing rod
-                for (int i = 0; i < 9; i++) {
-                    ItemStack stack = client.player.getInventory().getStack(i);
-                    if (isFishingRod(stack)) {
-                        client.player.getInventory().setSelectedSlot(i);
-                        break;
-                    }
+                int rodSlot = InventoryIndex.findHotbar(InventoryIndex.ROD);
+                if (rodSlot != -1) {
+                    client.player.getInventory().setSelectedSlot(rodSlot);
                 }
             }
             originalSlot = -1;
@@ -168,33 +152,21 @@ public class MeleeMode implements CombatMode {
         if (client.player == null) return false;
         
         // Check hotbar for melee weapons
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (WeaponDetector.isMeleeWeapon(stack) && 
-                !WeaponDetector.isHyperion(stack) && 
-                !WeaponDetector.isFireVeilWand(stack)) {
-                return true;
-            }
-        }
-        
-        return false;
+        return InventoryIndex.findFirst(InventoryIndex.MELEE, RCM_WEAPONS, 0, InventoryIndex.HOTBAR_END) != -1;
     }
     
     /**
      * Update rotation to smoothly track the target entity
-     * Uses RotationManager.trackTarget() which continuously updates until stopTracking() is called
+     * RotationService follows the entity (center at mid-height) until this mode releases it
      * This method is based on FishMaster's RotationHandler usage
      */
     private void updateRotationTarget(Entity target) {
         if (target == null) {
-            rotationManager.stopTracking();
+            RotationService.release(this);
             return;
         }
         
-        Vec3d targetPos = target.getEntityPos().add(0.0, target.getHeight() * 0.5, 0.0);
-        
-        // Use smooth continuous tracking (0.3f = reasonable smoothing speed, like FishMaster)
-        rotationManager.trackTarget(targetPos, 0.3f);
+        RotationService.lookAt(this, target, target.getHeight() * 0.5, ROTATION_SPEED);
     }
     
     /**
@@ -206,44 +178,27 @@ public class MeleeMode implements CombatMode {
         MinecraftClient client = MinecraftClient.getInstance();
         if (client.player == null) return false;
         
-        ItemStack currentItem = client.player.getMainHandStack();
+        int selected = client.player.getInventory().getSelectedSlot();
         
         // If already holding a melee weapon (but NOT RCM weapons), keep it
-        if (WeaponDetector.isMeleeWeapon(currentItem) && 
-            !WeaponDetector.isHyperion(currentItem) && 
-            !WeaponDetector.isFireVeilWand(currentItem)) {
+        if (InventoryIndex.is(selected, InventoryIndex.MELEE) && !InventoryIndex.is(selected, RCM_WEAPONS)) {
             return true;
         }
         
-        // Priority 1: Find Figstone Splitter
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            String name = stack.getName().getString().toLowerCase();
-            if (name.contains("figstone splitter")) {
-                client.player.getInventory().setSelectedSlot(i);
-                return true;
-            }
+        // Priority 1: Figstone Splitter, Priority 2: Prime Axe
+        int slot = InventoryIndex.findHotbar(InventoryIndex.FIGSTONE_SPLITTER);
+        if (slot == -1) {
+            slot = InventoryIndex.findHotbar(InventoryIndex.PRIME_AXE);
         }
         
-        // Priority 2: Find Prime Axe
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            String name = stack.getName().getString().toLowerCase();
-            if (name.contains("prime axe")) {
-                client.player.getInventory().setSelectedSlot(i);
-                return true;
-            }
+        // Priority 3: Find any other melee weapon (but NOT RCM weapons)
+        if (slot == -1) {
+            slot = InventoryIndex.findFirst(InventoryIndex.MELEE, RCM_WEAPONS, 0, InventoryIndex.HOTBAR_END);
         }
         
-        // Priority 3: Find any other melee weapon (but NOT RCM weapons)
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (WeaponDetector.isMeleeWeapon(stack) && 
-                !WeaponDetector.isHyperion(stack) && 
-                !WeaponDetector.isFireVeilWand(stack)) {
-                client.player.getInventory().setSelectedSlot(i);
-                return true;
-            }
+        if (slot != -1) {
+            client.player.getInventory().setSelectedSlot(slot);
+            return true;
         }
         
         return false;
@@ -285,106 +240,10 @@ public class MeleeMode implements CombatMode {
     /**
      * Find actual sea creature entity using armor stand detection
      * This is the core of FishMaster's approach - matches armor stand names to find real entities
+     * Delegates to a single-pass resolver so melee costs the same as RCM
      */
     private Entity findActualSeaCreature(Entity initialTarget) {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.world == null || client.player == null) return null;
-        
-        List<Entity> possibleEntities = new ArrayList<>();
-        
-        // Search through all sea creature names
-        for (String creatureName : SeaCreatureKiller.getTargetCreatures()) {
-            // Find armor stands with matching creature names
-            Box searchBox = new Box(
-                client.player.getEntityPos().add(-ENTITY_SEARCH_RANGE, -ENTITY_SEARCH_RANGE, -ENTITY_SEARCH_RANGE),
-                client.player.getEntityPos().add(ENTITY_SEARCH_RANGE, ENTITY_SEARCH_RANGE, ENTITY_SEARCH_RANGE)
-            );
-            
-            List<ArmorStandEntity> matchingArmorStands = client.world.getEntitiesByClass(
-                ArmorStandEntity.class,
-                searchBox,
-                armorStand -> {
-                    if (armorStand.hasCustomName()) {
-                        String nameTag = armorStand.getCustomName().getString().toLowerCase();
-                        return nameTag.contains(creatureName.toLowerCase()) &&
-                               !nameTag.contains(client.player.getName().getString().toLowerCase()) &&
-                               !armorStand.isRemoved() &&
-                               getHealthFromArmorStandName(nameTag) > 0;
-                    }
-                    return false;
-                }
-            );
-            
-            // For each matching armor stand, find the actual entity it represents
-            for (ArmorStandEntity armorStand : matchingArmorStands) {
-                Entity actualEntity = getEntityBelowArmorStand(armorStand);
-                if (actualEntity != null && actualEntity instanceof LivingEntity &&
-                    !actualEntity.equals(client.player) && ((LivingEntity) actualEntity).isAlive()) {
-                    possibleEntities.add(actualEntity);
-                }
-            }
-        }
-        
-        if (possibleEntities.isEmpty()) {
-            return null;
-        }
-        
-        // Return the closest entity
-        return possibleEntities.stream()
-            .min(Comparator.comparingDouble(entity -> client.player.distanceTo(entity)))
-            .orElse(null);
-    }
-    
-    /**
-     * Get the actual entity that an armor stand represents
-     * FishMaster's approach: expand box around armor stand and find nearby living entities
-     */
-    private Entity getEntityBelowArmorStand(ArmorStandEntity armorStand) {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.world == null) return null;
-        
-        // Expand bounding box to find nearby entities
-        Box searchBox = armorStand.getBoundingBox().expand(0.3, 2.0, 0.3);
-        
-        List<Entity> nearbyEntities = client.world.getOtherEntities(armorStand, searchBox, entity -> {
-            boolean isAlive = !entity.isRemoved() && !entity.equals(client.player);
-            boolean isNotArmorStand = !(entity instanceof ArmorStandEntity);
-            boolean isLivingEntity = entity instanceof LivingEntity;
-            return isAlive && isNotArmorStand && isLivingEntity;
-        });
-        
-        if (nearbyEntities.isEmpty()) {
-            return null;
-        }
-        
-        // Return closest entity to the armor stand
-        return nearbyEntities.stream()
-            .min(Comparator.comparingDouble(entity -> armorStand.distanceTo(entity)))
-            .orElse(null);
-    }
-    
-    /**
-     * Extract health value from armor stand name
-     * Looks for patterns like "❤ 100/150" or "100/150"
-     */
-    private int getHealthFromArmorStandName(String name) {
-        int health = 0;
-        try {
-            // Look for patterns like "❤ 100/150" or "100/150" at the end of the name
-            String[] parts = name.split(" ");
-            for (String part : parts) {
-                if (part.contains("/") && part.matches(".*\\d+/\\d+.*")) {
-                    String healthPart = part.replaceAll("[^0-9/]", "");
-                    String[] healthNumbers = healthPart.split("/");
-                    if (healthNumbers.length >= 2) {
-                        health = Integer.parseInt(healthNumbers[0].replace(",", ""));
-                        break;
-                    }
-                }
-            }
-        } catch (Exception ignored) {
-        }
-        return health;
+        return targetResolver.resolveNearest();
     }
     
     /**
@@ -393,21 +252,5 @@ public class MeleeMode implements CombatMode {
     public Entity getActualTarget() {
         return actualTargetEntity;
     }
-    
-    /**
-     * Get rotation manager (for tick updates)
-     */
-    public RotationManager getMeleeRotationManager() {
-        return rotationManager;
-    }
-    
-    /**
-     * Check if item is a fishing rod
-     */
-    public boolean isFishingRod(ItemStack stack) {
-        if (stack == null || stack.isEmpty()) return false;
-        String name = stack.getName().getString().toLowerCase();
-        return name.contains("rod") || name.contains("fishing");
-    }
 }
 
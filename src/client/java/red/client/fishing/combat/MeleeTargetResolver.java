@@ -0,0 +1,98 @@
+package red.client.fishing.combat;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import red.client.entity.EntitySnapshot;
+import red.client.entity.NametagCache;
+import red.client.entity.NametagLinker;
+import red.client.fishing.util.SeaCreatureCatalog;
+import red.client.target.TargetScorers;
+import red.client.target.TargetSelector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Melee Target Resolver - Finds the real sea creature entity behind the name tags
+ * 
+ * One box query over the named armor stand grid, each stand classified once
+ * through the cached name tag (catalogue id, health, player-name flag), then
+ * linked to its mob through NametagLinker. The linked mobs go through a
+ * TargetSelector: nearest wins, and a creature behind a wall counts as
+ * LINE_OF_SIGHT_PENALTY blocks (squared) farther away than it is.
+ * 
+ * Performance: One spatial query per call instead of one world query per catalogue name
+ */
+public class MeleeTargetResolver {
+    private static final double LINE_OF_SIGHT_PENALTY = 16.0; // Squared blocks, prefer a visible creature up to 4 blocks farther
+    
+    private final double searchRange;
+    private final List<ArmorStandEntity> nearbyStands = new ArrayList<>(); // Reused query buffer
+    private final List<LivingEntity> creatures = new ArrayList<>();        // Linked mobs, selector candidates
+    private final TargetSelector<List<? extends Entity>> selector;
+    
+    public MeleeTargetResolver(double searchRange) {
+        this.searchRange = searchRange;
+        this.selector = new TargetSelector<List<? extends Entity>>(1)
+            .score(TargetScorers.DISTANCE)
+            .score(TargetScorers.lineOfSight(LINE_OF_SIGHT_PENALTY));
+    }
+    
+    /**
+     * Nearest living sea creature within the search range
+     * @return the creature entity, or null if none is linked
+     */
+    public LivingEntity resolveNearest() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.world == null || client.player == null) {
+            return null;
+        }
+        
+        double px = client.player.getX();
+        double py = client.player.getY();
+        double pz = client.player.getZ();
+        
+        nearbyStands.clear();
+        EntitySnapshot.getNamedArmorStandGrid().queryBox(
+            px - searchRange, py - searchRange, pz - searchRange,
+            px + searchRange, py + searchRange, pz + searchRange,
+            nearbyStands
+        );
+        
+        creatures.clear();
+        for (int i = 0; i < nearbyStands.size(); i++) {
+            ArmorStandEntity armorStand = nearbyStands.get(i);
+            if (armorStand.isRemoved()) {
+                continue;
+            }
+            
+            // Classified once per name update by the cache
+            NametagCache.Entry nametag = NametagCache.get(armorStand);
+            if (nametag == null
+                || nametag.creatureId == SeaCreatureCatalog.NONE
+                || nametag.has(NametagCache.FLAG_PLAYER_NAME)
+                || nametag.currentHp <= 0) {
+                continue;
+            }
+            
+            LivingEntity creature = NametagLinker.resolve(armorStand);
+            if (creature == null || creature == client.player || !creature.isAlive()) {
+                continue;
+            }
+            
+            creatures.add(creature);
+        }
+        nearbyStands.clear();
+        
+        selector.begin(creatures);
+        for (int i = 0; i < creatures.size(); i++) {
+            selector.offer(i, creatures.get(i).getId());
+        }
+        LivingEntity nearest = selector.finish() > 0 ? creatures.get(selector.get(0)) : null;
+        
+        creatures.clear();
+        return nearest;
+    }
+}
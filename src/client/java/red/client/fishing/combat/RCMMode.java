@@ -2,12 +2,14 @@ package red.client.fishing.combat;
 
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
-import net.minecraft.item.ItemStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import red.client.fishing.config.FishConfig;
 import red.client.fishing.util.FishMouseSimulator;
 import red.client.fishing.util.WeaponDetector;
+import red.client.inventory.InventoryIndex;
+import red.client.rotation.RotationService;
+import red.client.tick.TimerWheel;
 
 /**
  * RCM (Right Click Mage) Mode
@@ -15,25 +17,16 @@ import red.client.fishing.util.WeaponDetector;
  * Attacks by right-clicking (uses mage weapon abilities)
  * 
  * For Hyperion: Optionally looks down at player's feet to trigger ground explosion
+ * (snapped through RotationService and restored in the same tick; skipped while
+ * another feature owns the camera)
  * For Fire Veil Wand: Uses normal orientation
  */
 public class RCMMode implements CombatMode {
     
     private static final long ATTACK_COOLDOWN = 350; // ~2.8 attacks per second
-    private long lastAttackTime = 0;
+    private final TimerWheel.Timer attackCooldown = TimerWheel.timer("RCM attack cooldown");
     private int originalSlot = -1;
     
-    // Rotation storage for Hyperion attacks
-    private static class SavedRotation {
-        float yaw;
-        float pitch;
-        
-        SavedRotation(float yaw, float pitch) {
-            this.yaw = yaw;
-            this.pitch = pitch;
-        }
-    }
-    
     @Override
     public boolean performAttack(Entity target) {
         MinecraftClient client = MinecraftClient.getInstance();
@@ -57,29 +50,24 @@ public class RCMMode implements CombatMode {
             return false;
         }
         
-        ItemStack currentWeapon = client.player.getMainHandStack();
-        boolean isHyperion = WeaponDetector.isHyperion(currentWeapon);
-        
-        // Save original rotation
-        SavedRotation originalRotation = new SavedRotation(
-            client.player.getYaw(),
-            client.player.getPitch()
-        );
+        boolean lookDown = InventoryIndex.isSelected(InventoryIndex.HYPERION) && FishConfig.isHyperionLookDownEnabled();
+        float originalYaw = client.player.getYaw();
+        float originalPitch = client.player.getPitch();
         
         // For Hyperion: Optionally look straight down at player's feet to trigger ground explosion
         // This is configurable via /fish hypedown true/false
-        if (isHyperion && FishConfig.isHyperionLookDownEnabled()) {
-            client.player.setPitch(90.0f); // 90° = straight down
+        if (lookDown && !RotationService.snapTo(this, originalYaw, 90.0f)) { // 90° = straight down
+            return false; // Another feature is aiming, try again next tick
         }
         
         // Perform right-click attack
         FishMouseSimulator.simulateRightClick(client);
-        lastAttackTime = System.currentTimeMillis();
+        attackCooldown.schedule(ATTACK_COOLDOWN);
         
-        // Restore original rotation instantly (only if we changed it)
-        if (isHyperion && FishConfig.isHyperionLookDownEnabled()) {
-            client.player.setYaw(originalRotation.yaw);
-            client.player.setPitch(originalRotation.pitch);
+        // Restore original rotation instantly (only if we changed it) and free the camera
+        if (lookDown) {
+            RotationService.snapTo(this, originalYaw, originalPitch);
+            RotationService.release(this);
         }
         
         return true;
@@ -91,10 +79,9 @@ public class RCMMode implements CombatMode {
         if (client.player == null) return "RCM";
         
         // Show which weapon is being used
-        ItemStack mainHand = client.player.getMainHandStack();
-        if (WeaponDetector.isHyperion(mainHand)) {
+        if (InventoryIndex.isSelected(InventoryIndex.HYPERION)) {
             return "RCM (Hyperion)";
-        } else if (WeaponDetector.isFireVeilWand(mainHand)) {
+        } else if (InventoryIndex.isSelected(InventoryIndex.FIRE_VEIL)) {
             return "RCM (Fire Veil Wand)";
         }
         
@@ -103,7 +90,7 @@ public class RCMMode implements CombatMode {
     
     @Override
     public boolean canAttack() {
-        return System.currentTimeMillis() - lastAttackTime >= ATTACK_COOLDOWN;
+        return !attackCooldown.isPending();
     }
     
     @Override
@@ -125,17 +112,13 @@ public class RCMMode implements CombatMode {
         
         // Restore original slot if it had a fishing rod
         if (originalSlot != -1) {
-            ItemStack originalItem = client.player.getInventory().getStack(originalSlot);
-            if (isFishingRod(originalItem)) {
+            if (InventoryIndex.is(originalSlot, InventoryIndex.ROD)) {
                 client.player.getInventory().setSelectedSlot(originalSlot);
             } else {
                 // Find any fishing rod
-                for (int i = 0; i < 9; i++) {
-                    ItemStack stack = client.player.getInventory().getStack(i);
-                    if (isFishingRod(stack)) {
-                        client.player.getInventory().setSelectedSlot(i);
-                        break;
-                    }
+                int rodSlot = InventoryIndex.findHotbar(InventoryIndex.ROD);
+                if (rodSlot != -1) {
+                    client.player.getInventory().setSelectedSlot(rodSlot);
                 }
             }
             originalSlot = -1;
@@ -148,14 +131,7 @@ public class RCMMode implements CombatMode {
         if (client.player == null) return false;
         
         // Check hotbar for Hyperion or Fire Veil Wand
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (WeaponDetector.isHyperion(stack) || WeaponDetector.isFireVeilWand(stack)) {
-                return true;
-            }
-        }
-        
-        return false;
+        return InventoryIndex.findHotbar(InventoryIndex.HYPERION | InventoryIndex.FIRE_VEIL) != -1;
     }
     
     /**
@@ -166,29 +142,16 @@ public class RCMMode implements CombatMode {
         MinecraftClient client = MinecraftClient.getInstance();
         if (client.player == null) return false;
         
-        ItemStack currentItem = client.player.getMainHandStack();
-        
         // Already holding correct weapon
-        if (WeaponDetector.isHyperion(currentItem) || WeaponDetector.isFireVeilWand(currentItem)) {
+        if (InventoryIndex.isSelected(InventoryIndex.HYPERION | InventoryIndex.FIRE_VEIL)) {
             return true;
         }
         
-        // Priority 1: Find Hyperion
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (WeaponDetector.isHyperion(stack)) {
-                client.player.getInventory().setSelectedSlot(i);
-                return true;
-            }
-        }
-        
-        // Priority 2: Find Fire Veil Wand
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (WeaponDetector.isFireVeilWand(stack)) {
-                client.player.getInventory().setSelectedSlot(i);
-                return true;
-            }
+        // Priority 1: Hyperion, Priority 2: Fire Veil Wand
+        int slot = WeaponDetector.findBestRCMWeaponSlot(client);
+        if (slot != -1) {
+            client.player.getInventory().setSelectedSlot(slot);
+            return true;
         }
         
         return false;
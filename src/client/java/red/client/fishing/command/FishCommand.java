@@ -16,6 +16,8 @@ import red.client.fishing.feature.AutoFishingFeature;
 import red.client.fishing.feature.CinderbatHighlight;
 import red.client.fishing.feature.SeaCreatureKiller;
 import red.client.fishing.keybind.FishKeybindings;
+import red.client.fishing.util.BiteDetector;
+import red.client.fishing.util.ReelLatency;
 
 public class FishCommand {
 
@@ -55,6 +57,10 @@ public class FishCommand {
                 .then(ClientCommandManager.literal("reelingdelay")
                         .then(ClientCommandManager.argument("ticks", IntegerArgumentType.integer(0, 15))
                                 .executes(FishCommand::setReelingDelay)))
+                .then(ClientCommandManager.literal("latency")
+                        .then(ClientCommandManager.literal("reset")
+                                .executes(FishCommand::resetLatency))
+                        .executes(FishCommand::showLatency))
                 .executes(FishCommand::showStatus));
     }
 
@@ -158,6 +164,36 @@ public class FishCommand {
         return 1;
     }
 
+    private static int showLatency(CommandContext<FabricClientCommandSource> context) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null) {
+            return 0;
+        }
+
+        ReelLatency.Stats stats = ReelLatency.stats();
+        if (stats == null) {
+            sendMessage("No catches recorded yet", Formatting.YELLOW);
+            return 1;
+        }
+
+        int configured = FishConfig.getReelingDelay();
+        sendMessage("=== Bite -> Reel (last " + stats.catches() + " catches) ===", Formatting.AQUA);
+        sendMessage("Configured delay: " + configured + " ticks (" + (configured * 50) + "ms, ±15% randomized)", Formatting.YELLOW);
+        sendMessage("Mean: " + stats.meanActual() + "ms actual / " + stats.meanTarget() + "ms target", Formatting.YELLOW);
+        sendMessage("Late by: p50 " + stats.p50Error() + "ms, p99 " + stats.p99Error() + "ms (range "
+                + stats.minError() + " to " + stats.maxError() + "ms)",
+                stats.p99Error() <= 50 ? Formatting.GREEN : Formatting.RED);
+        sendMessage("Ignored markers (other bobbers): " + BiteDetector.getIgnoredMarkers(), Formatting.GRAY);
+
+        return 1;
+    }
+
+    private static int resetLatency(CommandContext<FabricClientCommandSource> context) {
+        ReelLatency.reset();
+        sendMessage("Latency samples cleared", Formatting.GREEN);
+        return 1;
+    }
+
     private static int setSeaCreatureKiller(CommandContext<FabricClientCommandSource> context) {
         MinecraftClient client = MinecraftClient.getInstance();
         if (client.player == null) {
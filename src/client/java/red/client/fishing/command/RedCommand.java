@@ -8,6 +8,12 @@ import net.minecraft.client.MinecraftClient;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import red.client.config.RedClientYaclConfigScreen;
+import red.client.perf.TickProfiler;
+import red.client.sequence.ActionSequencer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
 public class RedCommand {
 
@@ -17,6 +23,14 @@ public class RedCommand {
                         .executes(RedCommand::showHelp))
                 .then(ClientCommandManager.literal("gui")
                         .executes(RedCommand::openGui))
+                .then(ClientCommandManager.literal("perf")
+                        .then(ClientCommandManager.literal("dump")
+                                .executes(RedCommand::dumpPerf))
+                        .then(ClientCommandManager.literal("reset")
+                                .executes(RedCommand::resetPerf))
+                        .then(ClientCommandManager.literal("steps")
+                                .executes(RedCommand::showSteps))
+                        .executes(RedCommand::showPerf))
                 .executes(RedCommand::showHelp));
     }
 
@@ -35,6 +49,133 @@ public class RedCommand {
         return 1;
     }
 
+    private static int showPerf(CommandContext<FabricClientCommandSource> context) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null) {
+            return 0;
+        }
+
+        sendHeader("RedClient - Tick Profile");
+        sendDivider();
+
+        List<TickProfiler.Section> sections = TickProfiler.getSections();
+        for (int i = 0; i < sections.size(); i++) {
+            TickProfiler.Stats stats = sections.get(i).stats();
+            client.player.sendMessage(
+                    Text.literal("║ ").formatted(Formatting.AQUA)
+                            .append(Text.literal(stats.name()).formatted(Formatting.GOLD))
+                            .append(Text.literal(" p50 ").formatted(Formatting.GRAY))
+                            .append(Text.literal(TickProfiler.formatMillis(stats.p50Nanos())).formatted(Formatting.WHITE))
+                            .append(Text.literal(" p99 ").formatted(Formatting.GRAY))
+                            .append(Text.literal(TickProfiler.formatMillis(stats.p99Nanos())).formatted(getCostColor(stats.p99Nanos())))
+                            .append(Text.literal(" max ").formatted(Formatting.GRAY))
+                            .append(Text.literal(TickProfiler.formatMillis(stats.maxNanos())).formatted(getCostColor(stats.maxNanos())))
+                            .append(Text.literal(stats.allocatedPerTick() >= 0
+                                    ? " " + TickProfiler.formatBytes(stats.allocatedPerTick()) + "/t"
+                                    : "").formatted(Formatting.DARK_GRAY)),
+                    false
+            );
+        }
+
+        sendDivider();
+        sendFooter("Last " + TickProfiler.WINDOW / 20 + "s - /red perf dump to save, /red perf reset to clear");
+        return 1;
+    }
+
+    private static int showSteps(CommandContext<FabricClientCommandSource> context) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null) {
+            return 0;
+        }
+
+        sendHeader("RedClient - Macro Steps");
+        sendDivider();
+
+        boolean any = false;
+        List<ActionSequencer.Sequence> sequences = ActionSequencer.getSequences();
+        for (int i = 0; i < sequences.size(); i++) {
+            List<ActionSequencer.StepStats> steps = sequences.get(i).getStepStats();
+            if (steps.stream().noneMatch(step -> step.runs() > 0)) {
+                continue;
+            }
+            any = true;
+            sendCategory(sequences.get(i).getName());
+            for (ActionSequencer.StepStats step : steps) {
+                if (step.runs() == 0) {
+                    continue;
+                }
+                client.player.sendMessage(
+                        Text.literal("║ ").formatted(Formatting.AQUA)
+                                .append(Text.literal(step.name()).formatted(Formatting.GOLD))
+                                .append(Text.literal(" x" + step.runs()).formatted(Formatting.DARK_GRAY))
+                                .append(Text.literal(" plan ").formatted(Formatting.GRAY))
+                                .append(Text.literal(TickProfiler.formatMillis(step.meanPlannedNanos())).formatted(Formatting.WHITE))
+                                .append(Text.literal(" mean ").formatted(Formatting.GRAY))
+                                .append(Text.literal(TickProfiler.formatMillis(step.meanNanos()))
+                                        .formatted(getOverrunColor(step.meanNanos() - step.meanPlannedNanos())))
+                                .append(Text.literal(" max ").formatted(Formatting.GRAY))
+                                .append(Text.literal(TickProfiler.formatMillis(step.maxNanos()))
+                                        .formatted(getOverrunColor(step.maxNanos() - step.meanPlannedNanos()))),
+                        false
+                );
+            }
+        }
+        if (!any) {
+            client.player.sendMessage(
+                    Text.literal("║ ").formatted(Formatting.AQUA)
+                            .append(Text.literal("No macro sequence has run yet").formatted(Formatting.GRAY)),
+                    false
+            );
+        }
+
+        sendDivider();
+        sendFooter("Actual step time vs planned wait - /red perf reset to clear");
+        return 1;
+    }
+
+    private static int dumpPerf(CommandContext<FabricClientCommandSource> context) {
+        try {
+            Path file = TickProfiler.dump();
+            context.getSource().sendFeedback(
+                    Text.literal("Tick profile written to " + file.getFileName()).formatted(Formatting.GREEN)
+            );
+            return 1;
+        } catch (IOException e) {
+            System.err.println("[RedCommand] Failed to write tick profile: " + e.getMessage());
+            context.getSource().sendError(Text.literal("Failed to write tick profile: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    private static int resetPerf(CommandContext<FabricClientCommandSource> context) {
+        TickProfiler.reset();
+        ActionSequencer.resetStats();
+        context.getSource().sendFeedback(
+                Text.literal("Tick profile and step timings cleared").formatted(Formatting.YELLOW)
+        );
+        return 1;
+    }
+
+    /**
+     * Green under 0.5ms, yellow under 2ms, red above (a tick is 50ms, a 60 FPS frame ~16ms)
+     */
+    private static Formatting getCostColor(long nanos) {
+        if (nanos < 500_000L) {
+            return Formatting.GREEN;
+        }
+        return nanos < 2_000_000L ? Formatting.YELLOW : Formatting.RED;
+    }
+
+    /**
+     * Green within a tick of the plan, yellow within two, red above
+     */
+    private static Formatting getOverrunColor(long overrunNanos) {
+        if (overrunNanos < 50_000_000L) {
+            return Formatting.GREEN;
+        }
+        return overrunNanos < 100_000_000L ? Formatting.YELLOW : Formatting.RED;
+    }
+
     private static int showHelp(CommandContext<FabricClientCommandSource> context) {
         MinecraftClient client = MinecraftClient.getInstance();
         if (client.player == null) {
@@ -69,6 +210,9 @@ public class RedCommand {
         
         sendCategory("Information");
         sendCommand("/red help", "Show this help message");
+        sendCommand("/red perf", "Show per-feature tick cost (dump/reset)");
+        sendCommand("/red perf steps", "Show actual vs planned time of macro steps");
+        sendCommand("/fish latency", "Show bite-to-reel latency per catch (reset)");
         
         sendDivider();
         sendFooter("Tip: Use 'true/yes/on/1' or 'false/no/off/0' for boolean values");
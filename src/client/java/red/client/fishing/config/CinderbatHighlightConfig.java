@@ -1,112 +1,88 @@
 package red.client.fishing.config;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import net.fabricmc.loader.api.FabricLoader;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
+import red.client.config.ConfigStore;
 
 public class CinderbatHighlightConfig {
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final File CONFIG_FILE = new File(
-            FabricLoader.getInstance().getConfigDir().toFile(),
-            "cinderbat_highlight.json"
-    );
-
-    private static boolean enabled = true;
-    private static boolean highlightEnabled = true;
-    private static boolean debugEnabled = false;
-    private static double detectionRange = 220.0;
-    private static int highlightColor = 0xFF00FF00;
-
-    public static void load() {
-        if (!CONFIG_FILE.exists()) {
-            save();
-            return;
-        }
+    private static final ConfigStore.Section<ConfigData> SECTION =
+        ConfigStore.section("cinderbat_highlight", ConfigData.class, ConfigData::new, CinderbatHighlightConfig::validate);
 
-        try (FileReader reader = new FileReader(CONFIG_FILE)) {
-            CinderbatHighlightConfig config = GSON.fromJson(reader, CinderbatHighlightConfig.class);
-            if (config != null) {
-                enabled = config.enabled;
-                highlightEnabled = config.highlightEnabled;
-                debugEnabled = config.debugEnabled;
-                detectionRange = Math.max(20.0, Math.min(500.0, config.detectionRange));
-                if (Math.abs(detectionRange - 100.0) < 0.001) {
-                    detectionRange = 220.0;
-                }
-                highlightColor = config.highlightColor;
-            }
-        } catch (IOException e) {
-            System.err.println("[CinderbatHighlight] Failed to load config: " + e.getMessage());
-        }
+    /**
+     * Mark the settings dirty, written behind by ConfigStore
+     */
+    public static void save() {
+        SECTION.markDirty();
     }
 
-    public static void save() {
-        try (FileWriter writer = new FileWriter(CONFIG_FILE)) {
-            CinderbatHighlightConfig config = new CinderbatHighlightConfig();
-            config.enabled = enabled;
-            config.highlightEnabled = highlightEnabled;
-            config.debugEnabled = debugEnabled;
-            config.detectionRange = detectionRange;
-            config.highlightColor = highlightColor;
-            GSON.toJson(config, writer);
-        } catch (IOException e) {
-            System.err.println("[CinderbatHighlight] Failed to save config: " + e.getMessage());
+    private static ConfigData data() {
+        return SECTION.get();
+    }
+
+    /**
+     * Clamp the loaded range; 100 was the old default and is bumped to 220
+     */
+    private static void validate(ConfigData data) {
+        data.detectionRange = Math.max(20.0, Math.min(500.0, data.detectionRange));
+        if (Math.abs(data.detectionRange - 100.0) < 0.001) {
+            data.detectionRange = 220.0;
         }
     }
 
     public static boolean isEnabled() {
-        return enabled;
+        return data().enabled;
     }
 
     public static boolean isHighlightEnabled() {
-        return highlightEnabled;
+        return data().highlightEnabled;
     }
 
     public static boolean isDebugEnabled() {
-        return debugEnabled;
+        return data().debugEnabled;
     }
 
     public static double getDetectionRange() {
-        return detectionRange;
+        return data().detectionRange;
     }
 
     public static int getHighlightColor() {
-        return highlightColor;
+        return data().highlightColor;
     }
 
     public static void setEnabled(boolean value) {
-        enabled = value;
+        data().enabled = value;
         save();
     }
 
     public static void setHighlightEnabled(boolean value) {
-        highlightEnabled = value;
+        data().highlightEnabled = value;
         save();
     }
 
     public static void setDebugEnabled(boolean value) {
-        debugEnabled = value;
+        data().debugEnabled = value;
         save();
     }
 
     public static void setDetectionRange(double value) {
-        detectionRange = Math.max(20.0, Math.min(500.0, value));
+        data().detectionRange = Math.max(20.0, Math.min(500.0, value));
         save();
     }
 
     public static void setHighlightColor(int value) {
-        highlightColor = value;
+        data().highlightColor = value;
         save();
     }
 
     public static boolean toggle() {
-        enabled = !enabled;
+        data().enabled = !data().enabled;
         save();
-        return enabled;
+        return data().enabled;
+    }
+
+    private static class ConfigData {
+        boolean enabled = true;
+        boolean highlightEnabled = true;
+        boolean debugEnabled = false;
+        double detectionRange = 220.0;
+        int highlightColor = 0xFF00FF00;
     }
 }
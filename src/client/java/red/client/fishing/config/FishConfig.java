@@ -1,119 +1,91 @@
 package red.client.fishing.config;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import net.fabricmc.loader.api.FabricLoader;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.nio.file.Path;
+import red.client.config.ConfigStore;
 
 public class FishConfig {
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final Path CONFIG_DIR = FabricLoader.getInstance().getConfigDir();
-    private static final File CONFIG_FILE = CONFIG_DIR.resolve("autofish.json").toFile();
-
-    private static ConfigData data = new ConfigData();
-
-    public static void load() {
-        if (CONFIG_FILE.exists()) {
-            try (FileReader reader = new FileReader(CONFIG_FILE)) {
-                data = GSON.fromJson(reader, ConfigData.class);
-                if (data == null) {
-                    data = new ConfigData();
-                }
-                System.out.println("[AutoFish] Config loaded successfully");
-            } catch (Exception e) {
-                System.err.println("[AutoFish] Failed to load config: " + e.getMessage());
-                data = new ConfigData();
-            }
-        } else {
-            save();
-        }
-    }
+    private static final ConfigStore.Section<ConfigData> SECTION =
+        ConfigStore.section("autofish", ConfigData.class, ConfigData::new);
 
+    /**
+     * Mark the settings dirty, written behind by ConfigStore
+     */
     public static void save() {
-        try {
-            CONFIG_DIR.toFile().mkdirs();
-            try (FileWriter writer = new FileWriter(CONFIG_FILE)) {
-                GSON.toJson(data, writer);
-            }
-            System.out.println("[AutoFish] Config saved successfully");
-        } catch (Exception e) {
-            System.err.println("[AutoFish] Failed to save config: " + e.getMessage());
-        }
+        SECTION.markDirty();
+    }
+
+    private static ConfigData data() {
+        return SECTION.get();
     }
 
     public static int getKeybindCode() {
-        return data.keybindCode;
+        return data().keybindCode;
     }
 
     public static void setKeybindCode(int code) {
-        data.keybindCode = code;
+        data().keybindCode = code;
         save();
     }
 
     public static boolean isUngrabMouseEnabled() {
-        return data.ungrabMouse;
+        return data().ungrabMouse;
     }
 
     public static void setUngrabMouseEnabled(boolean enabled) {
-        data.ungrabMouse = enabled;
+        data().ungrabMouse = enabled;
         save();
     }
 
     public static int getRecastDelay() {
-        return data.recastDelay;
+        return data().recastDelay;
     }
 
     public static void setRecastDelay(int delay) {
-        data.recastDelay = delay;
+        data().recastDelay = delay;
         save();
     }
 
     public static int getReelingDelay() {
-        return data.reelingDelay;
+        return data().reelingDelay;
     }
 
     public static void setReelingDelay(int delay) {
-        data.reelingDelay = delay;
+        data().reelingDelay = delay;
         save();
     }
 
     public static boolean isSeaCreatureKillerEnabled() {
-        return data.seaCreatureKillerEnabled;
+        return data().seaCreatureKillerEnabled;
     }
 
     public static void setSeaCreatureKillerEnabled(boolean enabled) {
-        data.seaCreatureKillerEnabled = enabled;
+        data().seaCreatureKillerEnabled = enabled;
         save();
     }
 
     public static String getCombatMode() {
-        return data.combatMode;
+        return data().combatMode;
     }
 
     public static void setCombatMode(String mode) {
-        data.combatMode = mode;
+        data().combatMode = mode;
         save();
     }
 
     public static int getSeaCreatureKillThreshold() {
-        return data.seaCreatureKillThreshold;
+        return data().seaCreatureKillThreshold;
     }
 
     public static void setSeaCreatureKillThreshold(int threshold) {
-        data.seaCreatureKillThreshold = Math.max(1, Math.min(30, threshold)); // Clamp between 1-30
+        data().seaCreatureKillThreshold = Math.max(1, Math.min(30, threshold)); // Clamp between 1-30
         save();
     }
 
     public static boolean isHyperionLookDownEnabled() {
-        return data.hyperionLookDown;
+        return data().hyperionLookDown;
     }
 
     public static void setHyperionLookDownEnabled(boolean enabled) {
-        data.hyperionLookDown = enabled;
+        data().hyperionLookDown = enabled;
         save();
     }
 
@@ -1,143 +1,88 @@
 package red.client.fishing.config;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import net.fabricmc.loader.api.FabricLoader;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
+import red.client.config.ConfigStore;
 
 /**
  * Configuration for Spike Helper feature
  * Manages settings for tracking and highlighting Spike entities
  */
 public class SpikeHelperConfig {
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final File CONFIG_FILE = new File(
-        FabricLoader.getInstance().getConfigDir().toFile(),
-        "spike_helper.json"
-    );
-
-    // Configuration fields
-    private static boolean enabled = false;
-    private static boolean highlightEnabled = true;
-    private static boolean aimAssistEnabled = false; // Aim Assist feature
-    private static double targetDistance = 9.0; // Exact distance required for catching Spikes
-    private static double distanceTolerance = 0.5; // Tolerance for "correct" distance (green highlight)
-
-    // Color values (ARGB format for entity glow)
-    private static int colorTooClose = 0xFFFF0000; // Red when too close
-    private static int colorCorrect = 0xFF00FF00; // Green when at correct distance
+    private static final ConfigStore.Section<ConfigData> SECTION =
+        ConfigStore.section("spike_helper", ConfigData.class, ConfigData::new);
 
     /**
-     * Load configuration from file
+     * Mark the settings dirty, written behind by ConfigStore
      */
-    public static void load() {
-        if (!CONFIG_FILE.exists()) {
-            save(); // Create default config
-            return;
-        }
-
-        try (FileReader reader = new FileReader(CONFIG_FILE)) {
-            SpikeHelperConfig config = GSON.fromJson(reader, SpikeHelperConfig.class);
-            if (config != null) {
-                enabled = config.enabled;
-                highlightEnabled = config.highlightEnabled;
-                aimAssistEnabled = config.aimAssistEnabled;
-                targetDistance = config.targetDistance;
-                distanceTolerance = config.distanceTolerance;
-                colorTooClose = config.colorTooClose;
-                colorCorrect = config.colorCorrect;
-            }
-        } catch (IOException e) {
-            System.err.println("[SpikeHelper] Failed to load config: " + e.getMessage());
-        }
+    public static void save() {
+        SECTION.markDirty();
     }
 
-    /**
-     * Save configuration to file
-     */
-    public static void save() {
-        try (FileWriter writer = new FileWriter(CONFIG_FILE)) {
-            SpikeHelperConfig config = new SpikeHelperConfig();
-            config.enabled = enabled;
-            config.highlightEnabled = highlightEnabled;
-            config.aimAssistEnabled = aimAssistEnabled;
-            config.targetDistance = targetDistance;
-            config.distanceTolerance = distanceTolerance;
-            config.colorTooClose = colorTooClose;
-            config.colorCorrect = colorCorrect;
-            
-            GSON.toJson(config, writer);
-        } catch (IOException e) {
-            System.err.println("[SpikeHelper] Failed to save config: " + e.getMessage());
-        }
+    private static ConfigData data() {
+        return SECTION.get();
     }
 
     // Getters
     public static boolean isEnabled() {
-        return enabled;
+        return data().enabled;
     }
 
     public static boolean isHighlightEnabled() {
-        return highlightEnabled;
+        return data().highlightEnabled;
     }
 
     public static boolean isAimAssistEnabled() {
-        return aimAssistEnabled;
+        return data().aimAssistEnabled;
     }
 
     public static double getTargetDistance() {
-        return targetDistance;
+        return data().targetDistance;
     }
 
     public static double getDistanceTolerance() {
-        return distanceTolerance;
+        return data().distanceTolerance;
     }
 
     public static int getColorTooClose() {
-        return colorTooClose;
+        return data().colorTooClose;
     }
 
     public static int getColorCorrect() {
-        return colorCorrect;
+        return data().colorCorrect;
     }
 
     // Setters
     public static void setEnabled(boolean value) {
-        enabled = value;
+        data().enabled = value;
         save();
     }
 
     public static void setHighlightEnabled(boolean value) {
-        highlightEnabled = value;
+        data().highlightEnabled = value;
         save();
     }
 
     public static void setAimAssistEnabled(boolean value) {
-        aimAssistEnabled = value;
+        data().aimAssistEnabled = value;
         save();
     }
 
     public static void setTargetDistance(double value) {
-        targetDistance = Math.max(1.0, Math.min(50.0, value)); // Clamp between 1-50
+        data().targetDistance = Math.max(1.0, Math.min(50.0, value)); // Clamp between 1-50
         save();
     }
 
     public static void setDistanceTolerance(double value) {
-        distanceTolerance = Math.max(0.1, Math.min(2.0, value)); // Clamp between 0.1-2.0
+        data().distanceTolerance = Math.max(0.1, Math.min(2.0, value)); // Clamp between 0.1-2.0
         save();
     }
 
     public static void setColorTooClose(int color) {
-        colorTooClose = color;
+        data().colorTooClose = color;
         save();
     }
 
     public static void setColorCorrect(int color) {
-        colorCorrect = color;
+        data().colorCorrect = color;
         save();
     }
 
@@ -145,8 +90,20 @@ public class SpikeHelperConfig {
      * Toggle enabled state and return new value
      */
     public static boolean toggle() {
-        enabled = !enabled;
+        data().enabled = !data().enabled;
         save();
-        return enabled;
+        return data().enabled;
+    }
+
+    private static class ConfigData {
+        boolean enabled = false;
+        boolean highlightEnabled = true;
+        boolean aimAssistEnabled = false; // Aim Assist feature
+        double targetDistance = 9.0; // Exact distance required for catching Spikes
+        double distanceTolerance = 0.5; // Tolerance for "correct" distance (green highlight)
+
+        // Color values (ARGB format for entity glow)
+        int colorTooClose = 0xFFFF0000; // Red when too close
+        int colorCorrect = 0xFF00FF00; // Green when at correct distance
     }
 }
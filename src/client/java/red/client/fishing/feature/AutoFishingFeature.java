@@ -1,29 +1,45 @@
 package red.client.fishing.feature;
 
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.decoration.ArmorStandEntity;
-import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.entity.projectile.FishingBobberEntity;
-import net.minecraft.item.FishingRodItem;
-import net.minecraft.item.ItemStack;
-import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import net.minecraft.util.Hand;
 import red.client.fishing.config.FishConfig;
-import red.client.fishing.util.FishMouseSimulator;
+import red.client.fishing.util.ReelLatency;
+import red.client.tick.TimerWheel;
+import red.client.world.GameView;
+import red.client.world.GameViews;
 
 import java.util.Random;
 
+/**
+ * Auto Fishing - Cast, wait for the "!!!" bite marker, reel, recast
+ *
+ * Reads and acts only through GameView, so the state machine can be ticked
+ * against an InMemoryGameView with no client running.
+ *
+ * Waits (after a cast, before a recast) are TimerWheel timers; while one is
+ * pending the tick only checks that the player still holds a rod, so a
+ * swapped-out rod stops the macro mid-wait as before.
+ *
+ * The reel is timed from when the bite marker arrived, not from the tick that
+ * noticed it: a bite schedules the reel timer at bite time + reeling delay, and
+ * the click goes out at the first tick start past it. Each catch's bite-to-reel
+ * time is recorded in ReelLatency.
+ */
 public class AutoFishingFeature {
+    private static final long NO_BITE = -1;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final int CAST_WAIT_TICKS = 10;
+    private static final int MIN_REEL_TO_RECAST_TICKS = 30;
+
     private static boolean enabled = false;
-    private static int delayTimer = 0;
-    private static int castCooldownTimer = 0;
-    private static int reelingDelayTimer = 0;
-    private static long lastDetectionTime = 0;
+    private static long biteAtNanos = NO_BITE;
+    private static long reelAtNanos = NO_BITE;
     private static boolean mouseWasGrabbed = false;
     private static final Random random = new Random();
-    private static final long DETECTION_COOLDOWN = 50;
+
+    // Pause between actions, tick() does nothing until it fires
+    private static final TimerWheel.Timer WAIT_TIMER = TimerWheel.timer("AutoFish wait");
+    // Reel click at bite time + reeling delay
+    private static final TimerWheel.Timer REEL_TIMER = TimerWheel.timer("AutoFish reel", AutoFishingFeature::reel);
 
     private enum FishingState {
         IDLE,
@@ -52,15 +68,11 @@ public class AutoFishingFeature {
             }
         }
 
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.player != null) {
-            Text prefix = Text.literal("[AutoFish] ").formatted(Formatting.AQUA, Formatting.BOLD);
+        if (GameViews.get().isInGame()) {
             if (enabled) {
-                Text message = Text.literal("Auto fishing enabled").formatted(Formatting.GREEN);
-                client.player.sendMessage(prefix.copy().append(message), false);
+                sendMessage("Auto fishing enabled", Formatting.GREEN);
             } else {
-                Text message = Text.literal("Auto fishing disabled").formatted(Formatting.RED);
-                client.player.sendMessage(prefix.copy().append(message), false);
+                sendMessage("Auto fishing disabled", Formatting.RED);
             }
         }
     }
@@ -69,20 +81,23 @@ public class AutoFishingFeature {
         return enabled;
     }
 
+    /**
+     * Whether a wait or a pending reel holds the state machine
+     */
+    private static boolean isWaiting() {
+        return WAIT_TIMER.isPending() || REEL_TIMER.isPending();
+    }
+
     public static void tick() {
         if (!enabled) return;
 
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.player == null || client.world == null) {
+        GameView view = GameViews.get();
+        if (!view.isInGame()) {
             stop();
             return;
         }
 
-        ItemStack mainHand = client.player.getStackInHand(Hand.MAIN_HAND);
-        ItemStack offHand = client.player.getStackInHand(Hand.OFF_HAND);
-
-        boolean hasFishingRod = mainHand.getItem() instanceof FishingRodItem ||
-                               offHand.getItem() instanceof FishingRodItem;
+        boolean hasFishingRod = view.isHolding(GameView.ItemKind.FISHING_ROD);
 
         if (!hasFishingRod) {
             // Only show error and disable if Sea Creature Killer is not active (to avoid spam during weapon swapping)
@@ -97,68 +112,66 @@ public class AutoFishingFeature {
             return;
         }
 
-        if (delayTimer > 0) {
-            delayTimer--;
-            return;
-        }
-
-        if (castCooldownTimer > 0) {
-            castCooldownTimer--;
-        }
-
-        if (reelingDelayTimer > 0) {
-            reelingDelayTimer--;
-            if (reelingDelayTimer == 0) {
-                FishMouseSimulator.simulateRightClick(client);
-                resetFishingState();
-                delayTimer = Math.max(30, getRandomizedRecastDelay());
-            }
+        if (isWaiting()) {
             return;
         }
 
         switch (currentState) {
             case IDLE:
-                if (client.player.fishHook == null) {
-                    startCasting(client);
+                if (!view.hasFishHook()) {
+                    startCasting(view);
                 } else {
-                    if (hasBobberInWater(client.player)) {
+                    if (view.isFishHookInLiquid()) {
                         currentState = FishingState.FISHING;
                     }
                 }
                 break;
 
             case CASTING:
-                if (client.player.fishHook != null && hasBobberInWater(client.player)) {
+                if (view.hasFishHook() && view.isFishHookInLiquid()) {
                     currentState = FishingState.FISHING;
-                } else if (client.player.fishHook != null) {
+                } else if (view.hasFishHook()) {
                     // Waiting for bobber to land
                 } else {
-                    FishMouseSimulator.simulateRightClick(client);
-                    delayTimer = 10;
+                    view.rightClick();
+                    WAIT_TIMER.scheduleTicks(CAST_WAIT_TICKS);
                 }
                 break;
 
             case FISHING:
-                if (client.player.fishHook == null) {
+                if (!view.hasFishHook()) {
                     resetFishingState();
-                    delayTimer = getRandomizedRecastDelay();
-                } else if (hasBobberInWater(client.player)) {
-                    if (reelingDelayTimer == 0 && detectArmorStandFishBite(client)) {
-                        long currentTimeMillis = System.currentTimeMillis();
-                        if (currentTimeMillis - lastDetectionTime >= DETECTION_COOLDOWN) {
-                            lastDetectionTime = currentTimeMillis;
-                            reelingDelayTimer = getRandomizedReelingDelay();
-                        }
+                    WAIT_TIMER.scheduleTicks(getRandomizedRecastDelay());
+                } else if (view.isFishHookInLiquid()) {
+                    long bite = view.pollBite();
+                    if (bite != NO_BITE) {
+                        biteAtNanos = bite;
+                        reelAtNanos = bite + getRandomizedReelingDelay() * TimerWheel.TICK_NANOS;
+                        REEL_TIMER.scheduleAt(reelAtNanos);
                     }
                 }
                 break;
         }
     }
 
-    private static boolean performPreStartChecks() {
-        MinecraftClient client = MinecraftClient.getInstance();
+    /**
+     * The bite's delay has elapsed (REEL_TIMER, at tick start)
+     */
+    private static void reel() {
+        GameView view = GameViews.get();
+        if (!enabled || !view.isInGame() || !view.isHolding(GameView.ItemKind.FISHING_ROD)) {
+            return; // tick() resets the fishing state
+        }
+
+        long now = view.nanoTime();
+        view.rightClick();
+        ReelLatency.record((now - biteAtNanos) / NANOS_PER_MILLI, (reelAtNanos - biteAtNanos) / NANOS_PER_MILLI);
+        resetFishingState();
+        WAIT_TIMER.scheduleTicks(Math.max(MIN_REEL_TO_RECAST_TICKS, getRandomizedRecastDelay()));
+    }
 
-        if (client.player == null || client.world == null) {
+    private static boolean performPreStartChecks() {
+        if (!GameViews.get().isInGame()) {
             sendMessage("Cannot start: Player or world is null", Formatting.RED);
             return false;
         }
@@ -172,129 +185,63 @@ public class AutoFishingFeature {
     }
 
     private static boolean hasValidFishingRod() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.player == null) return false;
-
-        ItemStack mainHand = client.player.getStackInHand(Hand.MAIN_HAND);
-        ItemStack offHand = client.player.getStackInHand(Hand.OFF_HAND);
-
-        if ((mainHand.getItem() instanceof FishingRodItem && !mainHand.isEmpty()) ||
-            (offHand.getItem() instanceof FishingRodItem && !offHand.isEmpty())) {
-            return true;
-        }
-
-        for (int i = 0; i < client.player.getInventory().size(); i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (stack.getItem() instanceof FishingRodItem && !stack.isEmpty()) {
-                return true;
-            }
-        }
+        GameView view = GameViews.get();
+        if (!view.isInGame()) return false;
 
-        return false;
+        return view.isHolding(GameView.ItemKind.FISHING_ROD)
+            || view.findSlot(GameView.ItemKind.FISHING_ROD, 0, GameView.MAIN_SIZE) >= 0;
     }
 
     private static void ungrabMouse() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.mouse != null) {
-            mouseWasGrabbed = client.mouse.isCursorLocked();
-            client.mouse.unlockCursor();
-        }
+        GameView view = GameViews.get();
+        mouseWasGrabbed = view.isCursorLocked();
+        view.setCursorLocked(false);
     }
 
     private static void restoreMouseGrab() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.mouse != null && mouseWasGrabbed && !enabled) {
-            client.mouse.lockCursor();
+        if (mouseWasGrabbed && !enabled) {
+            GameViews.get().setCursorLocked(true);
         }
     }
 
-    private static void startCasting(MinecraftClient client) {
-        if (client.player == null) return;
-
-        FishMouseSimulator.simulateRightClick(client);
+    private static void startCasting(GameView view) {
+        view.rightClick();
         currentState = FishingState.CASTING;
-        delayTimer = 10;
+        WAIT_TIMER.scheduleTicks(CAST_WAIT_TICKS);
     }
 
     private static void resetFishingState() {
         currentState = FishingState.IDLE;
-        castCooldownTimer = 0;
-        reelingDelayTimer = 0;
+        biteAtNanos = NO_BITE;
+        reelAtNanos = NO_BITE;
+        REEL_TIMER.cancel();
     }
 
     private static void stop() {
         resetFishingState();
-        delayTimer = 0;
-        reelingDelayTimer = 0;
-        lastDetectionTime = 0;
+        WAIT_TIMER.cancel();
     }
 
     private static boolean switchToFishingRod() {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.player == null || client.interactionManager == null) {
+        GameView view = GameViews.get();
+        if (!view.isInGame()) {
             return false;
         }
 
-        ItemStack mainHand = client.player.getStackInHand(Hand.MAIN_HAND);
-        if (mainHand.getItem() instanceof FishingRodItem) {
+        if (view.getItemKind(view.getSelectedSlot()) == GameView.ItemKind.FISHING_ROD) {
             return true;
         }
 
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (stack.getItem() instanceof FishingRodItem) {
-                client.player.getInventory().setSelectedSlot(i);
-                return true;
-            }
-        }
-
-        for (int i = 9; i < 36; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (stack.getItem() instanceof FishingRodItem) {
-                int currentSlot = client.player.getInventory().getSelectedSlot();
-                client.interactionManager.clickSlot(
-                    client.player.playerScreenHandler.syncId,
-                    i,
-                    currentSlot,
-                    net.minecraft.screen.slot.SlotActionType.SWAP,
-                    client.player
-                );
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private static boolean hasBobberInWater(PlayerEntity player) {
-        FishingBobberEntity bobber = player.fishHook;
-        if (bobber == null) return false;
-        return bobber.isTouchingWater() || bobber.isInLava();
-    }
-
-    private static boolean detectArmorStandFishBite(MinecraftClient client) {
-        if (client.player == null || client.world == null || !hasBobberInWater(client.player)) {
-            return false;
+        int hotbarSlot = view.findSlot(GameView.ItemKind.FISHING_ROD, 0, GameView.HOTBAR_SIZE);
+        if (hotbarSlot >= 0) {
+            view.selectSlot(hotbarSlot);
+            return true;
         }
 
-        var entities = client.world.getEntities();
-        if (entities == null) return false;
-
-        for (Entity entity : entities) {
-            if (entity instanceof ArmorStandEntity armorStand) {
-                if (armorStand.hasCustomName()) {
-                    Text customName = armorStand.getCustomName();
-                    if (customName != null) {
-                        String nameString = customName.getString();
-                        if ("!!!".equals(nameString)) {
-                            double distance = armorStand.squaredDistanceTo(client.player);
-                            if (distance <= 50 * 50) {
-                                return true;
-                            }
-                        }
-                    }
-                }
-            }
+        int inventorySlot = view.findSlot(GameView.ItemKind.FISHING_ROD, GameView.HOTBAR_SIZE, GameView.MAIN_SIZE);
+        if (inventorySlot >= 0) {
+            view.swapWithHotbar(inventorySlot, view.getSelectedSlot());
+            return true;
         }
 
         return false;
@@ -317,13 +264,6 @@ public class AutoFishingFeature {
     }
 
     private static void sendMessage(String message, Formatting formatting) {
-        MinecraftClient client = MinecraftClient.getInstance();
-        if (client.player != null) {
-            client.player.sendMessage(
-                    Text.literal("[AutoFish] ").formatted(Formatting.AQUA, Formatting.BOLD)
-                            .append(Text.literal(message).formatted(formatting)),
-                    false
-            );
-        }
+        GameViews.get().sendMessage("AutoFish", message, formatting);
     }
 }
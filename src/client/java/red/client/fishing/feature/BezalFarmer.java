@@ -6,17 +6,21 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.decoration.ArmorStandEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import net.minecraft.util.math.Box;
-import net.minecraft.util.math.Vec3d;
 import org.lwjgl.glfw.GLFW;
+import red.client.entity.NametagCache;
+import red.client.entity.NametagLinker;
 import red.client.fishing.config.BezalFarmerConfig;
+import red.client.inventory.InventoryIndex;
 import red.client.flarecombat.mixin.MouseMixin;
 import red.client.flarecombat.util.MouseSimulator;
+import red.client.render.OutlineColorRegistry;
+import red.client.rotation.RotationService;
+import red.client.sequence.ActionSequencer;
+import red.client.target.TargetResults;
+import red.client.target.TargetSelectionWorker;
+import red.client.tick.TimerWheel;
 
-import java.util.Comparator;
-import java.util.List;
 import java.util.Random;
-import java.util.regex.Pattern;
 
 /**
  * Bezal Farmer - Auto-attacks Bezal entities when within range
@@ -36,47 +40,41 @@ import java.util.regex.Pattern;
 public class BezalFarmer {
     private static final MinecraftClient client = MinecraftClient.getInstance();
     
-    // Blackhole phase enum
-    private enum BlackholePhase {
-        IDLE,
-        SWAP_TO_BLACKHOLE,
-        WAIT_SWAP,
-        RIGHT_CLICK,
-        WAIT_CLICK,
-        SWAP_TO_WEAPON,
-        COMPLETE
-    }
-    
-    // Bezal detection pattern - matches armor stand names containing "Bezal" with health format
-    // Accepts forms like "300k/300k", "300/300", "1.2m/1.2m", and numbers with commas
-    private static final Pattern BEZAL_PATTERN = Pattern.compile("(?i).*bezal.*[\\d,]+(?:\\.\\d+)?[kKmM]?/[\\d,]+(?:\\.\\d+)?[kKmM]?.*");
-    private static final double DETECTION_RANGE = 50.0; // Max range to scan for Bezals
+    public static final double DETECTION_RANGE = 50.0; // Max range to scan for Bezals
     
     // Tracked Bezal entity
     private static Entity trackedBezal = null;
     private static ArmorStandEntity trackedArmorStand = null;
-    private static final double LOW_HP_THRESHOLD = 10000.0; // Switch targets when HP falls below 10k
+    public static final double LOW_HP_THRESHOLD = 10000.0; // Blackhole a Bezal once its HP falls below 10k
     
     // Attack state
     private static boolean isAttacking = false;
-    private static long lastAttackTime = 0;
     private static final long ATTACK_COOLDOWN_MS = 1000; // 1 second cooldown between attack sequences
+    private static final TimerWheel.Timer ATTACK_COOLDOWN = TimerWheel.timer("Bezal attack cooldown");
     
     // Aim Assist state
     private static boolean isAiming = false;
+    private static final float AIM_SPEED = 0.3f; // Per-tick smoothing for RotationService
     
     // Weapon state tracking
     private static int lastHeldSlot = -1;
     private static boolean justSwappedToBlackhole = false;
     
-    // Blackhole sequence state management (phase-based like FlareCombat)
-    private static BlackholePhase blackholePhase = BlackholePhase.IDLE;
-    private static int phaseTimer = 0;
+    // Blackhole sequence state
     private static int blackholeSlot = -1;
     private static int weaponSlot = -1;
-    private static long lastAttackCompletionTime = -1; // Track when last attack finished
     private static final long HP_CHECK_DELAY_MS = 200; // Wait 200ms after attack before checking HP
-    private static final int PHASE_WAIT_TICKS = 3; // ~150ms wait (3 ticks at 20ms per tick)
+    private static final TimerWheel.Timer HP_CHECK_TIMER = TimerWheel.timer("Bezal HP check", BezalFarmer::checkPostAttackHP);
+    private static final int PHASE_WAIT_TICKS = 3; // 150ms wait (3 ticks at 50ms per tick)
+    
+    // Swap to the Blackhole, use it, swap back to the weapon
+    private static final ActionSequencer.Sequence BLACKHOLE_SEQUENCE = ActionSequencer.sequence("Bezal Blackhole")
+        .run("Swap to Blackhole", () -> selectSlot(blackholeSlot))
+        .waitTicks("Swap settle", PHASE_WAIT_TICKS)
+        .run("Use Blackhole", () -> MouseSimulator.simulateRightClick(client))
+        .waitTicks("Use settle", PHASE_WAIT_TICKS)
+        .run("Swap to weapon", () -> selectSlot(weaponSlot))
+        .waitTicks("Weapon settle", 1);
     
     /**
      * Tick update - called every game tick
@@ -89,15 +87,15 @@ public class BezalFarmer {
             return;
         }
         
-        // Process Blackhole phase if active
-        if (blackholePhase != BlackholePhase.IDLE) {
-            processBlackholePhase();
-            // Don't do other actions while executing Blackhole sequence
+        // Don't do other actions while the Blackhole sequence runs
+        if (BLACKHOLE_SEQUENCE.isRunning()) {
+            stopAimAssist(); // Hold the camera still while swapping and using the Blackhole
             return;
         }
         
         // Auto-swap to weapon if not equipped
         if (!isCorrectWeaponEquipped()) {
+            stopAimAssist();
             swapToWeapon(BezalFarmerConfig.getWeaponName());
             return; // Skip this tick, will continue next tick when weapon is ready
         }
@@ -130,11 +128,6 @@ public class BezalFarmer {
                 stopAimAssist();
             }
         }
-        
-        // Post-attack HP check for Blackhole sequence (runs with debounce delay)
-        if (lastAttackCompletionTime >= 0) {
-            checkPostAttackHP();
-        }
     }
     
     /**
@@ -171,130 +164,27 @@ public class BezalFarmer {
         trackedArmorStand = null;
     }
     
-    /**
-     * Parse the current HP from a Bezal name tag
-     * Format: "[Lv80] ♨ Bezal 300k/300k❤" or "Bezal 100/300" etc.
-     * Extracts the first number before the "/" character
-     * 
-     * @return the parsed HP value, or -1 if parsing fails
-     */
-    private static double parseCurrentHP(String nameTags) {
-        if (nameTags == null || nameTags.isEmpty()) {
-            return -1;
-        }
-        
-        // Remove formatting codes
-        String cleanName = Formatting.strip(nameTags);
-        
-        // Find the "/" that separates current/max HP
-        int slashIndex = cleanName.indexOf('/');
-        if (slashIndex <= 0) {
-            return -1; // No "/" found or it's at the start
-        }
-        
-        // Extract the substring before the "/"
-        String currentHPPart = cleanName.substring(0, slashIndex).trim();
-        
-        // Find the last number sequence before the "/"
-        // This handles cases like "Bezal 300k/300k" -> we get "300k"
-        StringBuilder hpStr = new StringBuilder();
-        for (int i = currentHPPart.length() - 1; i >= 0; i--) {
-            char c = currentHPPart.charAt(i);
-            if (Character.isDigit(c) || c == '.' || c == 'k' || c == 'K' || c == 'm' || c == 'M') {
-                hpStr.insert(0, c);
-            } else if (!hpStr.isEmpty()) {
-                // Stop when we hit a non-digit character after already collecting digits
-                break;
-            }
-        }
-        
-        if (hpStr.isEmpty()) {
-            return -1;
-        }
-        
-        String hpValue = hpStr.toString();
-        return convertHPStringToNumber(hpValue);
-    }
-    
-    /**
-     * Convert HP string like "300k" or "1.2m" to actual number
-     * 
-     * @param hpStr the HP string (e.g., "300k", "1.2m", "300")
-     * @return the numeric HP value
-     */
-    private static double convertHPStringToNumber(String hpStr) {
-        if (hpStr == null || hpStr.isEmpty()) {
-            return -1;
-        }
-        
-        hpStr = hpStr.toLowerCase().trim();
-        
-        try {
-            if (hpStr.endsWith("k")) {
-                // Parse "k" suffix (thousands)
-                double value = Double.parseDouble(hpStr.substring(0, hpStr.length() - 1));
-                return value * 1000.0;
-            } else if (hpStr.endsWith("m")) {
-                // Parse "m" suffix (millions)
-                double value = Double.parseDouble(hpStr.substring(0, hpStr.length() - 1));
-                return value * 1000000.0;
-            } else {
-                // Parse plain number
-                return Double.parseDouble(hpStr);
-            }
-        } catch (NumberFormatException e) {
-            return -1;
-        }
-    }
-    
     /**
      * Scan for the closest Bezal entity in range
-     * Optimized for speed: direct iteration without unnecessary allocations
+     * Uses the target worker's pick (stand + linked mob) and re-checks both against the live world
      */
     private static void scanForClosestBezal() {
         if (client.world == null || client.player == null) {
             return;
         }
         
-        ArmorStandEntity closestArmorStand = null;
-        double closestDistance = DETECTION_RANGE;
-        
-        // Direct iteration through world entities with minimal overhead
-        for (Entity entity : client.world.getEntities()) {
-            // Fast type check before instanceof to avoid expensive casting
-            if (entity == null || entity.isRemoved() || !(entity instanceof ArmorStandEntity)) {
-                continue;
-            }
-            
-            ArmorStandEntity armorStand = (ArmorStandEntity) entity;
-            
-            // Skip if no name tag
-            if (!armorStand.hasCustomName()) {
-                continue;
-            }
-            
-            // Fast Bezal check
-            if (!isBezalArmorStand(armorStand)) {
-                continue;
-            }
-            
-            // Calculate distance only once
-            double distance = client.player.distanceTo(armorStand);
-            
-            // Update closest if this one is closer and in range
-            if (distance < closestDistance) {
-                closestArmorStand = armorStand;
-                closestDistance = distance;
-            }
-        }
+        TargetResults results = TargetSelectionWorker.latest();
+        ArmorStandEntity closestArmorStand = client.world.getEntityById(results.getBezalStandId()) instanceof ArmorStandEntity stand
+            && !stand.isRemoved() && isBezalArmorStand(stand) ? stand : null;
         
         // If no Bezal found, exit early
         if (closestArmorStand == null) {
             return;
         }
         
-        // Find the actual entity below the armor stand
-        Entity actualBezal = getEntityBelowArmorStand(closestArmorStand);
+        // Find the actual entity below the armor stand (worker link first, cached linker as fallback)
+        Entity actualBezal = client.world.getEntityById(results.getBezalMobId()) instanceof LivingEntity mob
+            && !mob.isRemoved() && mob.isAlive() ? mob : NametagLinker.resolve(closestArmorStand);
         
         if (actualBezal != null) {
             trackedBezal = actualBezal;
@@ -306,50 +196,15 @@ public class BezalFarmer {
      * Check if an armor stand is a Bezal entity name tag
      */
     private static boolean isBezalArmorStand(ArmorStandEntity armorStand) {
-        if (armorStand == null || !armorStand.hasCustomName()) {
+        NametagCache.Entry nametag = NametagCache.get(armorStand);
+        if (nametag == null) {
             return false;
         }
         
-    String rawName = armorStand.getCustomName().getString();
-    String name = Formatting.strip(rawName); // Remove formatting/control codes
-
-    // Normalize player name and armor stand name for comparison
-    String playerName = client.player != null ? Formatting.strip(client.player.getName().getString()) : "";
-
-    boolean matches = BEZAL_PATTERN.matcher(name).find();
-    boolean notPlayer = !name.toLowerCase().contains(playerName.toLowerCase());
-        
-        return matches && notPlayer;
-    }
-    
-    /**
-     * Get the actual entity that an armor stand represents
-     * Armor stands float above entities showing their health
-     */
-    private static Entity getEntityBelowArmorStand(ArmorStandEntity armorStand) {
-        if (client.world == null) {
-            return null;
-        }
-        
-        // Expand bounding box to find entities below the armor stand
-        Box searchBox = armorStand.getBoundingBox().expand(0.5, 3.0, 0.5);
-        
-        // Search for any living entity (not armor stand, not player)
-        List<Entity> nearbyEntities = client.world.getOtherEntities(armorStand, searchBox, entity -> {
-            boolean isAlive = !entity.isRemoved() && !entity.equals(client.player);
-            boolean isNotArmorStand = !(entity instanceof ArmorStandEntity);
-            boolean isLivingEntity = entity instanceof LivingEntity;
-            return isAlive && isNotArmorStand && isLivingEntity;
-        });
-        
-        if (nearbyEntities.isEmpty()) {
-            return null;
-        }
-        
-        // Return closest entity to the armor stand
-        return nearbyEntities.stream()
-            .min(Comparator.comparingDouble(entity -> armorStand.distanceTo(entity)))
-            .orElse(null);
+        // "Bezal" with a current/max health pair, and not the player's own tag
+        return nametag.has(NametagCache.FLAG_HEALTH)
+            && !nametag.has(NametagCache.FLAG_PLAYER_NAME)
+            && nametag.lower.contains("bezal");
     }
     
     /**
@@ -390,49 +245,54 @@ public class BezalFarmer {
         return BezalFarmerConfig.getColorInRange(); // Always green regardless of distance
     }
     
+    /**
+     * Register the outline color for the tracked Bezal (called once per tick)
+     */
+    public static void contributeOutlineColors() {
+        if (BezalFarmerConfig.isEnabled() && BezalFarmerConfig.isHighlightEnabled() && trackedBezal != null) {
+            OutlineColorRegistry.set(trackedBezal, getHighlightColor());
+        }
+    }
+    
     /**
      * Check if can attack (cooldown check)
      */
     private static boolean canAttack() {
-        long currentTime = System.currentTimeMillis();
-        return currentTime - lastAttackTime >= ATTACK_COOLDOWN_MS;
+        return !ATTACK_COOLDOWN.isPending();
     }
     
     /**
-     * Check HP after attack and trigger Blackhole if below 10k
+     * Attack thread finished its clicks (client thread): start the cooldown and the delayed HP check
      */
-    private static void checkPostAttackHP() {
-        if (!BezalFarmerConfig.isBlackholeEnabled()) {
-            return;
-        }
-        
-        if (trackedArmorStand == null || lastAttackCompletionTime < 0) {
-            return;
+    private static void onAttackFinished(boolean completed) {
+        isAttacking = false;
+        if (completed) {
+            ATTACK_COOLDOWN.schedule(ATTACK_COOLDOWN_MS);
+            HP_CHECK_TIMER.schedule(HP_CHECK_DELAY_MS);
         }
-        
-        long timeSinceAttack = System.currentTimeMillis() - lastAttackCompletionTime;
-        if (timeSinceAttack < HP_CHECK_DELAY_MS) {
+    }
+    
+    /**
+     * Check HP after attack and trigger Blackhole if below 10k (HP_CHECK_TIMER, 200ms after the attack)
+     */
+    private static void checkPostAttackHP() {
+        if (!BezalFarmerConfig.isEnabled() || !BezalFarmerConfig.isBlackholeEnabled() || BLACKHOLE_SEQUENCE.isRunning()) {
             return;
         }
         
-        if (!trackedArmorStand.hasCustomName()) {
+        if (trackedArmorStand == null || client.player == null) {
             return;
         }
         
-        String rawName = trackedArmorStand.getCustomName().getString();
-        double currentHP = parseCurrentHP(rawName);
-        
-        if (currentHP < LOW_HP_THRESHOLD && currentHP > 0) {
-            // HP is low - start Blackhole sequence (phase-based, not threaded)
+        // The target worker's health scorer flags the Bezal name tags under LOW_HP_THRESHOLD
+        if (TargetSelectionWorker.latest().isLowHpBezal(trackedArmorStand.getId())) {
+            // HP is low - start Blackhole sequence (advanced by the action sequencer, not threaded)
             initiateBlackholeSequence();
-            lastAttackCompletionTime = -1;
-        } else {
-            lastAttackCompletionTime = -1;
         }
     }
     
     /**
-     * Start the Blackhole sequence - phase-based like FlareCombat
+     * Start the Blackhole sequence
      */
     private static void initiateBlackholeSequence() {
         if (client.player == null || client.player.getInventory() == null) {
@@ -445,70 +305,22 @@ public class BezalFarmer {
         }
         
         weaponSlot = client.player.getInventory().getSelectedSlot();
-        blackholePhase = BlackholePhase.SWAP_TO_BLACKHOLE;
-        phaseTimer = 0;
+        BLACKHOLE_SEQUENCE.start();
     }
     
     /**
-     * Process Blackhole phase machine - called every tick when executing sequence
+     * Select a hotbar slot (Blackhole sequence steps)
      */
-    private static void processBlackholePhase() {
-        // Handle phase timer countdown
-        if (phaseTimer > 0) {
-            phaseTimer--;
-            return;
-        }
-        
-        // Execute current phase
-        switch (blackholePhase) {
-            case SWAP_TO_BLACKHOLE:
-                // Swap to Blackhole slot
-                client.player.getInventory().setSelectedSlot(blackholeSlot);
-                blackholePhase = BlackholePhase.WAIT_SWAP;
-                phaseTimer = PHASE_WAIT_TICKS;
-                break;
-            
-            case WAIT_SWAP:
-                // Wait complete, now right-click
-                blackholePhase = BlackholePhase.RIGHT_CLICK;
-                break;
-            
-            case RIGHT_CLICK:
-                // Right-click using MouseSimulator (same as FlareCombat)
-                MouseSimulator.simulateRightClick(client);
-                blackholePhase = BlackholePhase.WAIT_CLICK;
-                phaseTimer = PHASE_WAIT_TICKS;
-                break;
-            
-            case WAIT_CLICK:
-                // Click complete, swap back to weapon
-                blackholePhase = BlackholePhase.SWAP_TO_WEAPON;
-                break;
-            
-            case SWAP_TO_WEAPON:
-                // Swap back to weapon
-                client.player.getInventory().setSelectedSlot(weaponSlot);
-                blackholePhase = BlackholePhase.COMPLETE;
-                phaseTimer = 1; // One more tick to complete
-                break;
-            
-            case COMPLETE:
-                // Sequence complete
-                blackholePhase = BlackholePhase.IDLE;
-                blackholeSlot = -1;
-                weaponSlot = -1;
-                break;
-            
-            case IDLE:
-                // Should not happen during sequence
-                break;
+    private static void selectSlot(int slot) {
+        if (client.player != null && slot >= 0) {
+            client.player.getInventory().setSelectedSlot(slot);
         }
     }
     
     /**
      * Perform 3-click attack on the tracked Bezal
      * Aims at the Bezal first, then executes 3 left-clicks with delay
-     * Marks attack completion time for post-attack HP checking
+     * Hands completion back to the client thread for the cooldown and post-attack HP check
      */
     private static void performAttack() {
         if (trackedBezal == null || client.player == null || client.getWindow() == null) {
@@ -524,6 +336,7 @@ public class BezalFarmer {
         
         // Execute clicks in a separate thread to avoid blocking
         new Thread(() -> {
+            boolean completed = false;
             try {
                 int clickCount = BezalFarmerConfig.getClickCount();
                 long clickDelay = BezalFarmerConfig.getClickDelayMs();
@@ -537,13 +350,13 @@ public class BezalFarmer {
                     }
                 }
                 
-                lastAttackTime = System.currentTimeMillis();
-                lastAttackCompletionTime = System.currentTimeMillis(); // Mark attack completion
+                completed = true; // Mark attack completion
                 
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             } finally {
-                isAttacking = false;
+                boolean finished = completed;
+                client.execute(() -> onAttackFinished(finished));
             }
         }).start();
     }
@@ -594,75 +407,34 @@ public class BezalFarmer {
         aimAtBezal();
     }
     
+    /**
+     * Scheduler hook - feature was switched off
+     */
+    public static void onDisabled() {
+        stopAimAssist();
+        BLACKHOLE_SEQUENCE.cancel();
+        HP_CHECK_TIMER.cancel();
+    }
+    
     /**
      * Stop aim assist
      */
     private static void stopAimAssist() {
         isAiming = false;
+        RotationService.release(BezalFarmer.class);
     }
     
     /**
      * Aim the player's camera at the tracked Bezal with smooth interpolation
+     * RotationService follows the Bezal (center at mid-height) on every rendered frame
      */
     private static void aimAtBezal() {
         if (trackedBezal == null || client.player == null) {
             return;
         }
         
-        // Get Bezal position (center of entity at mid-height)
-        Vec3d bezalPos = trackedBezal.getEntityPos().add(0, trackedBezal.getHeight() * 0.5, 0);
-        
-        // Get player eye position
-        Vec3d eyePos = client.player.getEyePos();
-        
-        // Calculate direction vector
-        Vec3d direction = bezalPos.subtract(eyePos);
-        
-        // Calculate horizontal distance
-        double horizontalDistance = Math.sqrt(direction.x * direction.x + direction.z * direction.z);
-        
-        if (horizontalDistance < 0.1) {
-            return;
-        }
-        
-        // Calculate target yaw and pitch
-        float targetYaw = (float) Math.toDegrees(Math.atan2(direction.z, direction.x)) - 90.0f;
-        float targetPitch = (float) -Math.toDegrees(Math.atan2(direction.y, horizontalDistance));
-        
-        // Clamp pitch
-        targetPitch = Math.max(-90.0f, Math.min(90.0f, targetPitch));
-        
-        // Get current rotation
-        float currentYaw = client.player.getYaw();
-        float currentPitch = client.player.getPitch();
-        
-        // Calculate angle differences with proper wrapping
-        float yawDiff = wrapDegrees(targetYaw - currentYaw);
-        float pitchDiff = targetPitch - currentPitch;
-        
-        // Smooth interpolation (0.3f for faster snap when attacking)
-        float smoothingFactor = 0.3f;
-        
-        // Apply smooth rotation
-        float newYaw = currentYaw + (yawDiff * smoothingFactor);
-        float newPitch = currentPitch + (pitchDiff * smoothingFactor);
-        
-        // Apply the rotation
-        client.player.setYaw(newYaw);
-        client.player.setPitch(newPitch);
-    }
-    
-    /**
-     * Wrap angle to [-180, 180] range
-     */
-    private static float wrapDegrees(float degrees) {
-        float wrapped = degrees % 360.0f;
-        if (wrapped > 180.0f) {
-            wrapped -= 360.0f;
-        } else if (wrapped < -180.0f) {
-            wrapped += 360.0f;
-        }
-        return wrapped;
+        // Faster smoothing than Spike Helper for a quicker snap when attacking
+        RotationService.lookAt(BezalFarmer.class, trackedBezal, trackedBezal.getHeight() * 0.5, AIM_SPEED);
     }
     
     /**
@@ -778,17 +550,8 @@ public class BezalFarmer {
             return -1;
         }
         
-        String blackholeItemName = BezalFarmerConfig.getBlackholeItemName();
-        
         // Search all inventory slots (0-8 hotbar, 9-35 main inventory)
-        for (int i = 0; i < 36; i++) {
-            String itemName = client.player.getInventory().getStack(i).getName().getString();
-            if (itemName.contains(blackholeItemName)) {
-                return i;
-            }
-        }
-        
-        return -1; // Not found
+        return InventoryIndex.findFirst(InventoryIndex.BLACKHOLE, 0, InventoryIndex.MAIN_END);
     }
     
 }
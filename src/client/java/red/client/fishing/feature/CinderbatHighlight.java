@@ -5,7 +5,11 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.passive.BatEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import red.client.entity.EntitySnapshot;
+import red.client.entity.TrackedEntitySet;
 import red.client.fishing.config.CinderbatHighlightConfig;
+import red.client.render.OutlineColorRegistry;
+import red.client.tick.TimerWheel;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,25 +17,36 @@ import java.util.List;
 public class CinderbatHighlight {
     private static final MinecraftClient client = MinecraftClient.getInstance();
     private static final List<Entity> trackedCinderbats = new ArrayList<>();
-    private static long lastDebugSummaryTime = 0;
-    private static long lastScanTime = 0;
-    private static final long EMPTY_SCAN_INTERVAL_MS = 500;
-    private static final long TRACKING_SCAN_INTERVAL_MS = 2000;
+    private static final TrackedEntitySet highlightSet = new TrackedEntitySet(); // Render-side view, published each tick
+    private static final long DEBUG_SUMMARY_INTERVAL_MS = 1000;
+    private static final TimerWheel.Timer DEBUG_SUMMARY_COOLDOWN = TimerWheel.timer("Cinderbat debug summary");
 
     public static void tick() {
         if (!CinderbatHighlightConfig.isEnabled() || client.player == null || client.world == null) {
             trackedCinderbats.clear();
+            highlightSet.publishEmpty();
             return;
         }
 
         trackedCinderbats.removeIf(entity -> entity == null || entity.isRemoved() || client.player.distanceTo(entity) > CinderbatHighlightConfig.getDetectionRange());
 
-        long now = System.currentTimeMillis();
-        long scanInterval = trackedCinderbats.isEmpty() ? EMPTY_SCAN_INTERVAL_MS : TRACKING_SCAN_INTERVAL_MS;
-        if (now - lastScanTime >= scanInterval) {
-            scanForCinderbats();
-            lastScanTime = now;
+        // The per-tick snapshot already holds just the bats, so checking them on every run (every
+        // 2 ticks) is cheap and a Cinderbat is picked up within 100ms of its health arriving
+        scanForCinderbats();
+
+        highlightSet.begin();
+        for (int i = 0; i < trackedCinderbats.size(); i++) {
+            highlightSet.add(trackedCinderbats.get(i));
         }
+        highlightSet.publish();
+    }
+
+    /**
+     * Scheduler hook - feature was switched off
+     */
+    public static void onDisabled() {
+        trackedCinderbats.clear();
+        highlightSet.publishEmpty();
     }
 
     private static void scanForCinderbats() {
@@ -42,20 +57,17 @@ public class CinderbatHighlight {
         double range = CinderbatHighlightConfig.getDetectionRange();
         int batsChecked = 0;
         int detectedThisTick = 0;
+        boolean debugDue = CinderbatHighlightConfig.isDebugEnabled() && !DEBUG_SUMMARY_COOLDOWN.isPending();
 
-        for (Entity entity : client.world.getEntities()) {
-            if (!(entity instanceof BatEntity bat)) {
-                continue;
-            }
-
+        for (BatEntity bat : EntitySnapshot.getBats()) {
             batsChecked++;
-            double distance = client.player.distanceTo(entity);
+            double distance = client.player.distanceTo(bat);
 
-            if (entity.isRemoved() || distance > range) {
+            if (bat.isRemoved() || distance > range) {
                 continue;
             }
 
-            if (CinderbatHighlightConfig.isDebugEnabled() && batsChecked <= 5) {
+            if (debugDue && batsChecked <= 5) {
                 String batName = bat.hasCustomName() ? bat.getCustomName().getString() : "<no custom name>";
                 sendMessage(String.format("Bat #%d: dist=%.1f hp=%.1f max=%.1f name='%s'",
                         batsChecked, distance, bat.getHealth(), bat.getMaxHealth(), batName), Formatting.DARK_GRAY);
@@ -63,12 +75,12 @@ public class CinderbatHighlight {
 
             String matchReason = getCinderbatMatchReason(bat);
             if (matchReason != null) {
-                if (!trackedCinderbats.contains(entity)) {
-                    trackedCinderbats.add(entity);
+                if (!trackedCinderbats.contains(bat)) {
+                    trackedCinderbats.add(bat);
                     detectedThisTick++;
-                    int x = (int) Math.floor(entity.getX());
-                    int y = (int) Math.floor(entity.getY());
-                    int z = (int) Math.floor(entity.getZ());
+                    int x = (int) Math.floor(bat.getX());
+                    int y = (int) Math.floor(bat.getY());
+                    int z = (int) Math.floor(bat.getZ());
                     sendMessage(String.format("Cinderbat detected at %d %d %d", x, y, z), Formatting.GOLD);
                     if (CinderbatHighlightConfig.isDebugEnabled()) {
                         sendMessage(String.format("+ Added cinderbat at %.1f blocks (HP: %.0f, reason=%s)",
@@ -78,16 +90,13 @@ public class CinderbatHighlight {
             }
         }
 
-        if (CinderbatHighlightConfig.isDebugEnabled()) {
-            long now = System.currentTimeMillis();
-            if (now - lastDebugSummaryTime >= 1000) {
-                sendMessage(String.format("Scan: bats=%d range=%.0f tracked=%d newlyAdded=%d",
-                        batsChecked, range, trackedCinderbats.size(), detectedThisTick), Formatting.GRAY);
-                if (trackedCinderbats.isEmpty()) {
-                    sendMessage("Still searching - no matched bats cached yet", Formatting.RED);
-                }
-                lastDebugSummaryTime = now;
+        if (debugDue) {
+            sendMessage(String.format("Scan: bats=%d range=%.0f tracked=%d newlyAdded=%d",
+                    batsChecked, range, trackedCinderbats.size(), detectedThisTick), Formatting.GRAY);
+            if (trackedCinderbats.isEmpty()) {
+                sendMessage("Still searching - no matched bats cached yet", Formatting.RED);
             }
+            DEBUG_SUMMARY_COOLDOWN.schedule(DEBUG_SUMMARY_INTERVAL_MS);
         }
     }
 
@@ -107,15 +116,28 @@ public class CinderbatHighlight {
     }
 
     public static boolean isTracked(Entity entity) {
-        return trackedCinderbats.contains(entity);
+        return highlightSet.contains(entity);
     }
 
     public static int getHighlightColor() {
         return 0xFF000000 | (CinderbatHighlightConfig.getHighlightColor() & 0x00FFFFFF);
     }
 
+    /**
+     * Register outline colors for tracked cinderbats (called once per tick)
+     */
+    public static void contributeOutlineColors() {
+        if (!CinderbatHighlightConfig.isEnabled() || !CinderbatHighlightConfig.isHighlightEnabled()) {
+            return;
+        }
+        int color = getHighlightColor();
+        for (int i = 0; i < trackedCinderbats.size(); i++) {
+            OutlineColorRegistry.set(trackedCinderbats.get(i), color);
+        }
+    }
+
     public static boolean hasTrackedCinderbats() {
-        return !trackedCinderbats.isEmpty();
+        return !highlightSet.isEmpty();
     }
 
     public static String getStatusText() {
@@ -132,6 +154,7 @@ public class CinderbatHighlight {
         boolean newState = CinderbatHighlightConfig.toggle();
         if (!newState) {
             trackedCinderbats.clear();
+            highlightSet.publishEmpty();
         }
         sendMessage("Cinderbat Highlight " + (newState ? "enabled" : "disabled"), newState ? Formatting.GREEN : Formatting.RED);
         return newState;
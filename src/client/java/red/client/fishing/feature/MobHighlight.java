@@ -5,11 +5,19 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.decoration.ArmorStandEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import red.client.entity.NametagCache;
+import red.client.entity.NametagIndex;
+import red.client.entity.NametagLinker;
+import red.client.entity.TrackedEntitySet;
 import red.client.fishing.config.MobHighlightConfig;
+import red.client.render.OutlineColorRegistry;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Mob Highlight - Highlights any mob by name pattern
@@ -17,19 +25,56 @@ import java.util.regex.Pattern;
  * Users can specify a mob name (or partial name) and all matching mobs will be highlighted.
  * Example: /highlight bezal will highlight all mobs with "bezal" in their name
  * 
+ * Candidates come from the event-driven NametagIndex: a name tag that starts
+ * matching is picked up the same tick its name arrives, no periodic rescans.
+ * 
  * Performance: Efficient multi-entity tracking with automatic cleanup
  */
 public class MobHighlight {
     private static final MinecraftClient client = MinecraftClient.getInstance();
     
-    // Tracked entities
+    // Tracked entities (parallel lists: trackedMobs.get(i) sits under trackedArmorStands.get(i))
     private static final List<Entity> trackedMobs = new ArrayList<>();
     private static final List<ArmorStandEntity> trackedArmorStands = new ArrayList<>();
+    private static final List<Entity> trackedMobsView = Collections.unmodifiableList(trackedMobs);
+    
+    // Published each tick for the outline mixin (O(1) id lookup, stable for the frame)
+    private static final TrackedEntitySet highlightSet = new TrackedEntitySet();
     
-    private static long lastScanTime = 0;
-    private static final long SCAN_INTERVAL_MS = 1000; // Rescan every second
+    // Name tags currently matching the pattern, maintained by the NametagIndex listener
+    private static final Set<ArmorStandEntity> candidateStands = new LinkedHashSet<>();
     
-    private static Pattern mobNamePattern = null;
+    private static String patternSource = null;
+    private static String targetLower = null; // Lowercase target, matched against cached lowercase names
+    
+    private static final NametagIndex.Listener NAMETAG_LISTENER = new NametagIndex.Listener() {
+        @Override
+        public void onNametagChanged(ArmorStandEntity stand, String name) {
+            if (matchesTarget(stand)) {
+                candidateStands.add(stand);
+            } else {
+                candidateStands.remove(stand);
+            }
+        }
+        
+        @Override
+        public void onNametagRemoved(ArmorStandEntity stand) {
+            candidateStands.remove(stand);
+        }
+        
+        @Override
+        public void onNametagsCleared() {
+            candidateStands.clear();
+            clearTrackedMobs();
+        }
+    };
+    
+    /**
+     * Subscribe to name tag changes - called once during client init
+     */
+    public static void register() {
+        NametagIndex.subscribe(NAMETAG_LISTENER);
+    }
     
     /**
      * Tick update - called every game tick
@@ -37,6 +82,7 @@ public class MobHighlight {
      */
     public static void tick() {
         if (!MobHighlightConfig.isEnabled() || client.player == null || client.world == null) {
+            highlightSet.publishEmpty();
             return;
         }
         
@@ -48,153 +94,154 @@ public class MobHighlight {
         }
         
         // Update pattern if target name changed
-        updatePattern(targetName);
+        if (!targetName.equals(patternSource)) {
+            updatePattern(targetName);
+        }
         
         // Validate currently tracked mobs
         validateTrackedMobs();
         
-        // Scan for new mobs periodically
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastScanTime >= SCAN_INTERVAL_MS) {
-            scanForMobs();
-            lastScanTime = currentTime;
+        // Link matching name tags that came into range
+        trackCandidates();
+        
+        publishTrackedMobs();
+    }
+    
+    /**
+     * Scheduler hook - feature was switched off
+     */
+    public static void onDisabled() {
+        highlightSet.publishEmpty();
+    }
+    
+    /**
+     * Hand this tick's tracked mobs to the render side
+     */
+    private static void publishTrackedMobs() {
+        highlightSet.begin();
+        for (int i = 0; i < trackedMobs.size(); i++) {
+            highlightSet.add(trackedMobs.get(i));
         }
+        highlightSet.publish();
     }
     
     /**
-     * Update the pattern for matching mob names
+     * Update the target for matching mob names and re-seed candidates from the index
      */
     private static void updatePattern(String targetName) {
-        try {
-            // Case-insensitive pattern that matches mob names containing the target string
-            String patternStr = "(?i).*" + Pattern.quote(targetName) + ".*";
-            mobNamePattern = Pattern.compile(patternStr);
-        } catch (Exception e) {
-            sendMessage("Invalid mob name pattern: " + e.getMessage(), Formatting.RED);
-            mobNamePattern = null;
+        patternSource = targetName;
+        targetLower = targetName.toLowerCase(Locale.ROOT);
+        candidateStands.clear();
+        clearTrackedMobs();
+        
+        // One pass over the indexed name tags, events keep the set current afterwards
+        for (ArmorStandEntity stand : NametagIndex.getNamedStands()) {
+            if (matchesTarget(stand)) {
+                candidateStands.add(stand);
+            }
         }
     }
     
+    /**
+     * Case-insensitive "name contains target" check on the cached parsed name tag
+     */
+    private static boolean matchesTarget(ArmorStandEntity stand) {
+        if (targetLower == null) {
+            return false;
+        }
+        NametagCache.Entry nametag = NametagCache.get(stand);
+        return nametag != null && nametag.lower.contains(targetLower);
+    }
+    
     /**
      * Validate currently tracked mobs (remove dead/removed/out of range entities)
      */
     private static void validateTrackedMobs() {
-        double range = MobHighlightConfig.getDetectionRange();
+        double rangeSq = MobHighlightConfig.getDetectionRange() * MobHighlightConfig.getDetectionRange();
         
-        // Remove invalid mobs
-        trackedMobs.removeIf(entity -> {
-            if (entity == null || entity.isRemoved()) {
-                return true;
-            }
-            if (client.player.distanceTo(entity) > range) {
-                return true;
+        for (int i = trackedMobs.size() - 1; i >= 0; i--) {
+            Entity entity = trackedMobs.get(i);
+            ArmorStandEntity armorStand = trackedArmorStands.get(i);
+            
+            boolean invalid = entity == null || entity.isRemoved()
+                || armorStand.isRemoved()
+                || !candidateStands.contains(armorStand)
+                || client.player.squaredDistanceTo(entity) > rangeSq;
+            
+            if (invalid) {
+                trackedMobs.remove(i);
+                trackedArmorStands.remove(i);
             }
-            return false;
-        });
-        
-        // Remove invalid armor stands
-        trackedArmorStands.removeIf(armorStand -> {
-            return armorStand == null || armorStand.isRemoved();
-        });
+        }
     }
     
     /**
-     * Scan for mobs matching the target name pattern
+     * Track candidate name tags within range that are not tracked yet
      */
-    private static void scanForMobs() {
-        if (client.world == null || client.player == null || mobNamePattern == null) {
+    private static void trackCandidates() {
+        if (candidateStands.isEmpty()) {
             return;
         }
         
-        double range = MobHighlightConfig.getDetectionRange();
-        int mobsFound = 0;
+        double rangeSq = MobHighlightConfig.getDetectionRange() * MobHighlightConfig.getDetectionRange();
+        int newlyTracked = 0;
         
-        // Clear previous tracking
-        trackedMobs.clear();
-        trackedArmorStands.clear();
-        
-        // Iterate through all entities in the world
-        for (Entity entity : client.world.getEntities()) {
-            if (entity != null && entity instanceof ArmorStandEntity && entity.hasCustomName()) {
-                ArmorStandEntity armorStand = (ArmorStandEntity) entity;
-                
-                String name = armorStand.getCustomName().getString();
-                
-                // Check if name matches pattern
-                if (mobNamePattern.matcher(name).find()) {
-                    double distance = client.player.distanceTo(armorStand);
-                    
-                    if (distance <= range) {
-                        mobsFound++;
-                        
-                        // Find the actual entity below the armor stand
-                        Entity actualMob = getEntityBelowArmorStand(armorStand);
-                        
-                        if (actualMob != null) {
-                            trackedMobs.add(actualMob);
-                            trackedArmorStands.add(armorStand);
-                        }
-                    }
-                }
+        for (ArmorStandEntity armorStand : candidateStands) {
+            if (trackedArmorStands.contains(armorStand) || client.player.squaredDistanceTo(armorStand) > rangeSq) {
+                continue;
+            }
+            
+            // Mob below the name tag, cached by the linker
+            Entity actualMob = NametagLinker.resolve(armorStand);
+            
+            if (actualMob != null) {
+                trackedMobs.add(actualMob);
+                trackedArmorStands.add(armorStand);
+                newlyTracked++;
             }
         }
         
-        // Only send messages if we just started tracking or found new mobs
-        if (mobsFound > 0 && trackedMobs.size() != mobsFound) {
+        if (newlyTracked > 0) {
             sendMessage(String.format("Tracking %d mob(s) matching '%s'", 
                 trackedMobs.size(), MobHighlightConfig.getTargetMobName()), Formatting.GREEN);
         }
     }
     
-    /**
-     * Get the actual entity that an armor stand represents
-     * Armor stands float above entities showing their health/name
-     */
-    private static Entity getEntityBelowArmorStand(ArmorStandEntity armorStand) {
-        if (client.world == null) {
-            return null;
-        }
-        
-        // Expand bounding box to find entities below the armor stand
-        net.minecraft.util.math.Box searchBox = armorStand.getBoundingBox().expand(0.5, 3.0, 0.5);
-        
-        // Search for any non-armor-stand entity
-        List<Entity> nearbyEntities = client.world.getOtherEntities(armorStand, searchBox, entity -> {
-            boolean isAlive = !entity.isRemoved() && !entity.equals(client.player);
-            boolean isNotArmorStand = !(entity instanceof ArmorStandEntity);
-            return isAlive && isNotArmorStand;
-        });
-        
-        if (!nearbyEntities.isEmpty()) {
-            // Return closest entity to the armor stand
-            return nearbyEntities.stream()
-                .min((e1, e2) -> Double.compare(armorStand.distanceTo(e1), armorStand.distanceTo(e2)))
-                .orElse(null);
-        }
-        
-        return null;
-    }
-    
     /**
      * Clear all tracked mobs
      */
     private static void clearTrackedMobs() {
         trackedMobs.clear();
         trackedArmorStands.clear();
+        highlightSet.publishEmpty();
     }
     
     /**
-     * Get all tracked mob entities (for rendering)
+     * Get all tracked mob entities (read-only view, valid until the next tick)
      */
     public static List<Entity> getTrackedMobs() {
-        return new ArrayList<>(trackedMobs); // Return copy for safety
+        return trackedMobsView;
     }
     
     /**
      * Check if an entity is currently being tracked
+     * Called from the hasOutline mixin for every rendered entity
      */
     public static boolean isTrackedMob(Entity entity) {
-        return trackedMobs.contains(entity);
+        return highlightSet.contains(entity);
+    }
+    
+    /**
+     * Register outline colors for tracked mobs (called once per tick)
+     */
+    public static void contributeOutlineColors() {
+        if (!MobHighlightConfig.isEnabled()) {
+            return;
+        }
+        int color = MobHighlightConfig.getHighlightColor();
+        for (int i = 0; i < trackedMobs.size(); i++) {
+            OutlineColorRegistry.set(trackedMobs.get(i), color);
+        }
     }
     
     /**
@@ -6,14 +6,15 @@ import net.minecraft.entity.decoration.ArmorStandEntity;
 import net.minecraft.entity.passive.PufferfishEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
-import net.minecraft.util.math.Box;
-import net.minecraft.util.math.Vec3d;
+import red.client.entity.NametagCache;
+import red.client.entity.NametagIndex;
+import red.client.entity.NametagLinker;
 import red.client.fishing.config.SpikeHelperConfig;
+import red.client.render.OutlineColorRegistry;
+import red.client.rotation.RotationService;
 
-import java.util.Comparator;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Spike Helper - Assists with catching Spike sea creatures
@@ -23,23 +24,59 @@ import java.util.regex.Pattern;
  * - Red: Too close (< 9 blocks)
  * - Green: Correct distance (~9 blocks within tolerance)
  * 
+ * Spike name tags are collected by a NametagIndex listener, so a new Spike is
+ * picked up the tick its name tag arrives instead of on a rescan interval.
+ * 
  * Performance: Lightweight single-entity tracking with automatic switching
  */
 public class SpikeHelper {
     private static final MinecraftClient client = MinecraftClient.getInstance();
     
-    // Spike detection pattern - matches "[Lv5] ⸙⚓☮ Spike 150/150❤" format
-    private static final Pattern SPIKE_PATTERN = Pattern.compile("(?i).*spike.*\\d+/\\d+.*");
     private static final double DETECTION_RANGE = 50.0; // Max range to scan for spikes
     
     // Tracked spike entity
     private static Entity trackedSpike = null;
     private static ArmorStandEntity trackedArmorStand = null;
-    private static long lastScanTime = 0;
-    private static final long SCAN_INTERVAL_MS = 1000; // Rescan every second if no spike is tracked
+    
+    // Spike name tags in the world, maintained by the NametagIndex listener
+    private static final Set<ArmorStandEntity> spikeStands = new LinkedHashSet<>();
+    private static ArmorStandEntity unlinkedStand = null; // Last stand with no entity below (avoids repeat messages)
+    
+    private static final NametagIndex.Listener NAMETAG_LISTENER = new NametagIndex.Listener() {
+        @Override
+        public void onNametagChanged(ArmorStandEntity stand, String name) {
+            if (isSpikeArmorStand(stand)) {
+                spikeStands.add(stand);
+            } else {
+                spikeStands.remove(stand);
+            }
+        }
+        
+        @Override
+        public void onNametagRemoved(ArmorStandEntity stand) {
+            spikeStands.remove(stand);
+        }
+        
+        @Override
+        public void onNametagsCleared() {
+            spikeStands.clear();
+            unlinkedStand = null;
+        }
+    };
     
     // Aim Assist state
     private static boolean isAiming = false;
+    private static final float AIM_SPEED = 0.15f;         // Per-tick smoothing, very smooth like FishMaster's RENDER_SMOOTHING
+    private static final double MIN_AIM_DISTANCE = 1.0;   // Horizontal blocks, closer than this the aim jitters
+    private static final float MIN_AIM_PITCH = -60.0f;
+    private static final float MAX_AIM_PITCH = 45.0f;
+    
+    /**
+     * Subscribe to name tag changes - called once during client init
+     */
+    public static void register() {
+        NametagIndex.subscribe(NAMETAG_LISTENER);
+    }
     
     /**
      * Tick update - called every game tick
@@ -59,12 +96,10 @@ public class SpikeHelper {
             }
         }
         
-        // If no tracked spike, scan for a new one (with rate limiting)
+        // If no tracked spike, pick the closest known Spike name tag
         if (trackedSpike == null) {
-            long currentTime = System.currentTimeMillis();
-            if (currentTime - lastScanTime >= SCAN_INTERVAL_MS) {
+            if (!spikeStands.isEmpty()) {
                 scanForClosestSpike();
-                lastScanTime = currentTime;
             }
             stopAimAssist(); // No spike to aim at
         } else {
@@ -110,8 +145,7 @@ public class SpikeHelper {
     }
     
     /**
-     * Scan for the closest Spike entity in range
-     * Uses the same scanning method as FlareMacroFeature
+     * Pick the closest Spike in range from the name tags collected by the listener
      */
     private static void scanForClosestSpike() {
         if (client.world == null || client.player == null) {
@@ -119,62 +153,40 @@ public class SpikeHelper {
         }
         
         ArmorStandEntity closestArmorStand = null;
-        double closestDistance = DETECTION_RANGE;
-        int spikesFound = 0;
-        int armorStandsChecked = 0;
+        double closestDistanceSq = DETECTION_RANGE * DETECTION_RANGE;
         
-        // Iterate through all entities in the world (same as FlareMacroFeature)
-        for (Entity entity : client.world.getEntities()) {
-            if (entity != null && entity instanceof ArmorStandEntity && entity.hasCustomName()) {
-                ArmorStandEntity armorStand = (ArmorStandEntity) entity;
-                armorStandsChecked++;
-                
-                String name = armorStand.getCustomName().getString();
-                
-                // Debug: Show first few armor stand names being checked
-                if (armorStandsChecked <= 3) {
-                    sendMessage(String.format("Checking armor stand: '%s'", name), Formatting.GRAY);
-                }
-                
-                if (isSpikeArmorStand(armorStand)) {
-                    spikesFound++;
-                    double distance = client.player.distanceTo(armorStand);
-                    
-                    // Debug message for each Spike found
-                    sendMessage(String.format("Found Spike armor stand #%d at %.1f blocks: '%s'", 
-                        spikesFound, distance, name), Formatting.YELLOW);
-                    
-                    if (distance <= DETECTION_RANGE && distance < closestDistance) {
-                        closestArmorStand = armorStand;
-                        closestDistance = distance;
-                    }
-                }
+        for (ArmorStandEntity armorStand : spikeStands) {
+            if (!isSpikeArmorStand(armorStand)) {
+                continue;
+            }
+            
+            double distanceSq = client.player.squaredDistanceTo(armorStand);
+            if (distanceSq < closestDistanceSq) {
+                closestArmorStand = armorStand;
+                closestDistanceSq = distanceSq;
             }
         }
         
-        sendMessage(String.format("Scan complete: checked %d armor stands, found %d Spikes", 
-            armorStandsChecked, spikesFound), Formatting.GRAY);
-        
+        // Nothing in range
         if (closestArmorStand == null) {
-            if (spikesFound > 0) {
-                sendMessage(String.format("Found %d Spike(s) but all outside detection range (%.0f blocks)", 
-                    spikesFound, DETECTION_RANGE), Formatting.RED);
-            }
             return;
         }
         
-        // Find the actual entity below the armor stand
-        sendMessage(String.format("Closest Spike armor stand at %.1f blocks - searching for entity below...", 
-            closestDistance), Formatting.AQUA);
+        double closestDistance = Math.sqrt(closestDistanceSq);
         
-        Entity actualSpike = getEntityBelowArmorStand(closestArmorStand);
+        // Spikes are pufferfish - prefer them when the linker has to search
+        Entity actualSpike = NametagLinker.resolve(closestArmorStand, PufferfishEntity.class);
         
         if (actualSpike != null) {
             trackedSpike = actualSpike;
             trackedArmorStand = closestArmorStand;
+            unlinkedStand = null;
+            sendMessage(String.format("Closest Spike armor stand at %.1f blocks", closestDistance), Formatting.AQUA);
             sendMessage(String.format("✓ Now tracking Spike entity (Type: %s) - Stand exactly 9 blocks away!", 
                 actualSpike.getType().toString()), Formatting.GREEN);
-        } else {
+        } else if (closestArmorStand != unlinkedStand) {
+            // Keep retrying every tick, but only report each stand once
+            unlinkedStand = closestArmorStand;
             sendMessage("✗ Could not find entity below armor stand - highlighting may not work!", Formatting.RED);
         }
     }
@@ -183,68 +195,16 @@ public class SpikeHelper {
      * Check if an armor stand is a Spike entity name tag
      */
     private static boolean isSpikeArmorStand(ArmorStandEntity armorStand) {
-        if (armorStand == null || !armorStand.hasCustomName()) {
+        // Matches "[Lv5] ⸙⚓☮ Spike 150/150❤" via the shared parsed name tag
+        NametagCache.Entry nametag = NametagCache.get(armorStand);
+        if (nametag == null) {
             return false;
         }
         
-        String name = armorStand.getCustomName().getString();
-        Matcher matcher = SPIKE_PATTERN.matcher(name);
-        boolean matches = matcher.find();
-        boolean notPlayer = !name.toLowerCase().contains(client.player.getName().getString().toLowerCase());
-        
-        // Debug first match attempt
-        if (matches && notPlayer) {
-            sendMessage(String.format("✓ Pattern matched: '%s'", name), Formatting.GREEN);
-        }
-        
         // Must contain "Spike" and health format
-        return matches && notPlayer;
-    }
-    
-    /**
-     * Get the actual entity that an armor stand represents
-     * Armor stands float above sea creatures showing their health
-     * Spikes are pufferfish entities in Minecraft
-     */
-    private static Entity getEntityBelowArmorStand(ArmorStandEntity armorStand) {
-        if (client.world == null) {
-            return null;
-        }
-        
-        // Expand bounding box to find entities below the armor stand
-        Box searchBox = armorStand.getBoundingBox().expand(0.5, 3.0, 0.5);
-        
-        // First try to find pufferfish specifically (Spikes are pufferfish)
-        List<Entity> nearbyPufferfish = client.world.getOtherEntities(armorStand, searchBox, entity -> {
-            return entity instanceof PufferfishEntity && !entity.isRemoved();
-        });
-        
-        if (!nearbyPufferfish.isEmpty()) {
-            sendMessage("Found pufferfish entity below armor stand!", Formatting.AQUA);
-            // Return closest pufferfish to the armor stand
-            return nearbyPufferfish.stream()
-                .min(Comparator.comparingDouble(entity -> armorStand.distanceTo(entity)))
-                .orElse(null);
-        }
-        
-        // Fallback: search for any entity (for debugging)
-        List<Entity> nearbyEntities = client.world.getOtherEntities(armorStand, searchBox, entity -> {
-            boolean isAlive = !entity.isRemoved() && !entity.equals(client.player);
-            boolean isNotArmorStand = !(entity instanceof ArmorStandEntity);
-            return isAlive && isNotArmorStand;
-        });
-        
-        if (!nearbyEntities.isEmpty()) {
-            Entity found = nearbyEntities.stream()
-                .min(Comparator.comparingDouble(entity -> armorStand.distanceTo(entity)))
-                .orElse(null);
-            if (found != null) {
-                sendMessage("Found non-pufferfish entity: " + found.getType().toString(), Formatting.YELLOW);
-            }
-            return found;
-        }
-        
-        return null;
+        return nametag.has(NametagCache.FLAG_HEALTH)
+            && !nametag.has(NametagCache.FLAG_PLAYER_NAME)
+            && nametag.lower.contains("spike");
     }
     
     /**
@@ -307,6 +267,15 @@ public class SpikeHelper {
         }
     }
     
+    /**
+     * Register the outline color for the tracked spike (called once per tick)
+     */
+    public static void contributeOutlineColors() {
+        if (SpikeHelperConfig.isEnabled() && SpikeHelperConfig.isHighlightEnabled() && trackedSpike != null) {
+            OutlineColorRegistry.set(trackedSpike, getHighlightColor());
+        }
+    }
+    
     /**
      * Toggle enabled state
      */
@@ -390,6 +359,13 @@ public class SpikeHelper {
         aimAtSpike();
     }
     
+    /**
+     * Scheduler hook - feature was switched off
+     */
+    public static void onDisabled() {
+        stopAimAssist();
+    }
+    
     /**
      * Stop aim assist and restore player state
      */
@@ -400,71 +376,28 @@ public class SpikeHelper {
         
         // Reset state
         isAiming = false;
+        RotationService.release(SpikeHelper.class);
     }
     
     /**
      * Aim the player's camera at the tracked spike with smooth interpolation
+     * RotationService follows the spike (center at mid-height) on every rendered frame
      */
     private static void aimAtSpike() {
         if (trackedSpike == null || client.player == null) {
             return;
         }
         
-        // Get spike position (center of entity at mid-height for better aiming)
-        Vec3d spikePos = trackedSpike.getEntityPos().add(0, trackedSpike.getHeight() * 0.5, 0);
-        
-        // Get player eye position
-        Vec3d eyePos = client.player.getEyePos();
-        
-        // Calculate direction vector
-        Vec3d direction = spikePos.subtract(eyePos);
-        
-        // Calculate horizontal distance for proper pitch calculation
-        double horizontalDistance = Math.sqrt(direction.x * direction.x + direction.z * direction.z);
-        
         // Prevent aiming issues when too close
-        if (horizontalDistance < 1.0) {
+        double dx = trackedSpike.getX() - client.player.getX();
+        double dz = trackedSpike.getZ() - client.player.getZ();
+        if (dx * dx + dz * dz < MIN_AIM_DISTANCE * MIN_AIM_DISTANCE) {
+            RotationService.release(SpikeHelper.class);
             return;
         }
         
-        // Calculate target yaw and pitch
-        float targetYaw = (float) Math.toDegrees(Math.atan2(direction.z, direction.x)) - 90.0f;
-        float targetPitch = (float) -Math.toDegrees(Math.atan2(direction.y, horizontalDistance));
-        
-        // Clamp pitch to reasonable range (prevent extreme angles)
-        targetPitch = Math.max(-60.0f, Math.min(45.0f, targetPitch));
-        
-        // Get current rotation
-        float currentYaw = client.player.getYaw();
-        float currentPitch = client.player.getPitch();
-        
-        // Calculate angle differences with proper wrapping for yaw
-        float yawDiff = wrapDegrees(targetYaw - currentYaw);
-        float pitchDiff = targetPitch - currentPitch;
-        
-        // Smooth interpolation factor (lower = smoother, higher = faster)
-        // Using 0.15f for very smooth, natural movement similar to FishMaster's RENDER_SMOOTHING
-        float smoothingFactor = 0.15f;
-        
-        // Apply smooth rotation with interpolation
-        float newYaw = currentYaw + (yawDiff * smoothingFactor);
-        float newPitch = currentPitch + (pitchDiff * smoothingFactor);
-        
-        // Apply the rotation
-        client.player.setYaw(newYaw);
-        client.player.setPitch(newPitch);
-    }
-    
-    /**
-     * Wrap angle to [-180, 180] range to prevent 360° jumps
-     */
-    private static float wrapDegrees(float degrees) {
-        float wrapped = degrees % 360.0f;
-        if (wrapped > 180.0f) {
-            wrapped -= 360.0f;
-        } else if (wrapped < -180.0f) {
-            wrapped += 360.0f;
-        }
-        return wrapped;
+        // Pitch kept in a reasonable range (prevent extreme angles)
+        RotationService.lookAt(SpikeHelper.class, trackedSpike, trackedSpike.getHeight() * 0.5, AIM_SPEED,
+            MIN_AIM_PITCH, MAX_AIM_PITCH);
     }
 }
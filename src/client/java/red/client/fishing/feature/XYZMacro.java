@@ -1,17 +1,10 @@
 package red.client.fishing.feature;
 
-import net.minecraft.client.MinecraftClient;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.decoration.ArmorStandEntity;
-import net.minecraft.text.Text;
-import net.minecraft.util.Formatting;
-import net.minecraft.util.math.Vec3d;
-import red.client.fishing.config.XYZConfig;
-import red.client.flarecombat.util.MouseSimulator;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Locale;
+import red.client.chat.ChatEventBus;
+import red.client.entity.EntityIdSet;
+import red.client.sequence.ActionSequencer;
+import red.client.world.GameView;
+import red.client.world.GameViews;
 
 /**
  * XYZ Macro - Automates catching XYZ mobs with lasso
@@ -19,21 +12,20 @@ import java.util.Locale;
  * 
  * Key fixes:
  * 1. Uses rotation tracking to lock onto mobs during lasso throw
- * 2. REEL state waits for "REEL" indicator in armor stand name
- * 3. Schedules 50ms delay before actually reeling
- * 4. CONFIRM_REEL goes back to REEL state (not REEL_IN) if still seeing indicator
+ * 2. The "Reel indicator" step waits for "REEL" indicator in armor stand name
+ * 3. Waits one tick (50ms) before actually reeling
+ * 4. After reeling, waits for the indicator to disappear and goes back to "Reel indicator"
+ *
+ * The throw/reel cycle is a declared ActionSequencer sequence (LASSO_SEQUENCE);
+ * tick() only finds targets and watches for escapes. Mobs are tracked by
+ * entity id; world reads, aiming and clicks go through GameView.
  */
 public class XYZMacro {
-    private static final MinecraftClient client = MinecraftClient.getInstance();
-    
+
     // Macro state machine - must match Cobalt's exact flow
     private enum State {
         FIND_MOB,
-        ROTATE,
-        THROW_LASSO,
-        REEL,           // Wait for REEL indicator + keep tracking
-        REEL_IN,        // Perform the actual reel after delay
-        CONFIRM_REEL,   // Wait for REEL to disappear
+        CATCHING,       // LASSO_SEQUENCE: rotate, throw, reel until caught or escaped
         HANDLE_DEATH,
         EASE_BACK
     }
@@ -41,35 +33,42 @@ public class XYZMacro {
     // State tracking
     private static boolean enabled = false;
     private static State state = State.FIND_MOB;
-    private static long delayUntil = 0; // Timestamp when delay expires
-    private static boolean isRotating = false; // Track if rotation is in progress
-    private static boolean isTracking = false; // Track if tracking target
     
-    // Smooth rotation tracking
-    private static float targetYaw = 0f;
-    private static float targetPitch = 0f;
-    private static float currentYaw = 0f;
-    private static float currentPitch = 0f;
+    // Smooth rotation (GameView aim, owned as XYZMacro.class)
+    private static final double AIM_Y_OFFSET = 1.0; // Aim slightly above the name tag's feet
+    private static final float SETTLED_DEGREES = 1.0f;
     private static float initialYaw = 0f;      // Store initial angle before tracking
     private static float initialPitch = 0f;    // Store initial angle before tracking
     private static final float ROTATION_SPEED = 0.15f; // Smooth rotation speed (lower = smoother)
     
     // Target tracking
-    private static ArmorStandEntity targetMob = null;
-    private static Vec3d ogPos = null;
-    private static Vec3d returnTarget = null;
-    private static long lastThrow = 0;
-    private static final List<ArmorStandEntity> blacklisted = new ArrayList<>();
+    private static int targetMob = GameView.NO_ENTITY;
+    private static boolean thrown = false; // ogX/Y/Z hold the mob's position at the throw
+    private static double ogX;
+    private static double ogY;
+    private static double ogZ;
+    private static final EntityIdSet blacklisted = new EntityIdSet();
     
     // Detection constants
-    private static final double DETECTION_RANGE = 15.0;
+    public static final double DETECTION_RANGE = 15.0;
     private static final double ESCAPE_DISTANCE = 15.0;
-    private static final long THROW_TIMEOUT_MS = 5000; // 5 seconds
-    private static final long REEL_DELAY_MS = 50; // Delay before reeling (50ms)
+    private static final double REEL_SEARCH_RADIUS = 3.0;
+    private static final int THROW_SETTLE_TICKS = 2; // 100ms after throwing before looking for the indicator
+    private static final int THROW_TIMEOUT_TICKS = 100; // 5 seconds
+    private static final int REEL_DELAY_TICKS = 1; // Delay before reeling (50ms)
     
-    // Target mob names - Cobalt uses "zee" not "zeus"
-    private static final String[] MOB_NAMES = {"exe", "wai", "zee"};
-    private static final String REEL_KEYWORD = "reel";
+    // Throw, then reel every time the REEL indicator shows up; ends via chat (caught/escaped) or the timeout
+    private static final ActionSequencer.Sequence LASSO_SEQUENCE = ActionSequencer.sequence("XYZ lasso")
+        .holdWhile(() -> GameViews.get().isScreenOpen())
+        .waitUntil("Aim", XYZMacro::aimAtTarget)
+        .run("Throw", XYZMacro::throwLasso)
+        .waitTicks("Throw settle", THROW_SETTLE_TICKS)
+        .waitUntil("Reel indicator", XYZMacro::trackUntilReelIndicator, THROW_TIMEOUT_TICKS, XYZMacro::onThrowTimeout)
+        .waitTicks("Reel delay", REEL_DELAY_TICKS)
+        .run("Reel", XYZMacro::reel)
+        .waitTicks("Reel settle", 1)
+        .waitUntil("Indicator gone", () -> !hasReelIndicator())
+        .repeatFrom("Reel indicator", () -> true);
     
     /**
      * Toggle the macro on/off
@@ -87,23 +86,15 @@ public class XYZMacro {
      * Start the macro
      */
     public static void start() {
-        if (client.player == null) {
+        if (!GameViews.get().isInGame()) {
             return;
         }
         
         enabled = true;
         state = State.FIND_MOB;
-        targetMob = null;
+        targetMob = GameView.NO_ENTITY;
         blacklisted.clear();
-        delayUntil = 0;
-        isRotating = false;
-        isTracking = false;
-        
-        // Initialize rotation state
-        currentYaw = client.player.getYaw();
-        currentPitch = client.player.getPitch();
-        targetYaw = currentYaw;
-        targetPitch = currentPitch;
+        LASSO_SEQUENCE.cancel();
     }
     
     /**
@@ -112,11 +103,10 @@ public class XYZMacro {
     public static void stop() {
         enabled = false;
         state = State.FIND_MOB;
-        targetMob = null;
+        targetMob = GameView.NO_ENTITY;
         blacklisted.clear();
-        delayUntil = 0;
-        isRotating = false;
-        isTracking = false;
+        LASSO_SEQUENCE.cancel();
+        GameViews.get().releaseAim(XYZMacro.class);
     }
     
     /**
@@ -133,154 +123,82 @@ public class XYZMacro {
         if (!enabled) {
             return "Disabled";
         }
+        String step = LASSO_SEQUENCE.getStepName();
+        if (state == State.CATCHING && step != null) {
+            return "Active - " + step;
+        }
         return "Active - " + state.toString().replace("_", " ");
     }
     
     /**
      * Main tick update - called every game tick
-     * CRITICAL: This must NOT block on delays, delays are handled with timestamps
+     * CRITICAL: This must NOT block on delays, the lasso's waits are LASSO_SEQUENCE steps
      */
     public static void tick() {
-        if (!enabled || client.player == null || client.world == null) {
+        GameView view = GameViews.get();
+        if (!enabled || !view.isInGame()) {
             return;
         }
         
         // Don't run if any screen is open
-        if (client.currentScreen != null) {
-            return;
-        }
-        
-        // Check if we're still in delay - if so, don't process state
-        if (System.currentTimeMillis() < delayUntil) {
+        if (view.isScreenOpen()) {
             return;
         }
         
-        // Check if mob escaped
-        if (targetMob != null && ogPos != null) {
-            double distance = targetMob.getEntityPos().distanceTo(ogPos);
-            if (distance > ESCAPE_DISTANCE && state.ordinal() > State.THROW_LASSO.ordinal() && state != State.HANDLE_DEATH) {
+        // Check if mob escaped (og position is set once the lasso is thrown)
+        if (thrown && state == State.CATCHING && view.isEntityPresent(targetMob)) {
+            double dx = view.getEntityX(targetMob) - ogX;
+            double dy = view.getEntityY(targetMob) - ogY;
+            double dz = view.getEntityZ(targetMob) - ogZ;
+            if (dx * dx + dy * dy + dz * dz > ESCAPE_DISTANCE * ESCAPE_DISTANCE) {
+                LASSO_SEQUENCE.cancel();
                 blacklisted.add(targetMob);
-                targetMob = null;
+                targetMob = GameView.NO_ENTITY;
                 state = State.HANDLE_DEATH;
                 return;
             }
         }
         
         // Execute current state
-        processState();
+        processState(view);
     }
     
     /**
      * Process the current state
      */
-    private static void processState() {
+    private static void processState(GameView view) {
         switch (state) {
             case FIND_MOB:
                 // Search for exe/wai/zee mobs
-                targetMob = findMob(MOB_NAMES, DETECTION_RANGE);
-                if (targetMob != null) {
-                    // Save initial rotation before starting to track
-                    if (client.player != null) {
-                        initialYaw = client.player.getYaw();
-                        initialPitch = client.player.getPitch();
-                    }
-                    state = State.ROTATE;
+                targetMob = findMob(view);
+                if (targetMob == GameView.NO_ENTITY && view.isAimSettled(XYZMacro.class, SETTLED_DEGREES)) {
+                    view.releaseAim(XYZMacro.class); // Back at the initial rotation
                 }
-                break;
-                
-            case ROTATE:
-                // Rotate to target mob - keep calling lookAtEntity until rotation complete
-                if (targetMob != null && client.player != null) {
-                    lookAtEntity(targetMob);
-                    // Only transition when rotation is complete
-                    if (!isRotating) {
-                        state = State.THROW_LASSO;
+                if (targetMob != GameView.NO_ENTITY) {
+                    // Save initial rotation before starting to track (keep the old one if still easing back to it)
+                    if (!view.isAimOwner(XYZMacro.class)) {
+                        initialYaw = view.getPlayerYaw();
+                        initialPitch = view.getPlayerPitch();
                     }
+                    thrown = false;
+                    state = State.CATCHING;
+                    LASSO_SEQUENCE.start();
                 }
                 break;
                 
-            case THROW_LASSO:
-                // Rotation complete, throw lasso
-                if (targetMob != null && client.player != null) {
-                    // Save original position
-                    returnTarget = client.player.getEntityPos();
-                    ogPos = targetMob.getEntityPos();
-                    
-                    // Right-click to throw lasso
-                    MouseSimulator.simulateRightClick(client);
-                    
-                    // Schedule delay before state change
-                    delayUntil = System.currentTimeMillis() + 100;
-                    lastThrow = System.currentTimeMillis();
-                    
-                    // Start tracking the target (keep looking at it)
-                    isTracking = true;
-                    
-                    state = State.REEL;
-                }
-                break;
-                
-            case REEL:
-                // Wait for "REEL" indicator to appear near current target
-                boolean hasReel = hasReelIndicator();
-                long timeSinceThrow = System.currentTimeMillis() - lastThrow;
-                
-                // Timeout if REEL doesn't appear within 5 seconds
-                if (timeSinceThrow >= THROW_TIMEOUT_MS && !hasReel) {
+            case CATCHING:
+                // LASSO_SEQUENCE is running; it ends on chat events, an escape or the throw timeout
+                if (!LASSO_SEQUENCE.isRunning()) {
                     state = State.FIND_MOB;
-                    targetMob = null;
-                    isTracking = false;
-                    return;
-                }
-                
-                // Re-enable tracking if not already tracking
-                if (!isTracking && targetMob != null) {
-                    isTracking = true;
-                }
-                
-                // Keep tracking target while waiting
-                if (isTracking && targetMob != null) {
-                    lookAtEntity(targetMob);
-                }
-                
-                // When REEL appears, schedule 50ms delay and move to REEL_IN
-                if (hasReel) {
-                    delayUntil = System.currentTimeMillis() + REEL_DELAY_MS;
-                    lastThrow = System.currentTimeMillis(); // Reset timer
-                    state = State.REEL_IN;
-                }
-                break;
-                
-            case REEL_IN:
-                // After delay passes, right-click to reel in
-                // Stop tracking rotation
-                isTracking = false;
-                
-                // Perform reel
-                MouseSimulator.simulateRightClick(client);
-                state = State.CONFIRM_REEL;
-                break;
-                
-            case CONFIRM_REEL:
-                // Check if reel indicator disappeared near current target
-                // Cobalt's logic: if NO reel found, go back to REEL state
-                boolean stillReeling = hasReelIndicator();
-                if (!stillReeling) {
-                    // REEL indicator gone - go back to REEL state (not HANDLE_DEATH!)
-                    state = State.REEL;
-                } else {
-                    // Still seeing REEL indicator - stay in CONFIRM_REEL (implicit by not changing state)
-                    // This waits for next tick to check again
                 }
                 break;
                 
             case HANDLE_DEATH:
                 // Capture or escape detected via chat - ready for next mob
-                // Smoothly return to initial rotation
-                returnToInitialRotation();
+                // Smoothly return to initial rotation (continues on render frames, released once settled)
+                view.rotateTo(XYZMacro.class, initialYaw, initialPitch, ROTATION_SPEED);
                 state = State.FIND_MOB;
-                targetMob = null;
-                isTracking = false;
+                targetMob = GameView.NO_ENTITY;
                 break;
                 
             case EASE_BACK:
@@ -290,236 +208,135 @@ public class XYZMacro {
         }
     }
     
+    // ===== Lasso steps =====
+    
     /**
-     * Handle chat messages for macro events
+     * Rotate to target mob - keep following it until rotation complete
      */
-    public static void onChat(String message) {
-        if (!enabled) {
-            return;
-        }
-        
-        String lowerMsg = message.toLowerCase(Locale.ROOT);
-        
-        // Check for escape message - Cobalt checks "You didn't" + "escaped"
-        if (lowerMsg.contains("you didn't") && lowerMsg.contains("escaped")) {
-            state = State.FIND_MOB;
-            if (targetMob != null) {
-                blacklisted.add(targetMob);
-                targetMob = null;
-            }
-        }
-        
-        // Check for successful capture - "You caught..." or "You received shard"
-        if ((lowerMsg.contains("you caught") || lowerMsg.contains("you received")) && 
-            lowerMsg.contains("shard") && state != State.HANDLE_DEATH) {
-            if (targetMob != null) {
-                blacklisted.add(targetMob);
-                targetMob = null;
-            }
-            state = State.HANDLE_DEATH;
+    private static boolean aimAtTarget() {
+        GameView view = GameViews.get();
+        if (!view.isEntityPresent(targetMob)) {
+            return false;
         }
+        view.lookAt(XYZMacro.class, targetMob, AIM_Y_OFFSET, ROTATION_SPEED);
+        return view.isAimSettled(XYZMacro.class, SETTLED_DEGREES);
     }
     
     /**
-     * Check if REEL indicator exists near the current target mob
-     * This prevents switching to different mobs mid-capture
+     * Rotation complete, throw lasso
      */
-    private static boolean hasReelIndicator() {
-        if (targetMob == null || client.world == null) {
-            return false;
-        }
-        
-        Vec3d targetPos = targetMob.getEntityPos();
-        double searchRadius = 3.0;
-        
-        for (Entity entity : client.world.getEntities()) {
-            if (!(entity instanceof ArmorStandEntity)) {
-                continue;
-            }
-            
-            ArmorStandEntity stand = (ArmorStandEntity) entity;
-            
-            // Check distance from target mob
-            if (stand.getEntityPos().distanceTo(targetPos) > searchRadius) {
-                continue;
-            }
-            
-            // Get entity name
-            String name = null;
-            if (stand.getCustomName() != null) {
-                name = stand.getCustomName().getString().toLowerCase(Locale.ROOT);
-            } else {
-                name = stand.getDisplayName().getString().toLowerCase(Locale.ROOT);
-            }
-            
-            // Check for REEL keyword
-            if (name.contains(REEL_KEYWORD.toLowerCase(Locale.ROOT))) {
-                return true;
-            }
+    private static void throwLasso() {
+        GameView view = GameViews.get();
+        if (!view.isEntityPresent(targetMob)) {
+            return;
         }
-        
-        return false;
+        // Save original position
+        ogX = view.getEntityX(targetMob);
+        ogY = view.getEntityY(targetMob);
+        ogZ = view.getEntityZ(targetMob);
+        thrown = true;
+        
+        // Right-click to throw lasso
+        view.rightClick();
     }
     
     /**
-     * Find a mob matching the given names within range
-     * Searches through armor stands for matching custom names
+     * Wait for "REEL" indicator to appear near current target, tracking the target meanwhile
      */
-    private static ArmorStandEntity findMob(String[] names, double range) {
-        if (client.world == null || client.player == null) {
-            return null;
-        }
-        
-        ArmorStandEntity closest = null;
-        double closestDistance = range;
-        
-        for (Entity entity : client.world.getEntities()) {
-            if (!(entity instanceof ArmorStandEntity)) {
-                continue;
-            }
-            
-            ArmorStandEntity armorStand = (ArmorStandEntity) entity;
-            
-            // Skip blacklisted mobs
-            if (blacklisted.contains(armorStand)) {
-                continue;
-            }
-            
-            // Get entity name from custom name or display name
-            String entityName = null;
-            if (armorStand.getCustomName() != null) {
-                entityName = armorStand.getCustomName().getString();
-            } else {
-                entityName = armorStand.getDisplayName().getString();
-            }
-            
-            // Check if name contains any of the target keywords
-            String nameLower = entityName.toLowerCase(Locale.ROOT);
-            boolean matches = false;
-            for (String name : names) {
-                if (nameLower.contains(name.toLowerCase(Locale.ROOT))) {
-                    matches = true;
-                    break;
-                }
-            }
-            
-            if (!matches) {
-                continue;
-            }
-            
-            // Check distance
-            double distance = client.player.distanceTo(armorStand);
-            if (distance < closestDistance) {
-                closestDistance = distance;
-                closest = armorStand;
-            }
-        }
-        
-        return closest;
+    private static boolean trackUntilReelIndicator() {
+        boolean hasReel = hasReelIndicator();
+        GameViews.get().lookAt(XYZMacro.class, targetMob, AIM_Y_OFFSET, ROTATION_SPEED);
+        return hasReel;
     }
     
     /**
-     * Look at an entity - smoothly rotates player to face target
-     * Uses interpolation to avoid robotic snapping
+     * REEL didn't appear within 5 seconds
      */
-    private static void lookAtEntity(Entity entity) {
-        if (client.player == null || entity == null) {
-            return;
+    private static void onThrowTimeout() {
+        state = State.FIND_MOB;
+        targetMob = GameView.NO_ENTITY;
+        GameViews.get().releaseAim(XYZMacro.class);
+    }
+    
+    /**
+     * Stop tracking rotation, then right-click to reel in
+     */
+    private static void reel() {
+        GameView view = GameViews.get();
+        view.releaseAim(XYZMacro.class);
+        view.rightClick();
+    }
+    
+    /**
+     * Subscribe to capture chat events - called once during client init
+     * Only delivered while the macro is enabled, otherwise chat is not even parsed for it
+     */
+    public static void register() {
+        ChatEventBus.subscribe(ChatEventBus.Type.ESCAPE, XYZMacro::isEnabled, event -> onEscape());
+        ChatEventBus.subscribe(ChatEventBus.Type.SHARD_CATCH, XYZMacro::isEnabled, event -> onShardCaught());
+    }
+    
+    /**
+     * "You didn't ... escaped" - Cobalt checks "You didn't" + "escaped"
+     */
+    private static void onEscape() {
+        LASSO_SEQUENCE.cancel();
+        state = State.FIND_MOB;
+        if (targetMob != GameView.NO_ENTITY) {
+            blacklisted.add(targetMob);
+            targetMob = GameView.NO_ENTITY;
         }
-        
-        // Target position (slightly above entity center)
-        Vec3d targetPos = entity.getEntityPos().add(0, 1.0, 0);
-        Vec3d eyePos = client.player.getEyePos();
-        Vec3d direction = targetPos.subtract(eyePos);
-        
-        double horizontalDistance = Math.sqrt(direction.x * direction.x + direction.z * direction.z);
-        
-        if (horizontalDistance < 0.1) {
+    }
+    
+    /**
+     * "You caught ... Shard" or "You received ... Shard" - successful capture
+     */
+    private static void onShardCaught() {
+        if (state == State.HANDLE_DEATH) {
             return;
         }
-        
-        // Calculate target rotation
-        targetYaw = (float) Math.toDegrees(Math.atan2(direction.z, direction.x)) - 90.0f;
-        targetPitch = (float) -Math.toDegrees(Math.atan2(direction.y, horizontalDistance));
-        
-        // Clamp target pitch
-        targetPitch = Math.max(-90.0f, Math.min(90.0f, targetPitch));
-        
-        // Get current rotation
-        currentYaw = client.player.getYaw();
-        currentPitch = client.player.getPitch();
-        
-        // Calculate rotation difference
-        float yawDiff = wrapDegrees(targetYaw - currentYaw);
-        float pitchDiff = targetPitch - currentPitch;
-        
-        // Check if rotation is complete (within 1 degree)
-        if (Math.abs(yawDiff) < 1.0f && Math.abs(pitchDiff) < 1.0f) {
-            isRotating = false;
-            return;
+        LASSO_SEQUENCE.cancel();
+        if (targetMob != GameView.NO_ENTITY) {
+            blacklisted.add(targetMob);
+            targetMob = GameView.NO_ENTITY;
         }
-        
-        // Smooth interpolation
-        float newYaw = currentYaw + yawDiff * ROTATION_SPEED;
-        float newPitch = currentPitch + pitchDiff * ROTATION_SPEED;
-        
-        // Clamp new pitch
-        newPitch = Math.max(-90.0f, Math.min(90.0f, newPitch));
-        
-        // Apply smooth rotation
-        client.player.setYaw(newYaw);
-        client.player.setPitch(newPitch);
-        
-        isRotating = true;
+        state = State.HANDLE_DEATH;
     }
     
     /**
-     * Smoothly return to initial rotation angle before tracking started
+     * Check if REEL indicator exists near the current target mob
+     * This prevents switching to different mobs mid-capture
      */
-    private static void returnToInitialRotation() {
-        if (client.player == null) {
-            return;
-        }
-        
-        // Set target to initial rotation
-        targetYaw = initialYaw;
-        targetPitch = initialPitch;
-        
-        // Get current rotation
-        currentYaw = client.player.getYaw();
-        currentPitch = client.player.getPitch();
-        
-        // Calculate rotation difference
-        float yawDiff = wrapDegrees(targetYaw - currentYaw);
-        float pitchDiff = targetPitch - currentPitch;
-        
-        // Check if already at initial rotation (within 1 degree)
-        if (Math.abs(yawDiff) < 1.0f && Math.abs(pitchDiff) < 1.0f) {
-            return;
+    private static boolean hasReelIndicator() {
+        GameView view = GameViews.get();
+        if (!view.isEntityPresent(targetMob)) {
+            return false;
         }
-        
-        // Smooth interpolation back to initial position
-        float newYaw = currentYaw + yawDiff * ROTATION_SPEED;
-        float newPitch = currentPitch + pitchDiff * ROTATION_SPEED;
-        
-        // Clamp new pitch
-        newPitch = Math.max(-90.0f, Math.min(90.0f, newPitch));
-        
-        // Apply smooth rotation
-        client.player.setYaw(newYaw);
-        client.player.setPitch(newPitch);
+        return view.hasReelIndicatorNear(view.getEntityX(targetMob), view.getEntityY(targetMob),
+            view.getEntityZ(targetMob), REEL_SEARCH_RADIUS);
     }
     
     /**
-     * Wrap degrees to [-180, 180] range for proper rotation calculation
+     * Blacklisted name tag ids, copied into the target worker's frame at capture time
      */
-    private static float wrapDegrees(float degrees) {
-        float wrapped = degrees % 360.0f;
-        if (wrapped > 180.0f) {
-            wrapped -= 360.0f;
-        } else if (wrapped < -180.0f) {
-            wrapped += 360.0f;
+    public static void copyBlacklistedIds(EntityIdSet into) {
+        into.addAll(blacklisted);
+    }
+    
+    /**
+     * Closest exe/wai/zee name tag that is not blacklisted
+     * The target worker already matched, excluded and sorted the candidates; the blacklist is re-checked
+     * since it may have grown after the frame was captured
+     */
+    private static int findMob(GameView view) {
+        int count = view.getXyzCandidateCount();
+        for (int i = 0; i < count; i++) {
+            int standId = view.getXyzStandId(i);
+            if (view.isEntityPresent(standId) && !blacklisted.contains(standId)) {
+                return standId;
+            }
         }
-        return wrapped;
+        
+        return GameView.NO_ENTITY;
     }
 }
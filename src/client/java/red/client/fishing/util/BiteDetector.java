@@ -0,0 +1,136 @@
+package red.client.fishing.util;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.projectile.FishingBobberEntity;
+import red.client.entity.NametagCache;
+import red.client.entity.NametagIndex;
+import red.client.world.GameViews;
+
+/**
+ * Bite Detector - Catches the "!!!" bite marker the moment its name arrives
+ *
+ * Listens to NametagIndex, which is fed by the CUSTOM_NAME tracked data mixin,
+ * so the marker is seen while the entity packet is being applied instead of at
+ * the next end-of-tick scan. A marker only counts when it floats over the local
+ * player's own bobber; markers from other players' lines nearby are ignored.
+ *
+ * The bite is stamped with the GameView's monotonic clock, the one the reel
+ * timer and ReelLatency measure against, and bound to the bobber it was seen
+ * over, so a bite is never consumed by a later cast.
+ *
+ * Client thread only.
+ *
+ * Performance: O(1) per name tag update, nothing per tick
+ */
+public final class BiteDetector {
+    private static final long NO_BITE = -1;
+
+    // Marker position relative to the bobber: directly above it, a little higher than the water line
+    private static final double HORIZONTAL_TOLERANCE = 1.5;
+    private static final double BELOW_TOLERANCE = 1.0;
+    private static final double ABOVE_TOLERANCE = 3.0;
+
+    private static long biteAtNanos = NO_BITE;
+    private static int biteHookId = -1;
+    private static int lastMarkerId = -1;
+    private static int ignoredMarkers = 0; // Markers over someone else's bobber (debug)
+    private static boolean registered = false;
+
+    private BiteDetector() {
+    }
+
+    /**
+     * Subscribe to name tag changes - called once during client init
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        NametagIndex.subscribe(new NametagIndex.Listener() {
+            @Override
+            public void onNametagChanged(ArmorStandEntity stand, String name) {
+                onMarkerCandidate(stand);
+            }
+
+            @Override
+            public void onNametagRemoved(ArmorStandEntity stand) {
+                if (stand.getId() == lastMarkerId) {
+                    lastMarkerId = -1;
+                }
+            }
+
+            @Override
+            public void onNametagsCleared() {
+                clear();
+            }
+        });
+    }
+
+    /**
+     * Time of an unconsumed bite on the player's current bobber, consuming it
+     * @return GameView nanoTime() when the marker appeared, or -1
+     */
+    public static long poll() {
+        long bite = biteAtNanos;
+        if (bite == NO_BITE) {
+            return NO_BITE;
+        }
+
+        biteAtNanos = NO_BITE;
+        FishingBobberEntity hook = getOwnHook();
+        return hook != null && hook.getId() == biteHookId ? bite : NO_BITE;
+    }
+
+    /**
+     * Markers ignored because they were not over the player's bobber (debug)
+     */
+    public static int getIgnoredMarkers() {
+        return ignoredMarkers;
+    }
+
+    public static void clear() {
+        biteAtNanos = NO_BITE;
+        biteHookId = -1;
+        lastMarkerId = -1;
+    }
+
+    // ===== Internals =====
+
+    private static void onMarkerCandidate(ArmorStandEntity stand) {
+        NametagCache.Entry nametag = NametagCache.get(stand);
+        if (nametag == null || !nametag.has(NametagCache.FLAG_BITE_MARKER)) {
+            return;
+        }
+
+        // One bite per marker stand, however often its name is re-sent
+        if (stand.getId() == lastMarkerId) {
+            return;
+        }
+
+        FishingBobberEntity hook = getOwnHook();
+        if (hook == null || !isOver(stand, hook)) {
+            ignoredMarkers++;
+            return;
+        }
+
+        lastMarkerId = stand.getId();
+        biteHookId = hook.getId();
+        biteAtNanos = GameViews.get().nanoTime();
+    }
+
+    private static boolean isOver(ArmorStandEntity stand, FishingBobberEntity hook) {
+        double dx = stand.getX() - hook.getX();
+        double dz = stand.getZ() - hook.getZ();
+        double dy = stand.getY() - hook.getY();
+        return dx * dx + dz * dz <= HORIZONTAL_TOLERANCE * HORIZONTAL_TOLERANCE
+            && dy >= -BELOW_TOLERANCE && dy <= ABOVE_TOLERANCE;
+    }
+
+    private static FishingBobberEntity getOwnHook() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        return client.player != null ? client.player.fishHook : null;
+    }
+}
@@ -0,0 +1,87 @@
+package red.client.fishing.util;
+
+import java.util.Arrays;
+
+/**
+ * Reel Latency - Bite-to-reel timing of the last catches
+ *
+ * For every catch AutoFishingFeature records how long after the bite marker
+ * appeared the reel click went out, next to the delay it was aiming for (the
+ * randomized reeling delay). /fish latency shows how far the two drift apart,
+ * which is the tick alignment cost on top of FishConfig's reeling delay.
+ *
+ * Client thread only.
+ *
+ * Performance: O(1) and allocation-free per recorded catch
+ */
+public final class ReelLatency {
+    public static final int WINDOW = 100;
+
+    private static final long[] actual = new long[WINDOW];
+    private static final long[] target = new long[WINDOW];
+    private static int next;
+    private static int count;
+
+    /**
+     * Summary over the current window (all values in milliseconds)
+     * @param error actual - target; positive means the reel went out late
+     */
+    public record Stats(int catches, long meanActual, long meanTarget,
+                        long p50Error, long p99Error, long minError, long maxError) {
+    }
+
+    private ReelLatency() {
+    }
+
+    /**
+     * Record one catch
+     * @param actualMillis bite marker to reel click
+     * @param targetMillis reeling delay the macro was waiting for
+     */
+    public static void record(long actualMillis, long targetMillis) {
+        actual[next] = actualMillis;
+        target[next] = targetMillis;
+        next = next + 1 == WINDOW ? 0 : next + 1;
+        if (count < WINDOW) {
+            count++;
+        }
+    }
+
+    public static int getCount() {
+        return count;
+    }
+
+    public static void reset() {
+        next = 0;
+        count = 0;
+    }
+
+    /**
+     * Statistics over the recorded catches, or null if there are none
+     */
+    public static Stats stats() {
+        if (count == 0) {
+            return null;
+        }
+
+        long[] errors = new long[count];
+        long totalActual = 0;
+        long totalTarget = 0;
+        for (int i = 0; i < count; i++) {
+            errors[i] = actual[i] - target[i];
+            totalActual += actual[i];
+            totalTarget += target[i];
+        }
+        Arrays.sort(errors);
+
+        return new Stats(
+            count,
+            totalActual / count,
+            totalTarget / count,
+            errors[(int) Math.min(count - 1, Math.round(0.50 * (count - 1)))],
+            errors[(int) Math.min(count - 1, Math.round(0.99 * (count - 1)))],
+            errors[0],
+            errors[count - 1]
+        );
+    }
+}
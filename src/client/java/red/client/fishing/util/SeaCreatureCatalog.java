@@ -0,0 +1,240 @@
+package red.client.fishing.util;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.text.Text;
+import red.client.util.MultiPatternMatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sea Creature Catalog - Hypixel Skyblock sea creatures with ids and categories
+ *
+ * All names are compiled into one MultiPatternMatcher, so classifying a name tag
+ * is a single pass over the string instead of one contains() per creature.
+ * When several names occur (e.g. "Squid" inside "Night Squid") the longest wins.
+ *
+ * Unnamed entities are classified by their entity type, cached per type.
+ *
+ * Performance: O(name length) per lookup, no allocation for named entities
+ */
+public final class SeaCreatureCatalog {
+    public static final int NONE = MultiPatternMatcher.NO_MATCH;
+
+    /**
+     * Fishing category a creature belongs to
+     */
+    public enum Category {
+        WATER("Water"),
+        LAVA("Lava"),
+        SPOOKY("Spooky"),
+        WINTER("Winter"),
+        SHARK("Shark"),
+        SWAMP("Swamp");
+
+        private final String displayName;
+
+        Category(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+
+    private static final List<String> names = new ArrayList<>();
+    private static final List<Category> categories = new ArrayList<>();
+    private static final MultiPatternMatcher matcher;
+    private static final Set<String> nameSet;
+
+    // Unnamed entities: EntityType -> creature id (or NONE), filled lazily
+    private static final Reference2IntOpenHashMap<EntityType<?>> typeCache = new Reference2IntOpenHashMap<>();
+
+    static {
+        typeCache.defaultReturnValue(Integer.MIN_VALUE);
+
+        // Water - Common
+        add("Squid", Category.WATER);
+        add("Sea Walker", Category.WATER);
+        add("Night Squid", Category.WATER);
+        add("Sea Guardian", Category.WATER);
+        add("Sea Witch", Category.WATER);
+        add("Sea Archer", Category.WATER);
+        add("Sea Leech", Category.WATER);
+
+        // Water - Rare
+        add("Rider of the Deep", Category.WATER);
+        add("Catfish", Category.WATER);
+        add("Carrot King", Category.WATER);
+        add("Sea Emperor", Category.WATER);
+        add("Guardian Defender", Category.WATER);
+        add("Deep Sea Protector", Category.WATER);
+        add("Water Hydra", Category.WATER);
+        add("The Sea Emperor", Category.WATER);
+        add("Agarimoo", Category.WATER);
+
+        // Oasis (fished from water)
+        add("Oasis Rabbit", Category.WATER);
+        add("Oasis Sheep", Category.WATER);
+        add("Water Worm", Category.WATER);
+        add("Poisoned Water Worm", Category.WATER);
+
+        // Spooky
+        add("Scarecrow", Category.SPOOKY);
+        add("Nightmare", Category.SPOOKY);
+        add("Werewolf", Category.SPOOKY);
+        add("Phantom Fisher", Category.SPOOKY);
+        add("Grim Reaper", Category.SPOOKY);
+        add("Abyssal Miner", Category.SPOOKY);
+
+        // Winter
+        add("Frozen Steve", Category.WINTER);
+        add("Frosty", Category.WINTER);
+        add("Grinch", Category.WINTER);
+        add("Yeti", Category.WINTER);
+        add("Nutcracker", Category.WINTER);
+        add("Reindrake", Category.WINTER);
+
+        // Shark
+        add("Nurse Shark", Category.SHARK);
+        add("Blue Shark", Category.SHARK);
+        add("Tiger Shark", Category.SHARK);
+        add("Great White Shark", Category.SHARK);
+
+        // Swamp
+        add("Trash Gobbler", Category.SWAMP);
+        add("Dumpster Diver", Category.SWAMP);
+        add("Bayou Sludge", Category.SWAMP);
+        add("Bayou Sludgling", Category.SWAMP);
+        add("Alligator", Category.SWAMP);
+        add("Snapping Turtle", Category.SWAMP);
+        add("Frog Man", Category.SWAMP);
+        add("Titanoboa", Category.SWAMP);
+        add("Banshee", Category.SWAMP);
+        add("Blue Ringed Octopus", Category.SWAMP);
+        add("Wiki Tiki", Category.SWAMP);
+        add("Bogged", Category.SWAMP);
+        add("Tadgang", Category.SWAMP);
+        add("Wetwing", Category.SWAMP);
+        add("Ent", Category.SWAMP);
+        add("Tidetot", Category.SWAMP);
+
+        // Lava - Common
+        add("Pyroclastic Worm", Category.LAVA);
+        add("Lava Blaze", Category.LAVA);
+        add("Lava Pigman", Category.LAVA);
+        add("Flaming Worm", Category.LAVA);
+
+        // Lava - Rare
+        add("Magma Slug", Category.LAVA);
+        add("Moogma", Category.LAVA);
+        add("Lava Leech", Category.LAVA);
+        add("Lava Flame", Category.LAVA);
+        add("Fire Eel", Category.LAVA);
+        add("Taurus", Category.LAVA);
+        add("Plhlegblast", Category.LAVA);
+        add("Thunder", Category.LAVA);
+        add("Lord Jawbus", Category.LAVA);
+
+        // Case-sensitive like the original contains() checks ("Ent" must not hit "entity")
+        matcher = new MultiPatternMatcher(names.toArray(new String[0]), false);
+        nameSet = Collections.unmodifiableSet(new LinkedHashSet<>(names));
+    }
+
+    private SeaCreatureCatalog() {
+    }
+
+    private static void add(String name, Category category) {
+        names.add(name);
+        categories.add(category);
+    }
+
+    /**
+     * Classify a name (name tag or display name)
+     * @return creature id, or NONE
+     */
+    public static int match(CharSequence name) {
+        return name == null ? NONE : matcher.findLongest(name);
+    }
+
+    /**
+     * Classify an entity by its custom name, or by its type when it has none
+     * @return creature id, or NONE
+     */
+    public static int classify(Entity entity) {
+        if (entity == null) {
+            return NONE;
+        }
+
+        Text customName = entity.getCustomName();
+        if (customName != null) {
+            return match(customName.getString());
+        }
+
+        EntityType<?> type = entity.getType();
+        int cached = typeCache.getInt(type);
+        if (cached == Integer.MIN_VALUE) {
+            cached = match(formatTypeName(type));
+            typeCache.put(type, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Catalogue name for an id
+     */
+    public static String getName(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * Category for an id
+     */
+    public static Category getCategory(int id) {
+        return categories.get(id);
+    }
+
+    /**
+     * Number of creatures in the catalogue
+     */
+    public static int size() {
+        return names.size();
+    }
+
+    /**
+     * All creature names, in catalogue order
+     */
+    public static Set<String> getNames() {
+        return nameSet;
+    }
+
+    /**
+     * Human readable name for an entity type ("entity.minecraft.glow_squid" -> "Glow Squid")
+     */
+    public static String formatTypeName(EntityType<?> type) {
+        String typeName = type.getTranslationKey();
+
+        if (typeName.startsWith("entity.minecraft.")) {
+            typeName = typeName.substring("entity.minecraft.".length());
+        }
+
+        String[] words = typeName.replace("_", " ").split(" ");
+        StringBuilder result = new StringBuilder();
+        for (String word : words) {
+            if (!result.isEmpty()) result.append(" ");
+            if (!word.isEmpty()) {
+                result.append(word.substring(0, 1).toUpperCase());
+                if (word.length() > 1) {
+                    result.append(word.substring(1).toLowerCase());
+                }
+            }
+        }
+        return result.toString();
+    }
+}
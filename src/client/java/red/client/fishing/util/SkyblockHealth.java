@@ -0,0 +1,222 @@
+package red.client.fishing.util;
+
+/**
+ * Skyblock Health - Allocation-free parser for Hypixel health strings
+ *
+ * Understands the formats Skyblock name tags use:
+ * - "150/150", "300k/300k", "1.2m/3m", "2b/2b"
+ * - comma grouping: "1,250/5,000"
+ * - a trailing heart: "Spike 150/150❤", or a single value "300k❤"
+ *
+ * Scans the CharSequence in place and writes primitive results into a
+ * caller-owned Result, so parsing never creates strings, boxes or matchers.
+ * Expects plain text (formatting codes already stripped).
+ *
+ * Performance: O(length), zero allocation per call
+ */
+public final class SkyblockHealth {
+    public static final double UNKNOWN = -1;
+    private static final char HEART = '❤';
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+        1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    /**
+     * Parse output, reused between calls
+     */
+    public static final class Result {
+        public double current = UNKNOWN;
+        public double max = UNKNOWN;
+        public int start = -1; // Index where the health text begins
+        public int end = -1;   // Index just past the health text (suffix included, heart excluded)
+
+        public boolean hasMax() {
+            return max != UNKNOWN;
+        }
+
+        private void reset() {
+            current = UNKNOWN;
+            max = UNKNOWN;
+            start = -1;
+            end = -1;
+        }
+    }
+
+    private SkyblockHealth() {
+    }
+
+    /**
+     * Parse the first health value in the text
+     * A "current/max" pair wins; otherwise a single number followed by a heart
+     * @return true if a value was found (out is reset either way)
+     */
+    public static boolean parse(CharSequence text, Result out) {
+        out.reset();
+        if (text == null) {
+            return false;
+        }
+
+        int length = text.length();
+
+        // "current/max" pair
+        for (int slash = 0; slash < length; slash++) {
+            if (text.charAt(slash) != '/') {
+                continue;
+            }
+
+            int currentStart = numberStartBefore(text, slash);
+            if (currentStart < 0) {
+                continue;
+            }
+            int maxEnd = numberEndAfter(text, slash + 1);
+            if (maxEnd < 0) {
+                continue;
+            }
+
+            double current = parseAmount(text, currentStart, slash);
+            double max = parseAmount(text, slash + 1, maxEnd);
+            if (current == UNKNOWN || max == UNKNOWN) {
+                continue;
+            }
+
+            out.current = current;
+            out.max = max;
+            out.start = currentStart;
+            out.end = maxEnd;
+            return true;
+        }
+
+        // Single "300k❤"
+        for (int heart = 0; heart < length; heart++) {
+            if (text.charAt(heart) != HEART) {
+                continue;
+            }
+
+            int start = numberStartBefore(text, heart);
+            if (start < 0) {
+                continue;
+            }
+
+            double current = parseAmount(text, start, heart);
+            if (current == UNKNOWN) {
+                continue;
+            }
+
+            out.current = current;
+            out.start = start;
+            out.end = heart;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Convenience: current health only
+     * @return the current value, or UNKNOWN
+     */
+    public static double parseCurrent(CharSequence text, Result scratch) {
+        return parse(text, scratch) ? scratch.current : UNKNOWN;
+    }
+
+    /**
+     * Parse one amount like "1,250", "300k" or "1.2m" in text[start, end)
+     * @return the value, or UNKNOWN if the range is not a well-formed amount
+     */
+    public static double parseAmount(CharSequence text, int start, int end) {
+        if (start >= end) {
+            return UNKNOWN;
+        }
+
+        double multiplier = suffixMultiplier(text.charAt(end - 1));
+        if (multiplier != 1.0) {
+            end--;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int decimals = -1; // -1 until a '.' is seen
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == 18) {
+                    return UNKNOWN; // Longer than any real health value
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                digits++;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if (c == '.') {
+                if (decimals >= 0) {
+                    return UNKNOWN;
+                }
+                decimals = 0;
+            } else if (c != ',') {
+                return UNKNOWN;
+            }
+        }
+
+        if (digits == 0) {
+            return UNKNOWN;
+        }
+
+        double value = mantissa;
+        if (decimals > 0) {
+            value /= POWERS_OF_TEN[decimals];
+        }
+        return value * multiplier;
+    }
+
+    // ===== Internals =====
+
+    /**
+     * Start of the amount ending right before index, or -1
+     */
+    private static int numberStartBefore(CharSequence text, int index) {
+        int i = index - 1;
+        if (i >= 0 && suffixMultiplier(text.charAt(i)) != 1.0) {
+            i--;
+        }
+
+        int end = i;
+        while (i >= 0 && isNumberChar(text.charAt(i))) {
+            i--;
+        }
+        return i == end ? -1 : i + 1;
+    }
+
+    /**
+     * End (exclusive) of the amount starting at index, or -1
+     */
+    private static int numberEndAfter(CharSequence text, int index) {
+        int length = text.length();
+        int i = index;
+        while (i < length && isNumberChar(text.charAt(i))) {
+            i++;
+        }
+        if (i == index) {
+            return -1;
+        }
+        if (i < length && suffixMultiplier(text.charAt(i)) != 1.0) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == ',' || c == '.';
+    }
+
+    private static double suffixMultiplier(char c) {
+        return switch (c) {
+            case 'k', 'K' -> 1_000.0;
+            case 'm', 'M' -> 1_000_000.0;
+            case 'b', 'B' -> 1_000_000_000.0;
+            default -> 1.0;
+        };
+    }
+}
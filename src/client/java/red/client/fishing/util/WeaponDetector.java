@@ -1,7 +1,9 @@
 package red.client.fishing.util;
 
 import net.minecraft.item.ItemStack;
+import net.minecraft.registry.tag.ItemTags;
 import net.minecraft.util.Formatting;
+import red.client.inventory.InventoryIndex;
 
 import java.util.Locale;
 import java.util.Set;
@@ -9,6 +11,8 @@ import java.util.Set;
 /**
  * Utility class for detecting weapon types in player inventory
  * Supports Hypixel Skyblock weapons and vanilla weapons
+ * Items are identified by their Skyblock id (InventoryIndex.classify); the keyword sets below
+ * are the fallback for items without one. Slot lookups read InventoryIndex's per-slot table
  */
 public class WeaponDetector {
     
@@ -55,10 +59,13 @@ public class WeaponDetector {
      * Check if item is a Hyperion or variant
      */
     public static boolean isHyperion(ItemStack stack) {
-        if (stack == null || stack.isEmpty()) return false;
-        
-        String displayName = getNormalizedName(stack);
-        
+        return (InventoryIndex.classify(stack) & InventoryIndex.HYPERION) != 0;
+    }
+    
+    /**
+     * Check if a normalized item name (lowercase, formatting stripped) is a Hyperion or variant
+     */
+    public static boolean isHyperionName(String displayName) {
         for (String keyword : HYPERION_KEYWORDS) {
             if (displayName.contains(keyword)) {
                 return true;
@@ -72,10 +79,13 @@ public class WeaponDetector {
      * Check if item is a Fire Veil Wand or variant
      */
     public static boolean isFireVeilWand(ItemStack stack) {
-        if (stack == null || stack.isEmpty()) return false;
-        
-        String displayName = getNormalizedName(stack);
-        
+        return (InventoryIndex.classify(stack) & InventoryIndex.FIRE_VEIL) != 0;
+    }
+    
+    /**
+     * Check if a normalized item name (lowercase, formatting stripped) is a Fire Veil Wand or variant
+     */
+    public static boolean isFireVeilWandName(String displayName) {
         for (String keyword : FIRE_VEIL_KEYWORDS) {
             if (displayName.contains(keyword)) {
                 return true;
@@ -89,23 +99,26 @@ public class WeaponDetector {
      * Check if item is a melee weapon (axe, sword, etc.)
      */
     public static boolean isMeleeWeapon(ItemStack stack) {
-        if (stack == null || stack.isEmpty()) return false;
-        
-        String displayName = getNormalizedName(stack);
-        String itemName = stack.getItem().toString().toLowerCase();
-        
-        // Check against keyword list
+        return (InventoryIndex.classify(stack) & InventoryIndex.MELEE) != 0;
+    }
+    
+    /**
+     * Check if the underlying vanilla item is a sword or axe
+     */
+    public static boolean isVanillaMeleeItem(ItemStack stack) {
+        return stack.isIn(ItemTags.SWORDS) || stack.isIn(ItemTags.AXES);
+    }
+    
+    /**
+     * Check if a normalized item name (lowercase, formatting stripped) matches a melee weapon keyword
+     */
+    public static boolean isMeleeWeaponName(String displayName) {
         for (String keyword : MELEE_KEYWORDS) {
             if (displayName.contains(keyword)) {
                 return true;
             }
         }
         
-        // Check vanilla weapon types
-        if (itemName.contains("sword") || itemName.contains("axe")) {
-            return true;
-        }
-        
         return false;
     }
     
@@ -113,7 +126,7 @@ public class WeaponDetector {
      * Check if item is any RCM weapon (Hyperion or Fire Veil Wand)
      */
     public static boolean isRCMWeapon(ItemStack stack) {
-        return isHyperion(stack) || isFireVeilWand(stack);
+        return (InventoryIndex.classify(stack) & (InventoryIndex.HYPERION | InventoryIndex.FIRE_VEIL)) != 0;
     }
     
     /**
@@ -132,7 +145,7 @@ public class WeaponDetector {
     /**
      * Get normalized item name (lowercase, formatting stripped)
      */
-    private static String getNormalizedName(ItemStack stack) {
+    public static String getNormalizedName(ItemStack stack) {
         String displayName = stack.getName().getString();
         String stripped = Formatting.strip(displayName);
         return (stripped != null ? stripped : displayName).toLowerCase(Locale.ROOT);
@@ -145,23 +158,9 @@ public class WeaponDetector {
     public static int findBestRCMWeaponSlot(net.minecraft.client.MinecraftClient client) {
         if (client.player == null) return -1;
         
-        // Priority 1: Hyperion
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (isHyperion(stack)) {
-                return i;
-            }
-        }
-        
-        // Priority 2: Fire Veil Wand
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (isFireVeilWand(stack)) {
-                return i;
-            }
-        }
-        
-        return -1;
+        // Priority 1: Hyperion, Priority 2: Fire Veil Wand
+        int slot = InventoryIndex.findHotbar(InventoryIndex.HYPERION);
+        return slot != -1 ? slot : InventoryIndex.findHotbar(InventoryIndex.FIRE_VEIL);
     }
     
     /**
@@ -171,13 +170,6 @@ public class WeaponDetector {
     public static int findMeleeWeaponSlot(net.minecraft.client.MinecraftClient client) {
         if (client.player == null) return -1;
         
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (isMeleeWeapon(stack)) {
-                return i;
-            }
-        }
-        
-        return -1;
+        return InventoryIndex.findHotbar(InventoryIndex.MELEE);
     }
 }
@@ -2,11 +2,14 @@ package red.client.flarecombat;
 
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
-import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.minecraft.client.MinecraftClient;
+import red.client.config.ConfigPersistence;
+import red.client.config.ConfigStore;
+import red.client.entity.EntitySnapshot;
 import red.client.flarecombat.command.FlareCommand;
-import red.client.flarecombat.config.FlareConfig;
 import red.client.flarecombat.feature.FlareMacroFeature;
 import red.client.flarecombat.keybind.FlareKeybindings;
+import red.client.tick.TickScheduler;
 
 public class FlareCombatMacro implements ClientModInitializer {
 
@@ -19,8 +22,8 @@ public class FlareCombatMacro implements ClientModInitializer {
         }
 
         try {
-            // Load config
-            FlareConfig.load();
+            // Load config (shared store, a no-op if already loaded)
+            ConfigStore.load();
 
             // Initialize keybindings
             FlareKeybindings.register();
@@ -30,17 +33,15 @@ public class FlareCombatMacro implements ClientModInitializer {
                 FlareCommand.register(dispatcher);
             });
 
-            // Register the main tick event for macro
-            ClientTickEvents.END_CLIENT_TICK.register(client -> {
-                if (client.player != null && client.world != null) {
-                    FlareMacroFeature.tick();
-                }
-            });
+            // Macro tick, skipped entirely while the macro is off
+            TickScheduler.task("FlareMacro", FlareCombatMacro::tickMacro)
+                .enabledWhen(FlareMacroFeature::isEnabled)
+                .register();
 
             // Add shutdown hook for proper cleanup
             Runtime.getRuntime().addShutdownHook(new Thread(() -> {
                 System.out.println("[FlareCombat] Shutting down, saving config...");
-                FlareConfig.save();
+                ConfigPersistence.flush();
             }));
 
             initialized = true;
@@ -51,4 +52,9 @@ public class FlareCombatMacro implements ClientModInitializer {
             e.printStackTrace();
         }
     }
+
+    private static void tickMacro() {
+        EntitySnapshot.update(MinecraftClient.getInstance());
+        FlareMacroFeature.tick();
+    }
 }
@@ -1,88 +1,60 @@
 package red.client.flarecombat.config;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import net.fabricmc.loader.api.FabricLoader;
-
-import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.nio.file.Path;
+import red.client.config.ConfigStore;
 
 public class FlareConfig {
-    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
-    private static final Path CONFIG_DIR = FabricLoader.getInstance().getConfigDir();
-    private static final File CONFIG_FILE = CONFIG_DIR.resolve("flarecombat.json").toFile();
-
-    private static ConfigData data = new ConfigData();
+    private static final ConfigStore.Section<ConfigData> SECTION =
+        ConfigStore.section("flarecombat", ConfigData.class, ConfigData::new);
 
-    public static void load() {
-        if (CONFIG_FILE.exists()) {
-            try (FileReader reader = new FileReader(CONFIG_FILE)) {
-                data = GSON.fromJson(reader, ConfigData.class);
-                if (data == null) {
-                    data = new ConfigData();
-                }
-                System.out.println("[FlareCombat] Config loaded successfully");
-            } catch (Exception e) {
-                System.err.println("[FlareCombat] Failed to load config: " + e.getMessage());
-                data = new ConfigData();
-            }
-        } else {
-            save(); // Create default config
-        }
+    /**
+     * Mark the settings dirty, written behind by ConfigStore
+     */
+    public static void save() {
+        SECTION.markDirty();
     }
 
-    public static void save() {
-        try {
-            CONFIG_DIR.toFile().mkdirs();
-            try (FileWriter writer = new FileWriter(CONFIG_FILE)) {
-                GSON.toJson(data, writer);
-            }
-            System.out.println("[FlareCombat] Config saved successfully");
-        } catch (Exception e) {
-            System.err.println("[FlareCombat] Failed to save config: " + e.getMessage());
-        }
+    private static ConfigData data() {
+        return SECTION.get();
     }
 
     public static int getClickCount() {
-        return data.clickCount;
+        return data().clickCount;
     }
 
     public static void setClickCount(int count) {
-        data.clickCount = count;
+        data().clickCount = count;
         save();
     }
 
     public static int getKeybindCode() {
-        return data.keybindCode;
+        return data().keybindCode;
     }
 
     public static void setKeybindCode(int code) {
-        data.keybindCode = code;
+        data().keybindCode = code;
         save();
     }
 
     public static boolean isUngrabbMouseEnabled() {
-        return data.ungrabMouse;
+        return data().ungrabMouse;
     }
 
     public static void setUngrabMouseEnabled(boolean enabled) {
-        data.ungrabMouse = enabled;
+        data().ungrabMouse = enabled;
         save();
     }
 
     public static int getCombatMode() {
-        return data.combatMode;
+        return data().combatMode;
     }
 
     public static void setCombatMode(int mode) {
-        data.combatMode = mode;
+        data().combatMode = mode;
         save();
     }
 
     public static String getCombatModeName() {
-        switch (data.combatMode) {
+        switch (data().combatMode) {
             case 1:
                 return "Hyperion";
             case 2:
@@ -2,11 +2,14 @@ package red.client.flarecombat.feature;
 
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.entity.Entity;
-import net.minecraft.item.ItemStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import red.client.entity.EntitySnapshot;
 import red.client.flarecombat.config.FlareConfig;
 import red.client.flarecombat.util.MouseSimulator;
+import red.client.inventory.InventoryIndex;
+import red.client.sequence.ActionSequencer;
+import red.client.tick.TimerWheel;
 
 import java.util.Random;
 
@@ -19,10 +22,10 @@ public class FlareMacroFeature {
     // Mouse grab state tracking
     private static boolean mouseWasGrabbed = false;
 
-    // Phase tracking
-    private static MacroPhase currentPhase = MacroPhase.IDLE;
-    private static int phaseTimer = 0;
+    // Loop state (steps run in the sequences below)
     private static int hyperionClickCounter = 0;
+    private static boolean weaponSwapped = false;
+    private static boolean waitingForFlare = false;
 
     // Slots
     private static int overfluxSlot = -1;
@@ -33,43 +36,58 @@ public class FlareMacroFeature {
     // Increased delays with humanization ranges
     private static final int BASE_WAIT = 15; // 750ms base wait (increased from 500ms)
     private static final int WAIT_VARIANCE = 5; // ±250ms variance for humanization
-    private static final int OVERFLUX_INTERVAL = 800; // 40 seconds = 800 ticks
     private static final int CLICK_DELAY_BASE = 4; // 200ms between clicks (increased from 100ms)
     private static final int CLICK_DELAY_VARIANCE = 2; // ±100ms variance
-    private static final long FLARE_DEATH_TIMEOUT_MS = 30_000L;
+    private static final int FLARE_DEATH_TIMEOUT_TICKS = 600; // 30 seconds
+
+    // Cooldowns (measured across sequences)
+    private static final long OVERFLUX_INTERVAL_MS = 40_000L;
     private static final long ATONEMENT_INTERVAL_MS = 20_000L;
-    private static long lastOverfluxTime = 0;
-    private static long macroStartTime = 0;
-    private static long clickOnlyWaitStartTime = 0;
-    private static long lastMissingAtonementWarnAt = 0;
-    private static long lastAtonementUseTime = 0;
+    private static final long MISSING_ATONEMENT_WARN_MS = 3000L;
+    private static final TimerWheel.Timer OVERFLUX_COOLDOWN = TimerWheel.timer("Flare Overflux interval");
+    private static final TimerWheel.Timer ATONEMENT_COOLDOWN = TimerWheel.timer("Flare Atonement interval");
+    private static final TimerWheel.Timer MISSING_ATONEMENT_WARN_COOLDOWN = TimerWheel.timer("Flare Atonement warning");
     private static int clickOnlyClickCounter = 0;
-
-    private static ClickOnlyState clickOnlyState = ClickOnlyState.CLICK_SEQUENCE;
-    private static HealOverrideState healOverrideState = HealOverrideState.IDLE;
-    private static int healTimer = 0;
     private static int healReturnSlot = -1;
 
-    private enum ClickOnlyState {
-        CLICK_SEQUENCE,
-        WAIT_FOR_FLARE_DEATH
-    }
-
-    private enum HealOverrideState {
-        IDLE,
-        WAIT_AFTER_WAND_SWITCH,
-        WAIT_AFTER_HEAL_CLICK
-    }
-
-    private enum MacroPhase {
-        IDLE,
-        OVERFLUX_WAIT_INITIAL,
-        OVERFLUX_SWITCH,
-        OVERFLUX_WAIT_SWITCH,
-        OVERFLUX_CLICK,
-        OVERFLUX_WAIT_CLICK,
-        HYPERION_LOOP
-    }
+    // Overflux phase: swap to the orb, use it, then hand over to the weapon loop
+    private static final ActionSequencer.Sequence OVERFLUX_SEQUENCE = ActionSequencer.sequence("Flare Overflux")
+            .holdWhile(FlareMacroFeature::isLoopHeld)
+            .waitTicks("Initial wait", FlareMacroFeature::getRandomizedWait)
+            .run("Swap to Overflux", FlareMacroFeature::swapToOverflux)
+            .waitTicks("Swap settle", FlareMacroFeature::getRandomizedWait)
+            .run("Use Overflux", FlareMacroFeature::rightClick)
+            .waitTicks("Use settle", FlareMacroFeature::getRandomizedWait)
+            .run("Start weapon loop", FlareMacroFeature::onOverfluxUsed);
+
+    // Weapon loop: Hyperion clicks getClickCount() times per cycle, Fire Veil Wand once
+    private static final ActionSequencer.Sequence WEAPON_SEQUENCE = ActionSequencer.sequence("Flare weapon loop")
+            .holdWhile(FlareMacroFeature::isLoopHeld)
+            .run("Select weapon", FlareMacroFeature::selectWeapon)
+            .waitTicks("Weapon settle", () -> weaponSwapped ? getRandomizedWait() : 0)
+            .run("Click", FlareMacroFeature::clickWeapon)
+            .waitTicks("Click delay", () -> hasWeaponClicksLeft() ? getRandomizedClickDelay() : 0)
+            .repeatFrom("Select weapon", FlareMacroFeature::hasWeaponClicksLeft)
+            .waitTicks("Cycle pause", FlareMacroFeature::getCyclePause)
+            .run("Next cycle", () -> hyperionClickCounter = 0)
+            .repeatFrom("Select weapon", () -> true);
+
+    // Flare detect + click only: click the sequence, then give the Flare 30s to die before clicking again
+    private static final ActionSequencer.Sequence CLICK_ONLY_SEQUENCE = ActionSequencer.sequence("Flare click-only")
+            .holdWhile(FlareMacroFeature::isLoopHeld)
+            .run("Click", FlareMacroFeature::clickOnlyClick)
+            .waitTicks("Click delay", FlareMacroFeature::getRandomizedClickDelay)
+            .repeatFrom("Click", () -> clickOnlyClickCounter < FlareConfig.getClickCount())
+            .waitTicks("Flare death wait", FLARE_DEATH_TIMEOUT_TICKS)
+            .run("Repeat clicks", FlareMacroFeature::onFlareStillAlive)
+            .repeatFrom("Click", () -> true);
+
+    // Wand of Atonement heal, every 20s; the other sequences are held while it runs
+    private static final ActionSequencer.Sequence ATONEMENT_SEQUENCE = ActionSequencer.sequence("Flare Atonement")
+            .run("Swap to Atonement", () -> selectSlot(atonementSlot))
+            .waitTicks("Swap settle", FlareMacroFeature::getRandomizedClickDelay)
+            .run("Heal", FlareMacroFeature::useAtonement)
+            .waitTicks("Heal settle", FlareMacroFeature::getRandomizedClickDelay);
 
     public static void toggle() {
         if (enabled) {
@@ -104,18 +122,15 @@ public class FlareMacroFeature {
         }
 
         enabled = true;
-        currentPhase = clickOnlyMode ? MacroPhase.HYPERION_LOOP : MacroPhase.OVERFLUX_WAIT_INITIAL;
-        phaseTimer = getRandomizedWait();
-        macroStartTime = System.currentTimeMillis();
-        lastOverfluxTime = macroStartTime;
-        hyperionClickCounter = 0;
-        clickOnlyClickCounter = 0;
-        clickOnlyState = ClickOnlyState.CLICK_SEQUENCE;
-        clickOnlyWaitStartTime = 0;
-        healOverrideState = HealOverrideState.IDLE;
-        healTimer = 0;
+        waitingForFlare = false;
+        OVERFLUX_COOLDOWN.schedule(OVERFLUX_INTERVAL_MS);
         healReturnSlot = -1;
-        lastAtonementUseTime = macroStartTime;
+        ATONEMENT_COOLDOWN.schedule(ATONEMENT_INTERVAL_MS);
+        if (clickOnlyMode) {
+            restartClickOnly();
+        } else {
+            OVERFLUX_SEQUENCE.start();
+        }
 
         // Ungrab mouse if enabled in config
         if (FlareConfig.isUngrabbMouseEnabled()) {
@@ -136,19 +151,19 @@ public class FlareMacroFeature {
         }
 
         enabled = false;
-        currentPhase = MacroPhase.IDLE;
-        phaseTimer = 0;
+        OVERFLUX_SEQUENCE.cancel();
+        WEAPON_SEQUENCE.cancel();
+        CLICK_ONLY_SEQUENCE.cancel();
+        ATONEMENT_SEQUENCE.cancel();
         flareEntity = null;
         overfluxSlot = -1;
         hyperionSlot = -1;
         atonementSlot = -1;
+        hyperionClickCounter = 0;
         clickOnlyClickCounter = 0;
-        clickOnlyState = ClickOnlyState.CLICK_SEQUENCE;
-        clickOnlyWaitStartTime = 0;
-        healOverrideState = HealOverrideState.IDLE;
-        healTimer = 0;
         healReturnSlot = -1;
-        lastAtonementUseTime = 0;
+        OVERFLUX_COOLDOWN.cancel();
+        ATONEMENT_COOLDOWN.cancel();
 
         // Restore mouse grab if it was ungrabbed
         if (FlareConfig.isUngrabbMouseEnabled()) {
@@ -162,6 +177,9 @@ public class FlareMacroFeature {
         return enabled;
     }
 
+    /**
+     * Per-tick checks; the phases themselves are advanced by ActionSequencer
+     */
     public static void tick() {
         if (!enabled) {
             return;
@@ -187,158 +205,147 @@ public class FlareMacroFeature {
                 sendMessage("Target updated: " + getEntityDisplayName(flareEntity), Formatting.GREEN);
                 if (isClickOnlyMode()) {
                     // A previous flare is gone and a new one is now available - restart click sequence
-                    clickOnlyState = ClickOnlyState.CLICK_SEQUENCE;
-                    clickOnlyClickCounter = 0;
-                    clickOnlyWaitStartTime = 0;
+                    restartClickOnly();
                 }
                 // Continue with current phase - don't reset the macro
             } else {
-                // No Flare found - wait and try again next tick
-                // Don't stop the macro, just pause until a Flare appears
+                // No Flare found - the sequences hold until a Flare appears
+                // Don't stop the macro, just pause
+                waitingForFlare = true;
                 if (isClickOnlyMode()) {
-                    clickOnlyState = ClickOnlyState.CLICK_SEQUENCE;
-                    clickOnlyClickCounter = 0;
-                    clickOnlyWaitStartTime = 0;
+                    CLICK_ONLY_SEQUENCE.cancel(); // Restarted from the first click for the next Flare
                 }
                 return;
             }
         }
+        waitingForFlare = false;
 
-        // Check if it's time for next Overflux phase (only in non click-only modes)
-        if (!isClickOnlyMode()) {
-            long currentTime = System.currentTimeMillis();
-            long timeSinceLastOverflux = currentTime - lastOverfluxTime;
-            if (timeSinceLastOverflux >= (OVERFLUX_INTERVAL * 50) && currentPhase == MacroPhase.HYPERION_LOOP) {
-                currentPhase = MacroPhase.OVERFLUX_WAIT_INITIAL;
-                phaseTimer = getRandomizedWait();
-                lastOverfluxTime = currentTime;
-                sendMessage("Starting Overflux phase...", Formatting.YELLOW);
-            }
+        // Check if it's time for next Overflux phase (only in non click-only modes, between weapon loop steps)
+        if (!isClickOnlyMode() && WEAPON_SEQUENCE.isRunning() && !OVERFLUX_COOLDOWN.isPending()) {
+            WEAPON_SEQUENCE.cancel();
+            OVERFLUX_SEQUENCE.start();
+            OVERFLUX_COOLDOWN.schedule(OVERFLUX_INTERVAL_MS);
+            sendMessage("Starting Overflux phase...", Formatting.YELLOW);
         }
 
-        // Handle phase timer
-        if (phaseTimer > 0) {
-            phaseTimer--;
-            return;
-        }
-
-        // Execute current phase
-        switch (currentPhase) {
-            case IDLE:
-                // Should not happen during macro execution
-                break;
-
-            case OVERFLUX_WAIT_INITIAL:
-                // Initial wait complete, switch to Overflux
-                currentPhase = MacroPhase.OVERFLUX_SWITCH;
-                break;
-
-            case OVERFLUX_SWITCH:
-                // Switch to Overflux slot
-                if (overfluxSlot != -1) {
-                    client.player.getInventory().setSelectedSlot(overfluxSlot);
-                    currentPhase = MacroPhase.OVERFLUX_WAIT_SWITCH;
-                    phaseTimer = getRandomizedWait();
-                } else {
-                    sendMessage("Overflux slot not found! Stopping...", Formatting.RED);
-                    stop();
+        // Keep the loop of the current combat mode running (the mode can be changed while the macro runs)
+        if (!OVERFLUX_SEQUENCE.isRunning()) {
+            if (isClickOnlyMode()) {
+                WEAPON_SEQUENCE.cancel();
+                if (!CLICK_ONLY_SEQUENCE.isRunning()) {
+                    restartClickOnly();
                 }
-                break;
-
-            case OVERFLUX_WAIT_SWITCH:
-                // Wait after switch complete, now click
-                currentPhase = MacroPhase.OVERFLUX_CLICK;
-                break;
-
-            case OVERFLUX_CLICK:
-                // Right-click Overflux
-                MouseSimulator.simulateRightClick(client);
-                currentPhase = MacroPhase.OVERFLUX_WAIT_CLICK;
-                phaseTimer = getRandomizedWait();
-                break;
-
-            case OVERFLUX_WAIT_CLICK:
-                // Overflux phase complete, move to weapon loop
-                currentPhase = MacroPhase.HYPERION_LOOP;
-                hyperionClickCounter = 0;
-                String modeName = FlareConfig.getCombatModeName();
-                sendMessage("Overflux activated! Starting " + modeName + " loop...", Formatting.GREEN);
-                break;
-
-            case HYPERION_LOOP:
-                // Execute weapon attack loop (Hyperion or Fire Veil Wand)
-                executeWeaponLoop(client);
-                break;
+            } else {
+                CLICK_ONLY_SEQUENCE.cancel();
+                if (!WEAPON_SEQUENCE.isRunning()) {
+                    startWeaponLoop();
+                }
+            }
         }
     }
 
-    private static void executeWeaponLoop(MinecraftClient client) {
-        int combatMode = FlareConfig.getCombatMode();
+    // ===== Sequence steps =====
 
-        // Mode 3: Flare detect + click only (no overflux/weapon checks)
-        if (combatMode == FlareConfig.COMBAT_MODE_FLARE_CLICK_ONLY) {
-            executeClickOnlyLoop(client);
-            return;
+    /**
+     * Sequences do not advance while there is no Flare or the Atonement heal is running
+     */
+    private static boolean isLoopHeld() {
+        return waitingForFlare || ATONEMENT_SEQUENCE.isRunning();
+    }
+
+    private static void swapToOverflux() {
+        if (overfluxSlot != -1) {
+            selectSlot(overfluxSlot);
+        } else {
+            sendMessage("Overflux slot not found! Stopping...", Formatting.RED);
+            stop();
         }
+    }
 
-        // Switch to weapon slot (Hyperion or Fire Veil Wand)
-        if (hyperionSlot != -1 && client.player.getInventory().getSelectedSlot() != hyperionSlot) {
+    private static void onOverfluxUsed() {
+        // Overflux phase complete, move to weapon loop
+        String modeName = FlareConfig.getCombatModeName();
+        sendMessage("Overflux activated! Starting " + modeName + " loop...", Formatting.GREEN);
+        startWeaponLoop();
+    }
+
+    private static void startWeaponLoop() {
+        hyperionClickCounter = 0;
+        WEAPON_SEQUENCE.start();
+    }
+
+    /**
+     * Switch to weapon slot (Hyperion or Fire Veil Wand), the next wait only applies after a switch
+     */
+    private static void selectWeapon() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        weaponSwapped = hyperionSlot != -1 && client.player.getInventory().getSelectedSlot() != hyperionSlot;
+        if (weaponSwapped) {
             client.player.getInventory().setSelectedSlot(hyperionSlot);
-            phaseTimer = getRandomizedWait(); // Wait after switch with humanization
-            return;
         }
+    }
 
-        // Mode 1: Hyperion - Multiple clicks
-        if (combatMode == FlareConfig.COMBAT_MODE_HYPERION) {
-            if (hyperionClickCounter < FlareConfig.getClickCount()) {
-                MouseSimulator.simulateRightClick(client);
-                hyperionClickCounter++;
-                
-                // If we've completed all clicks, set a longer wait before next iteration
-                if (hyperionClickCounter >= FlareConfig.getClickCount()) {
-                    phaseTimer = getRandomizedWait(); // Longer wait after completing all clicks
-                } else {
-                    phaseTimer = getRandomizedClickDelay(); // Short delay between clicks
-                }
-            } else {
-                // All clicks done, reset counter and wait before next loop iteration
-                hyperionClickCounter = 0;
-                phaseTimer = getRandomizedWait();
-            }
-        }
-        // Mode 2: Fire Veil Wand - Single click only
-        else if (combatMode == FlareConfig.COMBAT_MODE_FIRE_VEIL) {
-            MouseSimulator.simulateRightClick(client);
-            phaseTimer = getRandomizedWait(); // Wait before next single click
-        }
+    private static void clickWeapon() {
+        rightClick();
+        hyperionClickCounter++;
     }
 
-    private static void executeClickOnlyLoop(MinecraftClient client) {
-        if (clickOnlyState == ClickOnlyState.CLICK_SEQUENCE) {
-            if (clickOnlyClickCounter < FlareConfig.getClickCount()) {
-                MouseSimulator.simulateRightClick(client);
-                clickOnlyClickCounter++;
-                phaseTimer = getRandomizedClickDelay();
-                return;
-            }
+    private static boolean hasWeaponClicksLeft() {
+        return hyperionClickCounter < getClicksPerCycle();
+    }
 
-            clickOnlyState = ClickOnlyState.WAIT_FOR_FLARE_DEATH;
-            clickOnlyWaitStartTime = System.currentTimeMillis();
-            clickOnlyClickCounter = 0;
-            phaseTimer = 1;
-            return;
-        }
+    /**
+     * Mode 1: Hyperion - multiple clicks, Mode 2: Fire Veil Wand - single click
+     */
+    private static int getClicksPerCycle() {
+        return FlareConfig.getCombatMode() == FlareConfig.COMBAT_MODE_HYPERION ? FlareConfig.getClickCount() : 1;
+    }
 
-        long waited = System.currentTimeMillis() - clickOnlyWaitStartTime;
-        if (waited >= FLARE_DEATH_TIMEOUT_MS) {
-            // Flare still alive after timeout - repeat the same click sequence
-            clickOnlyState = ClickOnlyState.CLICK_SEQUENCE;
-            clickOnlyClickCounter = 0;
-            clickOnlyWaitStartTime = 0;
-            sendMessage("Flare still alive after 30s. Repeating click sequence...", Formatting.YELLOW);
+    /**
+     * Wait between weapon cycles
+     * Hyperion waits twice (after the last click, then again before the next first click), Fire Veil once
+     */
+    private static int getCyclePause() {
+        if (FlareConfig.getCombatMode() == FlareConfig.COMBAT_MODE_HYPERION) {
+            return getRandomizedWait() + getRandomizedWait();
         }
+        return getRandomizedWait();
+    }
+
+    private static void restartClickOnly() {
+        clickOnlyClickCounter = 0;
+        CLICK_ONLY_SEQUENCE.start();
+    }
+
+    private static void clickOnlyClick() {
+        rightClick();
+        clickOnlyClickCounter++;
+    }
+
+    private static void onFlareStillAlive() {
+        // Flare still alive after timeout - repeat the same click sequence
+        clickOnlyClickCounter = 0;
+        sendMessage("Flare still alive after 30s. Repeating click sequence...", Formatting.YELLOW);
+    }
+
+    private static void useAtonement() {
+        rightClick();
+        selectSlot(healReturnSlot);
+        ATONEMENT_COOLDOWN.schedule(ATONEMENT_INTERVAL_MS);
+    }
 
-        phaseTimer = 1;
+    private static void rightClick() {
+        MouseSimulator.simulateRightClick(MinecraftClient.getInstance());
+    }
+
+    /**
+     * Select a hotbar slot unless it is already selected (-1 is ignored)
+     */
+    private static void selectSlot(int slot) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (slot != -1 && client.player != null && client.player.getInventory().getSelectedSlot() != slot) {
+            client.player.getInventory().setSelectedSlot(slot);
+        }
     }
 
     /**
@@ -388,15 +395,16 @@ public class FlareMacroFeature {
             return false;
         }
 
-        for (Entity entity : client.world.getEntities()) {
-            if (entity != null && entity.hasCustomName()) {
-                String name = entity.getCustomName().getString();
-                if (name.contains("Flare")) {
-                    double distance = client.player.distanceTo(entity);
-                    if (distance <= DETECTION_RANGE) {
-                        flareEntity = entity;
-                        return true;
-                    }
+        for (Entity entity : EntitySnapshot.getNamedEntities()) {
+            if (entity.isRemoved()) {
+                continue;
+            }
+            String name = entity.getCustomName().getString();
+            if (name.contains("Flare")) {
+                double distance = client.player.distanceTo(entity);
+                if (distance <= DETECTION_RANGE) {
+                    flareEntity = entity;
+                    return true;
                 }
             }
         }
@@ -418,25 +426,12 @@ public class FlareMacroFeature {
             return true;
         }
 
-        String weaponToFind = combatMode == FlareConfig.COMBAT_MODE_HYPERION ? "Hyperion" : "Fire Veil Wand";
+        boolean hyperionMode = combatMode == FlareConfig.COMBAT_MODE_HYPERION;
+        String weaponToFind = hyperionMode ? "Hyperion" : "Fire Veil Wand";
 
-        // Scan hotbar (slots 0-8)
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (stack.isEmpty()) {
-                continue;
-            }
-
-            String itemName = stack.getName().getString();
-
-            if (itemName.contains("Overflux Power Orb")) {
-                overfluxSlot = i;
-            }
-
-            if (itemName.contains(weaponToFind)) {
-                hyperionSlot = i;
-            }
-        }
+        // Hotbar lookups (slots 0-8) against the cached slot classification
+        overfluxSlot = InventoryIndex.findHotbar(InventoryIndex.OVERFLUX);
+        hyperionSlot = InventoryIndex.findHotbar(hyperionMode ? InventoryIndex.HYPERION : InventoryIndex.FIRE_VEIL_WAND);
 
         if (overfluxSlot == -1 || hyperionSlot == -1) {
             if (overfluxSlot == -1) {
@@ -451,80 +446,33 @@ public class FlareMacroFeature {
     }
 
     private static boolean handleAtonementOverride(MinecraftClient client) {
-        if (healOverrideState == HealOverrideState.WAIT_AFTER_WAND_SWITCH) {
-            if (healTimer > 0) {
-                healTimer--;
-                return true;
-            }
-
-            MouseSimulator.simulateRightClick(client);
-            if (healReturnSlot != -1 && client.player.getInventory().getSelectedSlot() != healReturnSlot) {
-                client.player.getInventory().setSelectedSlot(healReturnSlot);
-            }
-
-            lastAtonementUseTime = System.currentTimeMillis();
-
-            healOverrideState = HealOverrideState.WAIT_AFTER_HEAL_CLICK;
-            healTimer = getRandomizedClickDelay();
+        if (ATONEMENT_SEQUENCE.isRunning()) {
             return true;
         }
 
-        if (healOverrideState == HealOverrideState.WAIT_AFTER_HEAL_CLICK) {
-            if (healTimer > 0) {
-                healTimer--;
-                return true;
-            }
-
-            healOverrideState = HealOverrideState.IDLE;
-            healReturnSlot = -1;
-            return true;
-        }
-
-        long now = System.currentTimeMillis();
-        if (now - lastAtonementUseTime < ATONEMENT_INTERVAL_MS) {
+        if (ATONEMENT_COOLDOWN.isPending()) {
             return false;
         }
 
-        atonementSlot = findHotbarSlot(client, "Wand of Atonement");
+        atonementSlot = InventoryIndex.findHotbar(InventoryIndex.ATONEMENT);
         if (atonementSlot == -1) {
-            if (now - lastMissingAtonementWarnAt >= 3000) {
+            if (!MISSING_ATONEMENT_WARN_COOLDOWN.isPending()) {
                 sendMessage("Wand of Atonement not found in hotbar!", Formatting.RED);
-                lastMissingAtonementWarnAt = now;
+                MISSING_ATONEMENT_WARN_COOLDOWN.schedule(MISSING_ATONEMENT_WARN_MS);
             }
             return false;
         }
 
-        healReturnSlot = findHotbarSlot(client, "Hyperion");
+        healReturnSlot = InventoryIndex.findHotbar(InventoryIndex.HYPERION);
         if (healReturnSlot == -1) {
             healReturnSlot = hyperionSlot != -1 ? hyperionSlot : client.player.getInventory().getSelectedSlot();
         }
 
-        if (client.player.getInventory().getSelectedSlot() != atonementSlot) {
-            client.player.getInventory().setSelectedSlot(atonementSlot);
-        }
-
-        healOverrideState = HealOverrideState.WAIT_AFTER_WAND_SWITCH;
-        healTimer = getRandomizedClickDelay();
+        ATONEMENT_SEQUENCE.start();
         sendMessage("Using Wand of Atonement...", Formatting.YELLOW);
         return true;
     }
 
-    private static int findHotbarSlot(MinecraftClient client, String itemNamePart) {
-        String target = itemNamePart.toLowerCase();
-        for (int i = 0; i < 9; i++) {
-            ItemStack stack = client.player.getInventory().getStack(i);
-            if (stack.isEmpty()) {
-                continue;
-            }
-
-            String stackName = stack.getName().getString().toLowerCase();
-            if (stackName.contains(target)) {
-                return i;
-            }
-        }
-
-        return -1;
-    }
 
     private static boolean isClickOnlyMode() {
         return FlareConfig.getCombatMode() == FlareConfig.COMBAT_MODE_FLARE_CLICK_ONLY;
@@ -0,0 +1,312 @@
+package red.client.inventory;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.FishingRodItem;
+import net.minecraft.item.ItemStack;
+import red.client.fishing.config.BezalFarmerConfig;
+import red.client.fishing.util.WeaponDetector;
+
+import java.util.Locale;
+
+/**
+ * Inventory Index - Per-slot item classification of the local player's inventory
+ *
+ * Every slot is classified once into a set of kind bits (rod, Hyperion, Fire
+ * Veil, melee, Blackhole, Overflux, Atonement...) and, per kind, the slots that
+ * have it are kept as a 64-bit mask. Classification goes by item type and the
+ * Skyblock item id (one map lookup, immune to reforges and stars); display name
+ * keywords are only the fallback for items without an id. "First hotbar slot with a Hyperion" is then
+ * one AND plus numberOfTrailingZeros instead of a name rescan of nine slots.
+ *
+ * A slot is only reclassified after PlayerInventoryMixin reports it changed.
+ * Server slot updates (ScreenHandler.setStackInSlot / updateSlotStacks, and
+ * the direct player inventory packet) all end in PlayerInventory.setStack, so
+ * that one hook covers them. A new PlayerInventory (respawn, world change) or
+ * a changed Blackhole item name reclassifies everything.
+ *
+ * Slot numbers are PlayerInventory indices: 0-8 hotbar, 9-35 main, 36-39
+ * armor, 40 off hand.
+ *
+ * Client thread only.
+ *
+ * Performance: O(1) lookups, display names are only read for items without an id
+ * (and once per new id)
+ */
+public final class InventoryIndex {
+    // Kind bits
+    public static final int ITEM = 1;                    // Any non-empty stack
+    public static final int ROD = 1 << 1;                // Fishing rod item
+    public static final int HYPERION = 1 << 2;           // Hyperion and the other wither blades
+    public static final int FIRE_VEIL = 1 << 3;          // Fire Veil Wand and the other RCM wands (WeaponDetector)
+    public static final int FIRE_VEIL_WAND = 1 << 4;     // The Fire Veil Wand itself
+    public static final int MELEE = 1 << 5;              // WeaponDetector melee weapon (may also be an RCM weapon)
+    public static final int FIGSTONE_SPLITTER = 1 << 6;  // Preferred melee weapons
+    public static final int PRIME_AXE = 1 << 7;
+    public static final int BLACKHOLE = 1 << 8;          // BezalFarmerConfig's Blackhole item
+    public static final int OVERFLUX = 1 << 9;           // Overflux Power Orb
+    public static final int ATONEMENT = 1 << 10;         // Wand of Atonement
+    private static final int KIND_COUNT = 11;
+
+    public static final int HOTBAR_END = 9;
+    public static final int MAIN_END = 36;
+    private static final int MAX_SLOTS = 64;             // Slot masks are longs
+
+    // Skyblock item id -> kinds (item type bits are added separately)
+    private static final Object2IntOpenHashMap<String> KINDS_BY_ID = new Object2IntOpenHashMap<>();
+    // Skyblock item id -> name-matched kinds (melee preferences, Blackhole), filled on first sight of an id
+    private static final Object2IntOpenHashMap<String> NAME_KINDS_BY_ID = new Object2IntOpenHashMap<>();
+
+    private static final int[] slotKinds = new int[MAX_SLOTS];
+    private static final long[] slotsByKind = new long[KIND_COUNT];
+    private static long dirty = -1L;
+    private static PlayerInventory indexedInventory;
+    private static String indexedBlackholeName = "";
+    private static String blackholeKeyword = "";       // indexedBlackholeName lowercased
+
+    static {
+        for (String id : new String[] {"HYPERION", "VALKYRIE", "ASTRAEA", "SCYLLA"}) {
+            KINDS_BY_ID.put(id, HYPERION);
+        }
+        KINDS_BY_ID.put("FIRE_VEIL_WAND", FIRE_VEIL | FIRE_VEIL_WAND);
+        KINDS_BY_ID.put("WAND_OF_ATONEMENT", FIRE_VEIL | ATONEMENT);
+        for (String id : new String[] {"WAND_OF_HEALING", "WAND_OF_MENDING", "WAND_OF_RESTORATION", "WAND_OF_STRENGTH"}) {
+            KINDS_BY_ID.put(id, FIRE_VEIL);
+        }
+        KINDS_BY_ID.put("OVERFLUX_POWER_ORB", OVERFLUX);
+        NAME_KINDS_BY_ID.defaultReturnValue(-1);
+    }
+
+    private InventoryIndex() {
+    }
+
+    /**
+     * Kind bits of a slot (0 when empty or out of range)
+     */
+    public static int getKinds(int slot) {
+        if (!refresh() || slot < 0 || slot >= MAX_SLOTS) {
+            return 0;
+        }
+        return slotKinds[slot];
+    }
+
+    /**
+     * Whether a slot has any of the given kinds
+     */
+    public static boolean is(int slot, int kinds) {
+        return (getKinds(slot) & kinds) != 0;
+    }
+
+    /**
+     * Whether the selected hotbar slot has any of the given kinds
+     */
+    public static boolean isSelected(int kinds) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        return client.player != null && is(client.player.getInventory().getSelectedSlot(), kinds);
+    }
+
+    /**
+     * Lowest slot in [from, to) with any of the given kinds
+     * @return slot or -1
+     */
+    public static int findFirst(int kinds, int from, int to) {
+        return findFirst(kinds, 0, from, to);
+    }
+
+    /**
+     * Lowest slot in [from, to) with any of the given kinds and none of the excluded ones
+     * @return slot or -1
+     */
+    public static int findFirst(int kinds, int excludedKinds, int from, int to) {
+        if (!refresh()) {
+            return -1;
+        }
+        long slots = slotsWithAny(kinds) & ~slotsWithAny(excludedKinds) & range(from, to);
+        return slots == 0 ? -1 : Long.numberOfTrailingZeros(slots);
+    }
+
+    /**
+     * Lowest hotbar slot with any of the given kinds
+     * @return slot or -1
+     */
+    public static int findHotbar(int kinds) {
+        return findFirst(kinds, 0, HOTBAR_END);
+    }
+
+    /**
+     * A player inventory slot changed (PlayerInventoryMixin)
+     */
+    public static void onSlotChanged(PlayerInventory inventory, int slot) {
+        if (inventory == indexedInventory && slot >= 0 && slot < MAX_SLOTS) {
+            dirty |= 1L << slot;
+        }
+    }
+
+    /**
+     * A player inventory was emptied or replaced wholesale (PlayerInventoryMixin)
+     */
+    public static void onInventoryCleared(PlayerInventory inventory) {
+        if (inventory == indexedInventory) {
+            dirty = -1L;
+        }
+    }
+
+    /**
+     * Reclassify every slot on next access
+     */
+    public static void invalidateAll() {
+        dirty = -1L;
+    }
+
+    /**
+     * Reclassify changed slots
+     * @return false if there is no player
+     */
+    private static boolean refresh() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null) {
+            indexedInventory = null;
+            return false;
+        }
+
+        PlayerInventory inventory = client.player.getInventory();
+        if (inventory != indexedInventory) {
+            indexedInventory = inventory;
+            dirty = -1L;
+        }
+        String blackholeName = BezalFarmerConfig.getBlackholeItemName();
+        if (blackholeName != null && !blackholeName.equals(indexedBlackholeName)) {
+            indexedBlackholeName = blackholeName;
+            blackholeKeyword = blackholeName.toLowerCase(Locale.ROOT);
+            NAME_KINDS_BY_ID.clear();
+            dirty |= slotsWithAny(ITEM); // Only occupied slots can change
+        }
+
+        if (dirty != 0) {
+            int size = Math.min(inventory.size(), MAX_SLOTS);
+            long pending = dirty & range(0, size);
+            dirty = 0;
+            while (pending != 0) {
+                int slot = Long.numberOfTrailingZeros(pending);
+                pending &= pending - 1;
+                setKinds(slot, classify(inventory.getStack(slot)));
+            }
+        }
+        return true;
+    }
+
+    private static void setKinds(int slot, int kinds) {
+        slotKinds[slot] = kinds;
+        long bit = 1L << slot;
+        for (int k = 0; k < KIND_COUNT; k++) {
+            if ((kinds & (1 << k)) != 0) {
+                slotsByKind[k] |= bit;
+            } else {
+                slotsByKind[k] &= ~bit;
+            }
+        }
+    }
+
+    /**
+     * Kind bits of a stack
+     * The Skyblock id decides when present; the display name is only parsed for items without one.
+     * The name-matched kinds (Blackhole, melee preferences) of an id are cached, so a stack with an
+     * id only has its name read the first time its id is seen
+     */
+    public static int classify(ItemStack stack) {
+        if (stack == null || stack.isEmpty()) {
+            return 0;
+        }
+
+        // Item type: exact for every stack
+        int kinds = ITEM;
+        if (stack.getItem() instanceof FishingRodItem) {
+            kinds |= ROD;
+        }
+        if (WeaponDetector.isVanillaMeleeItem(stack)) {
+            kinds |= MELEE;
+        }
+
+        String id = SkyblockItemId.get(stack);
+        if (id == null) {
+            String name = WeaponDetector.getNormalizedName(stack);
+            return kinds | classifyName(name) | classifyPreferences(name);
+        }
+
+        int nameKinds = NAME_KINDS_BY_ID.getInt(id);
+        if (nameKinds < 0) {
+            nameKinds = classifyPreferences(WeaponDetector.getNormalizedName(stack));
+            NAME_KINDS_BY_ID.put(id, nameKinds);
+        }
+        return kinds | KINDS_BY_ID.getInt(id) | nameKinds;
+    }
+
+    // ===== Internals =====
+
+    /**
+     * Keyword rules for stacks without a Skyblock id
+     */
+    private static int classifyName(String name) {
+        int kinds = 0;
+        if (name.contains("fishing rod")) {
+            kinds |= ROD;
+        }
+        if (WeaponDetector.isHyperionName(name)) {
+            kinds |= HYPERION;
+        }
+        if (WeaponDetector.isFireVeilWandName(name)) {
+            kinds |= FIRE_VEIL;
+        }
+        if (name.contains("fire veil wand")) {
+            kinds |= FIRE_VEIL_WAND;
+        }
+        if (WeaponDetector.isMeleeWeaponName(name)) {
+            kinds |= MELEE;
+        }
+        if (name.contains("overflux power orb")) {
+            kinds |= OVERFLUX;
+        }
+        if (name.contains("wand of atonement")) {
+            kinds |= ATONEMENT;
+        }
+        return kinds;
+    }
+
+    /**
+     * Name rules that apply to every stack: the name-configured Blackhole and the melee preferences
+     */
+    private static int classifyPreferences(String name) {
+        int kinds = 0;
+        if (name.contains("figstone splitter")) {
+            kinds |= FIGSTONE_SPLITTER;
+        }
+        if (name.contains("prime axe")) {
+            kinds |= PRIME_AXE;
+        }
+        if (!blackholeKeyword.isEmpty() && name.contains(blackholeKeyword)) {
+            kinds |= BLACKHOLE;
+        }
+        return kinds;
+    }
+
+    private static long slotsWithAny(int kinds) {
+        long slots = 0;
+        while (kinds != 0) {
+            int k = Integer.numberOfTrailingZeros(kinds);
+            kinds &= kinds - 1;
+            if (k < KIND_COUNT) {
+                slots |= slotsByKind[k];
+            }
+        }
+        return slots;
+    }
+
+    private static long range(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        long upTo = to >= MAX_SLOTS ? -1L : (1L << to) - 1;
+        return upTo & (-1L << from);
+    }
+}
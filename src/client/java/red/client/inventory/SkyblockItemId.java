@@ -0,0 +1,38 @@
+package red.client.inventory;
+
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.NbtComponent;
+import net.minecraft.item.ItemStack;
+
+/**
+ * Skyblock Item Id - Reads Hypixel's internal item id from a stack
+ *
+ * Every Skyblock item carries its id ("HYPERION", "FIRE_VEIL_WAND", ...) in the
+ * custom data component. Unlike the display name it does not change with
+ * reforges, stars, recombobulation or rarity colors, so it identifies an item
+ * exactly. Vanilla items and items outside Skyblock have no id.
+ */
+public final class SkyblockItemId {
+    private static final String ID_KEY = "id";
+
+    private SkyblockItemId() {
+    }
+
+    /**
+     * Skyblock id of a stack, or null if it has none
+     */
+    @SuppressWarnings("deprecation") // getNbt() exposes the component's compound without copying; it is only read here
+    public static String get(ItemStack stack) {
+        if (stack == null || stack.isEmpty()) {
+            return null;
+        }
+
+        NbtComponent customData = stack.get(DataComponentTypes.CUSTOM_DATA);
+        if (customData == null || customData.isEmpty()) {
+            return null;
+        }
+
+        String id = customData.getNbt().getString(ID_KEY, "");
+        return id.isEmpty() ? null : id;
+    }
+}
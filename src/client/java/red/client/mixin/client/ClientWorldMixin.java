@@ -0,0 +1,44 @@
+package red.client.mixin.client;
+
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import red.client.entity.NametagCache;
+import red.client.entity.NametagIndex;
+
+/**
+ * Mixin to feed entity spawn/despawn events into the NametagIndex and NametagCache
+ * A new ClientWorld means a world change, so both start empty
+ */
+@Mixin(ClientWorld.class)
+public class ClientWorldMixin {
+    
+    /**
+     * Drop the previous world's entries when a new client world is created
+     */
+    @Inject(method = "<init>", at = @At("TAIL"))
+    private void redclient$onWorldCreated(CallbackInfo ci) {
+        NametagIndex.clear();
+        NametagCache.clear();
+    }
+    
+    /**
+     * Register entities once they have joined the world
+     */
+    @Inject(method = "addEntity", at = @At("TAIL"))
+    private void redclient$onEntityAdded(Entity entity, CallbackInfo ci) {
+        NametagIndex.onEntityAdded(entity);
+    }
+    
+    /**
+     * Unregister entities before the world forgets them
+     */
+    @Inject(method = "removeEntity", at = @At("HEAD"))
+    private void redclient$onEntityRemoved(int entityId, Entity.RemovalReason removalReason, CallbackInfo ci) {
+        NametagIndex.onEntityRemoved(entityId);
+        NametagCache.remove(entityId);
+    }
+}
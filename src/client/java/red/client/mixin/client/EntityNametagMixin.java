@@ -0,0 +1,35 @@
+package red.client.mixin.client;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.data.TrackedData;
+import net.minecraft.text.Text;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import red.client.entity.NametagIndex;
+
+import java.util.Optional;
+
+/**
+ * Mixin to forward custom name tracked-data updates to the NametagIndex
+ * Fires when Hypixel rewrites a name tag in place (health changes, bite marker)
+ */
+@Mixin(Entity.class)
+public abstract class EntityNametagMixin {
+    @Shadow
+    @Final
+    private static TrackedData<Optional<Text>> CUSTOM_NAME;
+    
+    /**
+     * Inject after tracked data was applied so getCustomName() returns the new value
+     */
+    @Inject(method = "onTrackedDataSet", at = @At("TAIL"))
+    private void redclient$onTrackedDataSet(TrackedData<?> data, CallbackInfo ci) {
+        if (CUSTOM_NAME.equals(data)) {
+            NametagIndex.onCustomNameChanged((Entity) (Object) this);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package red.client.mixin.client;
+
+import net.minecraft.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import red.client.render.OutlineColorRegistry;
+
+/**
+ * Mixin to color entity outlines per entity
+ * The outline renderer reads getTeamColorValue for every outlined entity, so this
+ * is the one place that knows which entity the color is for
+ */
+@Mixin(Entity.class)
+public class EntityOutlineColorMixin {
+
+    @Inject(method = "getTeamColorValue", at = @At("HEAD"), cancellable = true)
+    private void applyOutlineColor(CallbackInfoReturnable<Integer> cir) {
+        int color = OutlineColorRegistry.getColor((Entity) (Object) this);
+        if (color != OutlineColorRegistry.NO_COLOR) {
+            cir.setReturnValue(color);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package red.client.mixin.client;
+
+import net.minecraft.client.render.GameRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import red.client.rotation.RotationService;
+
+/**
+ * Mixin to step RotationService once per rendered frame
+ * Runs before the camera is set up, so the frame shows the rotation it just applied
+ */
+@Mixin(GameRenderer.class)
+public class GameRendererMixin {
+    
+    @Inject(method = "render", at = @At("HEAD"))
+    private void redclient$onRenderFrame(CallbackInfo ci) {
+        RotationService.onRenderFrame();
+    }
+}
@@ -0,0 +1,38 @@
+package red.client.mixin.client;
+
+import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.item.ItemStack;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import red.client.inventory.InventoryIndex;
+
+/**
+ * Mixin to mark InventoryIndex slots dirty when the player's inventory changes
+ * Screen handler slot updates from the server end in setStack, partial removals edit the stack in place
+ */
+@Mixin(PlayerInventory.class)
+public class PlayerInventoryMixin {
+    
+    @Inject(method = "setStack", at = @At("TAIL"))
+    private void redclient$onSetStack(int slot, ItemStack stack, CallbackInfo ci) {
+        InventoryIndex.onSlotChanged((PlayerInventory) (Object) this, slot);
+    }
+    
+    @Inject(method = "removeStack(II)Lnet/minecraft/item/ItemStack;", at = @At("TAIL"))
+    private void redclient$onRemoveStack(int slot, int amount, CallbackInfoReturnable<ItemStack> cir) {
+        InventoryIndex.onSlotChanged((PlayerInventory) (Object) this, slot);
+    }
+    
+    @Inject(method = "removeStack(I)Lnet/minecraft/item/ItemStack;", at = @At("TAIL"))
+    private void redclient$onRemoveWholeStack(int slot, CallbackInfoReturnable<ItemStack> cir) {
+        InventoryIndex.onSlotChanged((PlayerInventory) (Object) this, slot);
+    }
+    
+    @Inject(method = "clear", at = @At("TAIL"))
+    private void redclient$onClear(CallbackInfo ci) {
+        InventoryIndex.onInventoryCleared((PlayerInventory) (Object) this);
+    }
+}
@@ -0,0 +1,250 @@
+package red.client.perf;
+
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Tick Profiler - Per-feature tick timing with rolling percentiles
+ *
+ * Each profiled section keeps the last WINDOW samples (one per tick) of elapsed
+ * nanoseconds and, where the JVM supports per-thread allocation accounting,
+ * allocated bytes in primitive ring buffers. Recording is two clock reads and
+ * two array stores; percentiles are only computed when someone asks
+ * (/red perf), by sorting a copy of the window.
+ *
+ * Client thread only.
+ *
+ * Performance: O(1) and allocation-free per recorded sample
+ */
+public final class TickProfiler {
+    public static final int WINDOW = 1200; // 60 seconds at 20 TPS
+
+    private static final List<Section> sections = new ArrayList<>();
+    private static final List<Section> sectionsView = Collections.unmodifiableList(sections);
+
+    private static final com.sun.management.ThreadMXBean threadBean = findThreadBean();
+    private static final boolean allocationSupported = threadBean != null;
+
+    /**
+     * One profiled piece of the tick
+     */
+    public static final class Section {
+        private final String name;
+        private final long[] nanos = new long[WINDOW];
+        private final long[] allocated = new long[WINDOW];
+        private int next;
+        private int count;
+        private long maxNanos; // All-time since the last reset
+
+        private Section(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private void record(long elapsedNanos, long allocatedBytes) {
+            nanos[next] = elapsedNanos;
+            allocated[next] = allocatedBytes;
+            next = next + 1 == WINDOW ? 0 : next + 1;
+            if (count < WINDOW) {
+                count++;
+            }
+            if (elapsedNanos > maxNanos) {
+                maxNanos = elapsedNanos;
+            }
+        }
+
+        private void reset() {
+            next = 0;
+            count = 0;
+            maxNanos = 0;
+        }
+
+        /**
+         * Statistics over the current window
+         */
+        public Stats stats() {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+
+            long totalAllocated = 0;
+            for (int i = 0; i < count; i++) {
+                totalAllocated += allocated[i];
+            }
+
+            return new Stats(
+                name,
+                count,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.99),
+                count == 0 ? 0 : sorted[count - 1],
+                maxNanos,
+                count == 0 || !allocationSupported ? -1 : totalAllocated / count
+            );
+        }
+    }
+
+    /**
+     * Snapshot of one section's window
+     * @param allocatedPerTick average bytes allocated per sample, or -1 if unsupported
+     */
+    public record Stats(String name, int samples, long p50Nanos, long p99Nanos,
+                        long windowMaxNanos, long maxNanos, long allocatedPerTick) {
+    }
+
+    private TickProfiler() {
+    }
+
+    /**
+     * Create a section (call once, keep the result in a static field)
+     */
+    public static Section section(String name) {
+        Section section = new Section(name);
+        sections.add(section);
+        return section;
+    }
+
+    /**
+     * Run a task and record its cost under the section
+     */
+    public static void time(Section section, Runnable task) {
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocationSupported ? allocatedBytes() - allocatedBefore : 0;
+            section.record(elapsed, allocated);
+        }
+    }
+
+    /**
+     * All sections, in creation order
+     */
+    public static List<Section> getSections() {
+        return sectionsView;
+    }
+
+    /**
+     * Whether allocation numbers are available on this JVM
+     */
+    public static boolean isAllocationSupported() {
+        return allocationSupported;
+    }
+
+    /**
+     * Clear every section's samples
+     */
+    public static void reset() {
+        for (int i = 0; i < sections.size(); i++) {
+            sections.get(i).reset();
+        }
+    }
+
+    /**
+     * Write the current statistics and raw windows to the game directory
+     * @return path of the written file
+     */
+    public static Path dump() throws IOException {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = FabricLoader.getInstance().getGameDir().resolve("redclient-perf-" + timestamp + ".txt");
+
+        StringBuilder out = new StringBuilder();
+        out.append("RedClient tick profile, ").append(timestamp).append('\n');
+        out.append("window: ").append(WINDOW).append(" ticks, allocation tracking: ")
+            .append(allocationSupported ? "on" : "unsupported").append("\n\n");
+
+        for (int i = 0; i < sections.size(); i++) {
+            out.append(formatStats(sections.get(i).stats())).append('\n');
+        }
+
+        out.append("\nRaw samples (ns, oldest first)\n");
+        for (int i = 0; i < sections.size(); i++) {
+            Section section = sections.get(i);
+            out.append(section.name).append(':');
+            int first = section.count < WINDOW ? 0 : section.next;
+            for (int j = 0; j < section.count; j++) {
+                out.append(' ').append(section.nanos[(first + j) % WINDOW]);
+            }
+            out.append('\n');
+        }
+
+        Files.writeString(file, out, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * One line summary: "Name  p50 0.012ms  p99 0.210ms  max 1.104ms  alloc 1.2KB/tick"
+     */
+    public static String formatStats(Stats stats) {
+        StringBuilder line = new StringBuilder(stats.name());
+        line.append("  p50 ").append(formatMillis(stats.p50Nanos()))
+            .append("  p99 ").append(formatMillis(stats.p99Nanos()))
+            .append("  max ").append(formatMillis(stats.maxNanos()));
+        if (stats.allocatedPerTick() >= 0) {
+            line.append("  alloc ").append(formatBytes(stats.allocatedPerTick())).append("/tick");
+        }
+        return line.toString();
+    }
+
+    public static String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3fms", nanos / 1_000_000.0);
+    }
+
+    public static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + "B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1fKB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1fMB", bytes / (1024.0 * 1024.0));
+    }
+
+    // ===== Internals =====
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static long allocatedBytes() {
+        return allocationSupported ? threadBean.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * HotSpot's ThreadMXBean extension, if present and enabled
+     */
+    private static com.sun.management.ThreadMXBean findThreadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException | LinkageError e) {
+            System.out.println("[TickProfiler] Allocation tracking unavailable: " + e.getMessage());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,66 @@
+package red.client.render;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.entity.Entity;
+
+/**
+ * Outline Color Registry - Per-entity outline colors for the highlight features
+ *
+ * Each highlight feature registers entity id -> ARGB once per tick, the registry
+ * publishes the result with a volatile swap, and a single mixin on
+ * Entity.getTeamColorValue looks up the color of the entity actually being drawn.
+ *
+ * Replaces the old setColor mixins, which could not tell entities apart: the
+ * last one to run recolored every outline on screen.
+ *
+ * Performance: One hash lookup per outlined entity, no config reads while rendering
+ */
+public final class OutlineColorRegistry {
+    public static final int NO_COLOR = 0;
+
+    private static volatile Int2IntOpenHashMap front = newMap();
+    private static Int2IntOpenHashMap back = newMap();
+
+    private OutlineColorRegistry() {
+    }
+
+    /**
+     * Start collecting this tick's colors (tick side)
+     */
+    public static void begin() {
+        back.clear();
+    }
+
+    /**
+     * Register an outline color for an entity (tick side)
+     * Later registrations for the same entity win
+     */
+    public static void set(Entity entity, int rgb) {
+        if (entity != null) {
+            back.put(entity.getId(), 0xFF000000 | (rgb & 0x00FFFFFF));
+        }
+    }
+
+    /**
+     * Make this tick's colors visible to the renderer (tick side)
+     */
+    public static void publish() {
+        Int2IntOpenHashMap published = back;
+        back = front;
+        front = published;
+    }
+
+    /**
+     * Outline color registered for an entity (render side)
+     * @return ARGB color, or NO_COLOR if no feature colors this entity
+     */
+    public static int getColor(Entity entity) {
+        return front.get(entity.getId());
+    }
+
+    private static Int2IntOpenHashMap newMap() {
+        Int2IntOpenHashMap map = new Int2IntOpenHashMap();
+        map.defaultReturnValue(NO_COLOR);
+        return map;
+    }
+}
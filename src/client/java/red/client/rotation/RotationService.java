@@ -0,0 +1,287 @@
+package red.client.rotation;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.MathHelper;
+
+/**
+ * Rotation Service - The one place that turns the player's camera
+ *
+ * Features say where to look (an entity, a point or fixed angles) from their
+ * tick; the service moves the camera towards it on every rendered frame, scaled
+ * by the frame's delta time, so aiming is as smooth at 144 fps as the mouse is
+ * instead of stepping at 20 Hz.
+ *
+ * Ownership: only one feature rotates at a time. The first caller owns the
+ * service until it releases; requests from anyone else are refused (return
+ * false) so two features never fight over the camera. Owners are any identity
+ * object, static features use their class.
+ *
+ * Speed: the fraction of the remaining angle closed per game tick (50 ms), the
+ * same factors the per-tick code used. Per frame it becomes
+ * 1 - (1 - speed)^(dt / 50ms), so the motion has the same pace at any frame rate.
+ *
+ * The target angles are recomputed with primitive math and only when the eye
+ * or target position changed; entity positions move per tick, so most frames
+ * only interpolate.
+ *
+ * Client thread only (ticks and rendering both run on it).
+ *
+ * Performance: No allocation, at most one atan2 pair per tick position change
+ */
+public final class RotationService {
+    private static final double TICK_SECONDS = 0.05;
+    private static final double MAX_FRAME_SECONDS = 0.25; // Don't jump after a stall or a pause
+    private static final double MIN_HORIZONTAL_DISTANCE = 0.1; // Closer than this the yaw is meaningless
+    private static final double CURSOR_DEGREES = 0.15; // Entity.changeLookDirection degrees per cursor unit
+
+    private enum Mode {
+        NONE,
+        ENTITY,
+        POINT,
+        ANGLES
+    }
+
+    private static Object owner;
+    private static Mode mode = Mode.NONE;
+    private static float speed;
+    private static float minPitch = -90.0f;
+    private static float maxPitch = 90.0f;
+
+    // Target (ENTITY: entity + height offset, POINT: x/y/z, ANGLES: yaw/pitch only)
+    private static Entity targetEntity;
+    private static double targetYOffset;
+    private static double targetX;
+    private static double targetY;
+    private static double targetZ;
+
+    // Target angles and the positions they were computed from
+    private static boolean hasAngles;
+    private static float targetYaw;
+    private static float targetPitch;
+    private static double solvedEyeX = Double.NaN;
+    private static double solvedEyeY;
+    private static double solvedEyeZ;
+    private static double solvedTargetX;
+    private static double solvedTargetY;
+    private static double solvedTargetZ;
+
+    private static long lastFrameNanos;
+
+    private RotationService() {
+    }
+
+    /**
+     * Look at an entity's feet plus yOffset, following it until released or retargeted
+     * @param speed fraction of the remaining angle per tick (0-1)
+     * @return false if another owner is rotating
+     */
+    public static boolean lookAt(Object requester, Entity entity, double yOffset, float speed) {
+        return lookAt(requester, entity, yOffset, speed, -90.0f, 90.0f);
+    }
+
+    /**
+     * Look at an entity with the pitch kept inside [minPitch, maxPitch]
+     * @return false if another owner is rotating
+     */
+    public static boolean lookAt(Object requester, Entity entity, double yOffset, float speed, float minPitch, float maxPitch) {
+        if (entity == null || !acquire(requester, speed, minPitch, maxPitch)) {
+            return false;
+        }
+        if (mode != Mode.ENTITY || targetEntity != entity || targetYOffset != yOffset) {
+            invalidateAngles();
+        }
+        mode = Mode.ENTITY;
+        targetEntity = entity;
+        targetYOffset = yOffset;
+        return true;
+    }
+
+    /**
+     * Look at a fixed point
+     * @return false if another owner is rotating
+     */
+    public static boolean lookAt(Object requester, double x, double y, double z, float speed) {
+        if (!acquire(requester, speed, -90.0f, 90.0f)) {
+            return false;
+        }
+        if (mode != Mode.POINT || targetX != x || targetY != y || targetZ != z) {
+            invalidateAngles();
+        }
+        mode = Mode.POINT;
+        targetEntity = null;
+        targetX = x;
+        targetY = y;
+        targetZ = z;
+        return true;
+    }
+
+    /**
+     * Turn to fixed angles
+     * @return false if another owner is rotating
+     */
+    public static boolean rotateTo(Object requester, float yaw, float pitch, float speed) {
+        if (!acquire(requester, speed, -90.0f, 90.0f)) {
+            return false;
+        }
+        mode = Mode.ANGLES;
+        targetEntity = null;
+        hasAngles = true;
+        targetYaw = yaw;
+        targetPitch = MathHelper.clamp(pitch, minPitch, maxPitch);
+        return true;
+    }
+
+    /**
+     * Set the angles at once, for a click that has to go out at them this tick
+     * The requester owns the service afterwards and releases it when done
+     * @return false if another owner is rotating
+     */
+    public static boolean snapTo(Object requester, float yaw, float pitch) {
+        ClientPlayerEntity player = MinecraftClient.getInstance().player;
+        if (player == null || !acquire(requester, 1.0f, -90.0f, 90.0f)) {
+            return false;
+        }
+        mode = Mode.ANGLES;
+        targetEntity = null;
+        hasAngles = true;
+        targetYaw = yaw;
+        targetPitch = MathHelper.clamp(pitch, minPitch, maxPitch);
+        player.setYaw(targetYaw);
+        player.setPitch(targetPitch); // Already at the target, so frames leave the camera alone
+        return true;
+    }
+
+    /**
+     * Stop rotating and free the service (no-op unless the requester owns it)
+     */
+    public static void release(Object requester) {
+        if (owner != requester) {
+            return;
+        }
+        owner = null;
+        mode = Mode.NONE;
+        targetEntity = null;
+        invalidateAngles();
+    }
+
+    /**
+     * Whether the requester currently owns the service
+     */
+    public static boolean isOwner(Object requester) {
+        return requester != null && owner == requester;
+    }
+
+    /**
+     * Whether the requester owns the service and the camera is within tolerance of its target
+     * A target too close to aim at counts as reached
+     */
+    public static boolean isSettled(Object requester, float toleranceDegrees) {
+        ClientPlayerEntity player = MinecraftClient.getInstance().player;
+        if (!isOwner(requester) || player == null) {
+            return false;
+        }
+        if (!solve(player)) {
+            return true;
+        }
+        return Math.abs(MathHelper.wrapDegrees(targetYaw - player.getYaw())) < toleranceDegrees
+            && Math.abs(targetPitch - player.getPitch()) < toleranceDegrees;
+    }
+
+    /**
+     * Advance the camera by this frame's share of the motion (GameRendererMixin, once per frame)
+     */
+    public static void onRenderFrame() {
+        long now = System.nanoTime();
+        double frameSeconds = lastFrameNanos == 0 ? 0 : Math.min((now - lastFrameNanos) * 1.0e-9, MAX_FRAME_SECONDS);
+        lastFrameNanos = now;
+
+        ClientPlayerEntity player = MinecraftClient.getInstance().player;
+        if (owner == null || player == null || frameSeconds <= 0) {
+            return;
+        }
+        if (mode == Mode.ENTITY && targetEntity.isRemoved()) {
+            return; // Hold still, the owner notices on its next tick
+        }
+        if (!solve(player)) {
+            return;
+        }
+
+        double alpha = 1.0 - Math.pow(1.0 - speed, frameSeconds / TICK_SECONDS);
+        float yawStep = (float) (MathHelper.wrapDegrees(targetYaw - player.getYaw()) * alpha);
+        float pitchStep = (float) ((targetPitch - player.getPitch()) * alpha);
+        if (yawStep == 0 && pitchStep == 0) {
+            return;
+        }
+
+        // Same path as mouse input: moves the previous-frame angles too, so the camera does not lerp back
+        player.changeLookDirection(yawStep / CURSOR_DEGREES, pitchStep / CURSOR_DEGREES);
+    }
+
+    // ===== Internals =====
+
+    private static boolean acquire(Object requester, float speed, float minPitch, float maxPitch) {
+        if (requester == null || (owner != null && owner != requester)) {
+            return false;
+        }
+        if (owner == null) {
+            invalidateAngles();
+        }
+        owner = requester;
+        RotationService.speed = MathHelper.clamp(speed, 0.01f, 1.0f);
+        if (RotationService.minPitch != minPitch || RotationService.maxPitch != maxPitch) {
+            RotationService.minPitch = minPitch;
+            RotationService.maxPitch = maxPitch;
+            invalidateAngles();
+        }
+        return true;
+    }
+
+    private static void invalidateAngles() {
+        hasAngles = false;
+        solvedEyeX = Double.NaN; // Never equal, forces a recompute
+    }
+
+    /**
+     * Bring the target angles up to date with the current eye and target positions
+     * @return false if there is nothing to aim at (too close or no target)
+     */
+    private static boolean solve(ClientPlayerEntity player) {
+        if (mode == Mode.ANGLES) {
+            return true;
+        }
+        if (mode == Mode.NONE) {
+            return false;
+        }
+
+        double eyeX = player.getX();
+        double eyeY = player.getEyeY();
+        double eyeZ = player.getZ();
+        double x = mode == Mode.ENTITY ? targetEntity.getX() : targetX;
+        double y = mode == Mode.ENTITY ? targetEntity.getY() + targetYOffset : targetY;
+        double z = mode == Mode.ENTITY ? targetEntity.getZ() : targetZ;
+        if (eyeX == solvedEyeX && eyeY == solvedEyeY && eyeZ == solvedEyeZ
+            && x == solvedTargetX && y == solvedTargetY && z == solvedTargetZ) {
+            return hasAngles;
+        }
+        solvedEyeX = eyeX;
+        solvedEyeY = eyeY;
+        solvedEyeZ = eyeZ;
+        solvedTargetX = x;
+        solvedTargetY = y;
+        solvedTargetZ = z;
+
+        double dx = x - eyeX;
+        double dy = y - eyeY;
+        double dz = z - eyeZ;
+        double horizontal = Math.sqrt(dx * dx + dz * dz);
+        if (horizontal < MIN_HORIZONTAL_DISTANCE) {
+            return hasAngles; // Keep the last good angles
+        }
+        targetYaw = (float) Math.toDegrees(Math.atan2(dz, dx)) - 90.0f;
+        targetPitch = MathHelper.clamp((float) -Math.toDegrees(Math.atan2(dy, horizontal)), minPitch, maxPitch);
+        hasAngles = true;
+        return true;
+    }
+}
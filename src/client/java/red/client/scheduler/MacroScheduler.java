@@ -5,6 +5,7 @@ import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import red.client.fishing.feature.AutoFishingFeature;
 import red.client.flarecombat.feature.FlareMacroFeature;
+import red.client.tick.TimerWheel;
 
 import java.util.Random;
 
@@ -15,13 +16,16 @@ import java.util.Random;
  * - STOPPED: Not running
  * - RUNNING: Macro is active
  * - ON_BREAK: Waiting during break period
+ *
+ * The end of the current run or break is one TimerWheel timer; nothing runs in between.
  */
 public class MacroScheduler {
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
     private static SchedulerState state = SchedulerState.STOPPED;
-    private static long runStartTime = 0;
-    private static long breakStartTime = 0;
     private static int currentBreakDuration = 0;
     private static final Random random = new Random();
+    private static final TimerWheel.Timer PHASE_TIMER = TimerWheel.timer("MacroScheduler", MacroScheduler::onPhaseEnd);
     
     public enum SchedulerState {
         STOPPED,
@@ -38,7 +42,7 @@ public class MacroScheduler {
         }
         
         state = SchedulerState.RUNNING;
-        runStartTime = System.currentTimeMillis();
+        PHASE_TIMER.schedule(MacroSchedulerConfig.getRunTime() * MILLIS_PER_MINUTE);
         
         // Start the active macro (AutoFish or Flare)
         if (!AutoFishingFeature.isEnabled() && !FlareMacroFeature.isEnabled()) {
@@ -66,43 +70,22 @@ public class MacroScheduler {
         }
         
         state = SchedulerState.STOPPED;
-        runStartTime = 0;
-        breakStartTime = 0;
+        PHASE_TIMER.cancel();
         currentBreakDuration = 0;
         
         sendMessage("Scheduler stopped", Formatting.RED);
     }
 
     /**
-     * Tick method - call every client tick to update scheduler
+     * Run or break time elapsed (PHASE_TIMER)
      */
-    public static void tick() {
-        if (state == SchedulerState.STOPPED) {
-            return;
-        }
-        
-        long currentTime = System.currentTimeMillis();
-        
+    private static void onPhaseEnd() {
         if (state == SchedulerState.RUNNING) {
-            // Check if run time has elapsed
-            long elapsedMillis = currentTime - runStartTime;
-            long runTimeMins = MacroSchedulerConfig.getRunTime();
-            long runTimeMillis = runTimeMins * 60 * 1000;
-            
-            if (elapsedMillis >= runTimeMillis) {
-                // Run time complete
-                handleRunComplete();
-            }
-        } 
-        else if (state == SchedulerState.ON_BREAK) {
-            // Check if break time has elapsed
-            long elapsedMillis = currentTime - breakStartTime;
-            long breakTimeMillis = currentBreakDuration * 60 * 1000;
-            
-            if (elapsedMillis >= breakTimeMillis) {
-                // Break complete - resume macro
-                resumeFromBreak();
-            }
+            // Run time complete
+            handleRunComplete();
+        } else if (state == SchedulerState.ON_BREAK) {
+            // Break complete - resume macro
+            resumeFromBreak();
         }
     }
 
@@ -124,7 +107,6 @@ public class MacroScheduler {
         } else {
             // Just stop
             state = SchedulerState.STOPPED;
-            runStartTime = 0;
             sendMessage("Run time complete - scheduler stopped", Formatting.YELLOW);
         }
     }
@@ -134,7 +116,6 @@ public class MacroScheduler {
      */
     private static void startBreak() {
         state = SchedulerState.ON_BREAK;
-        breakStartTime = System.currentTimeMillis();
         
         // Calculate random break duration
         int minBreak = MacroSchedulerConfig.getBreakMinTime();
@@ -148,6 +129,7 @@ public class MacroScheduler {
         }
         
         currentBreakDuration = minBreak + random.nextInt(maxBreak - minBreak + 1);
+        PHASE_TIMER.schedule(currentBreakDuration * MILLIS_PER_MINUTE);
         
         sendMessage("Taking a break for " + currentBreakDuration + " minutes", Formatting.GOLD);
     }
@@ -157,8 +139,7 @@ public class MacroScheduler {
      */
     private static void resumeFromBreak() {
         state = SchedulerState.RUNNING;
-        runStartTime = System.currentTimeMillis();
-        breakStartTime = 0;
+        PHASE_TIMER.schedule(MacroSchedulerConfig.getRunTime() * MILLIS_PER_MINUTE);
         
         // Start the macro again
         if (!AutoFishingFeature.isEnabled() && !FlareMacroFeature.isEnabled()) {
@@ -182,23 +163,7 @@ public class MacroScheduler {
         if (state == SchedulerState.STOPPED) {
             return 0;
         }
-        
-        long currentTime = System.currentTimeMillis();
-        
-        if (state == SchedulerState.RUNNING) {
-            long elapsedMillis = currentTime - runStartTime;
-            long runTimeMillis = MacroSchedulerConfig.getRunTime() * 60 * 1000;
-            long remainingMillis = runTimeMillis - elapsedMillis;
-            return (int) Math.max(0, remainingMillis / 1000);
-        } 
-        else if (state == SchedulerState.ON_BREAK) {
-            long elapsedMillis = currentTime - breakStartTime;
-            long breakTimeMillis = currentBreakDuration * 60 * 1000;
-            long remainingMillis = breakTimeMillis - elapsedMillis;
-            return (int) Math.max(0, remainingMillis / 1000);
-        }
-        
-        return 0;
+        return (int) (PHASE_TIMER.remainingMillis() / 1000);
     }
 
     /**
@@ -0,0 +1,452 @@
+package red.client.sequence;
+
+import red.client.tick.TickScheduler;
+import red.client.tick.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Action Sequencer - Declarative multi-step macro phases
+ *
+ * A macro phase like "swap slot -> wait 3 ticks -> right click -> wait -> swap
+ * back" is declared once as a Sequence of named steps:
+ * - run: do something, then continue in the same tick
+ * - waitTicks: continue N ticks later (fixed or drawn when the step starts)
+ * - waitUntil: continue once a condition holds, optionally giving up after a timeout
+ * - repeatFrom: jump back to an earlier step while a condition holds
+ *
+ * Features only start() and cancel() sequences; one scheduler task (only
+ * enabled while something is running) advances all of them. waitTicks and the
+ * waitUntil timeouts are TimerWheel timers: a sequence sleeping in waitTicks
+ * leaves the run list until its timer fires at a tick start, and is advanced
+ * in that tick's pass, so it does no work per tick. Waits count 50ms ticks on
+ * the TimerWheel clock.
+ *
+ * holdWhile freezes a sequence (steps do not run, waits do not elapse) while a
+ * predicate holds, e.g. while the macro's target is missing. The predicate has
+ * to be watched, so a sequence with one stays in the run list: one predicate
+ * call per tick, and its wait timer is paused while held.
+ *
+ * Every step records how long it actually took (on the TimerWheel clock the
+ * waits run on, from the step starting to it finishing) next to how long it
+ * was planned to take, so /red perf steps shows where a macro cycle loses time.
+ *
+ * Client thread only.
+ *
+ * Performance: O(awake sequences) per tick, no allocation while running
+ */
+public final class ActionSequencer {
+    private static final int MAX_STEPS_PER_TICK = 64; // Guards against a repeatFrom loop with no wait in it
+
+    private static final List<Sequence> sequences = new ArrayList<>();
+    private static final List<Sequence> sequencesView = Collections.unmodifiableList(sequences);
+    private static final List<Sequence> running = new ArrayList<>();
+    private static boolean installed = false;
+
+    private enum Kind {
+        RUN,
+        WAIT_TICKS,
+        WAIT_UNTIL,
+        REPEAT_FROM
+    }
+
+    /**
+     * One declared step and its timing
+     */
+    private static final class Step {
+        private final Kind kind;
+        private final String name;
+        private Runnable action;           // RUN; WAIT_UNTIL timeout action
+        private IntSupplier ticks;         // WAIT_TICKS
+        private BooleanSupplier condition; // WAIT_UNTIL, REPEAT_FROM
+        private int timeoutTicks;          // WAIT_UNTIL, 0 = none
+        private int target;                // REPEAT_FROM
+
+        private int runs;
+        private long lastNanos;
+        private long totalNanos;
+        private long maxNanos;
+        private long plannedNanos;         // Sum over runs
+
+        private Step(Kind kind, String name) {
+            this.kind = kind;
+            this.name = name;
+        }
+
+        private void record(long nanos, long planned) {
+            runs++;
+            lastNanos = nanos;
+            totalNanos += nanos;
+            plannedNanos += planned;
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+        }
+    }
+
+    /**
+     * Timing of one step over all its runs since the last reset
+     * @param meanPlannedNanos planned duration (waits: ticks x 50ms, 0 for actions and open-ended waits)
+     */
+    public record StepStats(String name, int runs, long lastNanos, long meanNanos, long maxNanos, long meanPlannedNanos) {
+    }
+
+    /**
+     * A declared sequence; add steps with the fluent methods, then start() it as often as needed
+     */
+    public static final class Sequence {
+        private final String name;
+        private Step[] steps = new Step[0];
+        private BooleanSupplier hold;
+
+        // Run state
+        private boolean active;
+        private boolean queued;            // In the running list (may lag behind active until the next pass)
+        private int generation;            // Bumped by start/cancel so a step can restart or stop its own sequence
+        private int index;
+        private long stepStartNanos;
+        private long plannedNanos;
+        private final TimerWheel.Timer timer; // waitTicks wake-up, waitUntil timeout
+        private boolean held;
+        private long heldRemainingNanos;      // Timer time left when the hold started
+
+        private Sequence(String name) {
+            this.name = name;
+            this.timer = TimerWheel.timer(name, this::wake);
+        }
+
+        /**
+         * Run an action, then continue with the next step in the same tick
+         */
+        public Sequence run(String step, Runnable action) {
+            Step added = add(Kind.RUN, step);
+            added.action = action;
+            return this;
+        }
+
+        /**
+         * Continue a fixed number of ticks later
+         */
+        public Sequence waitTicks(String step, int ticks) {
+            return waitTicks(step, () -> ticks);
+        }
+
+        /**
+         * Continue a number of ticks later, drawn each time the step starts (0 continues at once)
+         */
+        public Sequence waitTicks(String step, IntSupplier ticks) {
+            Step added = add(Kind.WAIT_TICKS, step);
+            added.ticks = ticks;
+            return this;
+        }
+
+        /**
+         * Continue once the condition holds (checked once per tick, starting the tick the step is reached)
+         */
+        public Sequence waitUntil(String step, BooleanSupplier condition) {
+            return waitUntil(step, condition, 0, null);
+        }
+
+        /**
+         * Continue once the condition holds; after timeoutTicks run onTimeout (may be null) and stop the sequence
+         */
+        public Sequence waitUntil(String step, BooleanSupplier condition, int timeoutTicks, Runnable onTimeout) {
+            Step added = add(Kind.WAIT_UNTIL, step);
+            added.condition = condition;
+            added.timeoutTicks = Math.max(0, timeoutTicks);
+            added.action = onTimeout;
+            return this;
+        }
+
+        /**
+         * Jump back to an earlier step (by name) while the condition holds, otherwise continue
+         */
+        public Sequence repeatFrom(String step, BooleanSupplier condition) {
+            int target = indexOf(step);
+            if (target < 0) {
+                throw new IllegalArgumentException("Unknown step in " + name + ": " + step);
+            }
+            Step added = add(Kind.REPEAT_FROM, "repeat " + step);
+            added.condition = condition;
+            added.target = target;
+            return this;
+        }
+
+        /**
+         * Freeze the sequence while the predicate holds: no steps run and waits do not elapse
+         */
+        public Sequence holdWhile(BooleanSupplier predicate) {
+            this.hold = predicate;
+            return this;
+        }
+
+        /**
+         * Start from the first step (restarts if already running)
+         */
+        public void start() {
+            install();
+            active = true;
+            generation++;
+            held = false;
+            enter(this, 0);
+            queue(this);
+        }
+
+        /**
+         * Stop wherever the sequence is (no-op if not running)
+         */
+        public void cancel() {
+            if (active) {
+                active = false;
+                generation++;
+                timer.cancel();
+            }
+        }
+
+        public boolean isRunning() {
+            return active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Name of the step the sequence is at, or null when not running
+         */
+        public String getStepName() {
+            return active ? steps[index].name : null;
+        }
+
+        /**
+         * Timing of every step except the repeatFrom jumps, in declaration order
+         */
+        public List<StepStats> getStepStats() {
+            List<StepStats> stats = new ArrayList<>(steps.length);
+            for (Step step : steps) {
+                if (step.kind == Kind.REPEAT_FROM) {
+                    continue;
+                }
+                stats.add(new StepStats(
+                    step.name,
+                    step.runs,
+                    step.lastNanos,
+                    step.runs == 0 ? 0 : step.totalNanos / step.runs,
+                    step.maxNanos,
+                    step.runs == 0 ? 0 : step.plannedNanos / step.runs
+                ));
+            }
+            return stats;
+        }
+
+        private Step add(Kind kind, String step) {
+            Step added = new Step(kind, step);
+            steps = Arrays.copyOf(steps, steps.length + 1);
+            steps[steps.length - 1] = added;
+            return added;
+        }
+
+        private int indexOf(String step) {
+            for (int i = 0; i < steps.length; i++) {
+                if (steps[i].kind != Kind.REPEAT_FROM && steps[i].name.equals(step)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Timer fired: rejoin the run list if the sequence was sleeping
+         */
+        private void wake() {
+            if (active) {
+                queue(this);
+            }
+        }
+    }
+
+    private ActionSequencer() {
+    }
+
+    /**
+     * Declare a sequence (call once, keep the result in a static field)
+     */
+    public static Sequence sequence(String name) {
+        Sequence sequence = new Sequence(name);
+        sequences.add(sequence);
+        return sequence;
+    }
+
+    /**
+     * Every declared sequence, in declaration order
+     */
+    public static List<Sequence> getSequences() {
+        return sequencesView;
+    }
+
+    /**
+     * Clear the step timings of every sequence
+     */
+    public static void resetStats() {
+        for (int i = 0; i < sequences.size(); i++) {
+            for (Step step : sequences.get(i).steps) {
+                step.runs = 0;
+                step.lastNanos = 0;
+                step.totalNanos = 0;
+                step.maxNanos = 0;
+                step.plannedNanos = 0;
+            }
+        }
+    }
+
+    // ===== Internals =====
+
+    private static void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+
+        // Registered on first use, so it runs after the feature ticks that start sequences
+        TickScheduler.task("ActionSequences", ActionSequencer::tick)
+            .enabledWhen(() -> !running.isEmpty())
+            .register();
+    }
+
+    private static void queue(Sequence sequence) {
+        if (!sequence.queued) {
+            sequence.queued = true;
+            running.add(sequence);
+        }
+    }
+
+    private static void tick() {
+        for (int i = 0; i < running.size(); i++) { // Sequences started by a step join this pass
+            Sequence sequence = running.get(i);
+            if (sequence.active) {
+                advance(sequence);
+            }
+        }
+
+        // Drop finished, cancelled and sleeping sequences, keeping order (a timer brings a sleeper back)
+        int kept = 0;
+        for (int i = 0; i < running.size(); i++) {
+            Sequence sequence = running.get(i);
+            if (sequence.active && !isSleeping(sequence)) {
+                running.set(kept++, sequence);
+            } else {
+                sequence.queued = false;
+            }
+        }
+        while (running.size() > kept) {
+            running.remove(running.size() - 1);
+        }
+    }
+
+    /**
+     * Waiting in waitTicks with nothing to watch: only its timer can move it on
+     */
+    private static boolean isSleeping(Sequence sequence) {
+        return sequence.hold == null
+            && sequence.steps[sequence.index].kind == Kind.WAIT_TICKS
+            && sequence.timer.isPending();
+    }
+
+    private static void advance(Sequence sequence) {
+        if (sequence.hold != null) {
+            if (sequence.hold.getAsBoolean()) {
+                if (sequence.timer.isPending()) { // Waits do not elapse while held
+                    sequence.heldRemainingNanos = sequence.timer.remainingNanos();
+                    sequence.timer.cancel();
+                    sequence.held = true;
+                }
+                return;
+            }
+            if (sequence.held) {
+                sequence.held = false;
+                sequence.timer.scheduleAt(TimerWheel.now() + sequence.heldRemainingNanos);
+            }
+        }
+
+        for (int budget = MAX_STEPS_PER_TICK; budget > 0 && sequence.active; budget--) {
+            Step step = sequence.steps[sequence.index];
+            int generation = sequence.generation;
+
+            switch (step.kind) {
+                case RUN -> {
+                    step.action.run();
+                    step.record(TimerWheel.now() - sequence.stepStartNanos, 0);
+                    if (generation != sequence.generation) {
+                        return; // The action restarted or cancelled this sequence
+                    }
+                    enter(sequence, sequence.index + 1);
+                }
+                case WAIT_TICKS -> {
+                    if (sequence.timer.isPending()) {
+                        return;
+                    }
+                    step.record(TimerWheel.now() - sequence.stepStartNanos, sequence.plannedNanos);
+                    enter(sequence, sequence.index + 1);
+                }
+                case WAIT_UNTIL -> {
+                    if (!step.condition.getAsBoolean()) {
+                        if (step.timeoutTicks == 0 || sequence.timer.isPending()) {
+                            return;
+                        }
+                        step.record(TimerWheel.now() - sequence.stepStartNanos, sequence.plannedNanos);
+                        sequence.active = false;
+                        sequence.generation++;
+                        if (step.action != null) {
+                            step.action.run();
+                        }
+                        return;
+                    }
+                    step.record(TimerWheel.now() - sequence.stepStartNanos, 0);
+                    if (generation != sequence.generation) {
+                        return;
+                    }
+                    enter(sequence, sequence.index + 1);
+                }
+                case REPEAT_FROM -> {
+                    boolean repeat = step.condition.getAsBoolean();
+                    if (generation != sequence.generation) {
+                        return;
+                    }
+                    enter(sequence, repeat ? step.target : sequence.index + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Move to a step (past the last one finishes the sequence), arming its timer if it waits
+     */
+    private static void enter(Sequence sequence, int index) {
+        sequence.timer.cancel();
+        if (index >= sequence.steps.length) {
+            sequence.active = false;
+            return;
+        }
+        Step step = sequence.steps[index];
+        sequence.index = index;
+        sequence.stepStartNanos = TimerWheel.now();
+        sequence.plannedNanos = 0;
+        if (step.kind == Kind.WAIT_TICKS) {
+            int ticks = Math.max(0, step.ticks.getAsInt());
+            if (ticks > 0) {
+                sequence.timer.scheduleTicks(ticks);
+            }
+            sequence.plannedNanos = ticks * TimerWheel.TICK_NANOS;
+        } else if (step.kind == Kind.WAIT_UNTIL) {
+            if (step.timeoutTicks > 0) {
+                sequence.timer.scheduleTicks(step.timeoutTicks);
+            }
+            sequence.plannedNanos = step.timeoutTicks * TimerWheel.TICK_NANOS; // Only reported for timeouts
+        }
+    }
+}
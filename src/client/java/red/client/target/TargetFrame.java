@@ -0,0 +1,152 @@
+package red.client.target;
+
+import red.client.entity.EntityIdSet;
+
+import java.util.Arrays;
+
+/**
+ * Target Frame - Primitive copy of the entities near the player for one tick
+ *
+ * Parallel arrays (structure of arrays) filled on the client thread and read by
+ * the selection worker. Nothing in here references a live entity: ids,
+ * positions, the name tag record's flags and ids, and the lowercase name (an
+ * immutable String owned by NametagCache). Frames are pooled and reused; the
+ * arrays only grow.
+ *
+ * Candidates: TargetSelector addresses stands and mobs with one index space,
+ * stands first (0 .. standCount-1) then mobs (standCount .. candidateCount-1).
+ */
+final class TargetFrame {
+    // Mob flags
+    static final int MOB_VANILLA_SEA_CREATURE = 1; // Squid, glow squid, guardian, elder guardian
+
+    long sequence;
+    double playerX;
+    double playerY;
+    double playerZ;
+
+    // Named armor stands (name tags)
+    int standCount;
+    int[] standIds = new int[64];
+    double[] standX = new double[64];
+    double[] standY = new double[64];
+    double[] standZ = new double[64];
+    String[] standNames = new String[64]; // NametagCache.Entry.lower
+    int[] standNameFlags = new int[64];   // NametagCache flags
+    int[] standCreatures = new int[64];   // SeaCreatureCatalog id or NONE
+    double[] standHp = new double[64];    // NametagCache currentHp, -1 when absent
+
+    // Living mobs
+    int mobCount;
+    int[] mobIds = new int[64];
+    double[] mobX = new double[64];
+    double[] mobY = new double[64];
+    double[] mobZ = new double[64];
+    int[] mobCreatures = new int[64];     // SeaCreatureCatalog id (custom name or type) or NONE
+    int[] mobFlags = new int[64];
+
+    // Entity ids the XYZ macro has blacklisted, copied at capture time
+    final EntityIdSet xyzExcluded = new EntityIdSet();
+
+    void clear() {
+        Arrays.fill(standNames, 0, standCount, null); // Do not keep old names alive through the pool
+        standCount = 0;
+        mobCount = 0;
+        xyzExcluded.clear();
+    }
+
+    int addStand(int id, double x, double y, double z, String name, int nameFlags, int creature, double hp) {
+        int i = standCount;
+        if (i == standIds.length) {
+            int size = i * 2;
+            standIds = Arrays.copyOf(standIds, size);
+            standX = Arrays.copyOf(standX, size);
+            standY = Arrays.copyOf(standY, size);
+            standZ = Arrays.copyOf(standZ, size);
+            standNames = Arrays.copyOf(standNames, size);
+            standNameFlags = Arrays.copyOf(standNameFlags, size);
+            standCreatures = Arrays.copyOf(standCreatures, size);
+            standHp = Arrays.copyOf(standHp, size);
+        }
+        standIds[i] = id;
+        standX[i] = x;
+        standY[i] = y;
+        standZ[i] = z;
+        standNames[i] = name;
+        standNameFlags[i] = nameFlags;
+        standCreatures[i] = creature;
+        standHp[i] = hp;
+        standCount = i + 1;
+        return i;
+    }
+
+    int addMob(int id, double x, double y, double z, int creature, int flags) {
+        int i = mobCount;
+        if (i == mobIds.length) {
+            int size = i * 2;
+            mobIds = Arrays.copyOf(mobIds, size);
+            mobX = Arrays.copyOf(mobX, size);
+            mobY = Arrays.copyOf(mobY, size);
+            mobZ = Arrays.copyOf(mobZ, size);
+            mobCreatures = Arrays.copyOf(mobCreatures, size);
+            mobFlags = Arrays.copyOf(mobFlags, size);
+        }
+        mobIds[i] = id;
+        mobX[i] = x;
+        mobY[i] = y;
+        mobZ[i] = z;
+        mobCreatures[i] = creature;
+        mobFlags[i] = flags;
+        mobCount = i + 1;
+        return i;
+    }
+
+    double standDistanceSq(int i) {
+        double dx = standX[i] - playerX;
+        double dy = standY[i] - playerY;
+        double dz = standZ[i] - playerZ;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    double mobDistanceSq(int i) {
+        double dx = mobX[i] - playerX;
+        double dy = mobY[i] - playerY;
+        double dz = mobZ[i] - playerZ;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    // ===== Candidate view (stands, then mobs) =====
+
+    int candidateCount() {
+        return standCount + mobCount;
+    }
+
+    boolean isStand(int candidate) {
+        return candidate < standCount;
+    }
+
+    int id(int candidate) {
+        return candidate < standCount ? standIds[candidate] : mobIds[candidate - standCount];
+    }
+
+    int creature(int candidate) {
+        return candidate < standCount ? standCreatures[candidate] : mobCreatures[candidate - standCount];
+    }
+
+    double hp(int candidate) {
+        return candidate < standCount ? standHp[candidate] : -1;
+    }
+
+    double distanceSq(int candidate) {
+        return candidate < standCount ? standDistanceSq(candidate) : mobDistanceSq(candidate - standCount);
+    }
+
+    boolean inBox(int candidate, double range) {
+        double x = candidate < standCount ? standX[candidate] : mobX[candidate - standCount];
+        double y = candidate < standCount ? standY[candidate] : mobY[candidate - standCount];
+        double z = candidate < standCount ? standZ[candidate] : mobZ[candidate - standCount];
+        return Math.abs(x - playerX) <= range
+            && Math.abs(y - playerY) <= range
+            && Math.abs(z - playerZ) <= range;
+    }
+}
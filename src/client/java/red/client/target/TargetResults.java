@@ -0,0 +1,95 @@
+package red.client.target;
+
+/**
+ * Target Results - What the selection worker decided for one frame
+ *
+ * Immutable; published by the worker through a single volatile field and
+ * applied by the features on the client thread. Everything is an entity id
+ * (NO_ENTITY when absent): the features resolve ids against the world and
+ * re-check them, since the frame is at least one tick old by then.
+ */
+public final class TargetResults {
+    public static final int NO_ENTITY = -1;
+
+    static final TargetResults EMPTY = new TargetResults(-1, 0, NO_ENTITY, NO_ENTITY, NO_ENTITY, new int[0], new int[0]);
+
+    private final long sequence;
+    private final int seaCreatureCount;
+    private final int nearestSeaCreatureId;
+    private final int bezalStandId;
+    private final int bezalMobId;
+    private final int[] lowHpBezalStandIds;
+    private final int[] xyzStandIds;
+
+    TargetResults(long sequence, int seaCreatureCount, int nearestSeaCreatureId,
+                  int bezalStandId, int bezalMobId, int[] lowHpBezalStandIds, int[] xyzStandIds) {
+        this.sequence = sequence;
+        this.seaCreatureCount = seaCreatureCount;
+        this.nearestSeaCreatureId = nearestSeaCreatureId;
+        this.bezalStandId = bezalStandId;
+        this.bezalMobId = bezalMobId;
+        this.lowHpBezalStandIds = lowHpBezalStandIds;
+        this.xyzStandIds = xyzStandIds;
+    }
+
+    /**
+     * Frame number the results were computed from (increases every capture)
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Sea creatures (named or vanilla) inside the Sea Creature Killer box
+     */
+    public int getSeaCreatureCount() {
+        return seaCreatureCount;
+    }
+
+    /**
+     * Closest sea creature inside the Sea Creature Killer range
+     */
+    public int getNearestSeaCreatureId() {
+        return nearestSeaCreatureId;
+    }
+
+    /**
+     * Closest Bezal name tag in range
+     */
+    public int getBezalStandId() {
+        return bezalStandId;
+    }
+
+    /**
+     * Mob linked under the Bezal name tag (NO_ENTITY if none was in link tolerance)
+     */
+    public int getBezalMobId() {
+        return bezalMobId;
+    }
+
+    /**
+     * Whether a Bezal name tag showed HP below BezalFarmer's Blackhole threshold (the nearest few are kept)
+     */
+    public boolean isLowHpBezal(int standId) {
+        for (int id : lowHpBezalStandIds) {
+            if (id == standId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Number of XYZ mob name tags in range
+     */
+    public int getXyzCandidateCount() {
+        return xyzStandIds.length;
+    }
+
+    /**
+     * XYZ mob name tags in range, nearest first
+     */
+    public int getXyzStandId(int index) {
+        return xyzStandIds[index];
+    }
+}
@@ -0,0 +1,128 @@
+package red.client.target;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import red.client.fishing.util.SeaCreatureCatalog;
+import red.client.target.TargetSelector.Scorer;
+
+import java.util.List;
+
+/**
+ * Target Scorers - Ready-made scoring rules for TargetSelector
+ *
+ * Two candidate kinds exist:
+ * - TargetFrame (worker thread): candidate = frame index, stands then mobs
+ * - List of live entities (client thread): candidate = list index
+ *
+ * Rules, all "lower is better":
+ * - distance: squared distance to the player, REJECT outside the range
+ * - health: current HP, so weak targets are finished first; healthBelow keeps
+ *   only targets under an HP threshold (Bezal's Blackhole trigger)
+ * - creature priority: rank table by SeaCreatureCatalog id (0 = first)
+ * - line of sight: flat penalty when the player cannot see the target (client thread only)
+ *
+ * Scorers are stateless or configured once, so a selector built from them
+ * does not allocate while selecting.
+ */
+public final class TargetScorers {
+
+    private TargetScorers() {
+    }
+
+    // ===== Frame candidates (worker thread) =====
+
+    /**
+     * Squared distance to the player at capture time, REJECT beyond range
+     */
+    static Scorer<TargetFrame> frameDistance(double range) {
+        double rangeSq = range * range;
+        return (frame, candidate) -> {
+            double distanceSq = frame.distanceSq(candidate);
+            return distanceSq <= rangeSq ? distanceSq : TargetSelector.REJECT;
+        };
+    }
+
+    /**
+     * Name tag HP (candidates without a health value score 0)
+     */
+    static final Scorer<TargetFrame> FRAME_HEALTH = (frame, candidate) -> Math.max(0, frame.hp(candidate));
+
+    /**
+     * Name tag HP while it is below the threshold, REJECT at or above it and without a health value
+     */
+    static Scorer<TargetFrame> frameHealthBelow(double threshold) {
+        return (frame, candidate) -> {
+            double hp = frame.hp(candidate);
+            return hp > 0 && hp < threshold ? hp : TargetSelector.REJECT;
+        };
+    }
+
+    /**
+     * Rank of the candidate's sea creature, uncatalogued ones after all ranked ones
+     */
+    static Scorer<TargetFrame> frameCreaturePriority(int[] rankByCreature) {
+        int unranked = unrankedScore(rankByCreature);
+        return (frame, candidate) -> rank(rankByCreature, unranked, frame.creature(candidate));
+    }
+
+    // ===== Live entity candidates (client thread) =====
+
+    /**
+     * Squared distance to the player, no range limit (the caller's query already bounded it)
+     */
+    public static final Scorer<List<? extends Entity>> DISTANCE = distance(Double.POSITIVE_INFINITY);
+
+    /**
+     * Squared distance to the player, REJECT beyond range
+     */
+    public static Scorer<List<? extends Entity>> distance(double range) {
+        double rangeSq = range * range;
+        return (entities, candidate) -> {
+            MinecraftClient client = MinecraftClient.getInstance();
+            if (client.player == null) {
+                return TargetSelector.REJECT;
+            }
+            double distanceSq = client.player.squaredDistanceTo(entities.get(candidate));
+            return distanceSq <= rangeSq ? distanceSq : TargetSelector.REJECT;
+        };
+    }
+
+    /**
+     * Current health of living candidates (others score 0)
+     */
+    public static final Scorer<List<? extends Entity>> HEALTH = (entities, candidate) ->
+        entities.get(candidate) instanceof LivingEntity living ? living.getHealth() : 0;
+
+    /**
+     * Rank of the candidate's sea creature, uncatalogued ones after all ranked ones
+     */
+    public static Scorer<List<? extends Entity>> creaturePriority(int[] rankByCreature) {
+        int unranked = unrankedScore(rankByCreature);
+        return (entities, candidate) -> rank(rankByCreature, unranked, SeaCreatureCatalog.classify(entities.get(candidate)));
+    }
+
+    /**
+     * Penalty when the player has no line of sight (REJECT as penalty drops hidden targets)
+     */
+    public static Scorer<List<? extends Entity>> lineOfSight(double penalty) {
+        return (entities, candidate) -> {
+            MinecraftClient client = MinecraftClient.getInstance();
+            return client.player != null && client.player.canSee(entities.get(candidate)) ? 0 : penalty;
+        };
+    }
+
+    // ===== Internals =====
+
+    private static double rank(int[] rankByCreature, int unranked, int creature) {
+        return creature >= 0 && creature < rankByCreature.length ? rankByCreature[creature] : unranked;
+    }
+
+    private static int unrankedScore(int[] rankByCreature) {
+        int max = -1;
+        for (int rank : rankByCreature) {
+            max = Math.max(max, rank);
+        }
+        return max + 1;
+    }
+}
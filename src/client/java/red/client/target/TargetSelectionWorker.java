@@ -0,0 +1,306 @@
+package red.client.target;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.mob.ElderGuardianEntity;
+import net.minecraft.entity.mob.GuardianEntity;
+import net.minecraft.entity.passive.GlowSquidEntity;
+import net.minecraft.entity.passive.SquidEntity;
+import red.client.entity.EntityIdSet;
+import red.client.entity.EntitySnapshot;
+import red.client.entity.NametagCache;
+import red.client.entity.NametagLinker;
+import red.client.fishing.feature.BezalFarmer;
+import red.client.fishing.feature.SeaCreatureKiller;
+import red.client.fishing.feature.XYZMacro;
+import red.client.fishing.util.SeaCreatureCatalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Target Selection Worker - Picks combat targets off the client thread
+ *
+ * The client thread only captures: once per tick it copies the name tags and
+ * living mobs around the player into a pooled TargetFrame (ids, positions and
+ * the already-parsed NametagCache fields). A daemon thread takes the newest
+ * frame and does the rest: name matching, counting, TargetSelector picks and
+ * linking name tags to the mobs below them. Its answer is published as an
+ * immutable TargetResults through one volatile field; Sea Creature Killer,
+ * Bezal Farmer and the XYZ macro read it on their next tick and re-validate the
+ * ids against the world.
+ *
+ * Frame handoff: three frames cycle between "being filled", "pending" and
+ * "being selected". If the worker falls behind, the client overwrites the
+ * pending frame instead of queueing, so the worker always sees the latest tick.
+ *
+ * Performance: client thread pays one bounded copy per tick, no allocation once warm
+ */
+public final class TargetSelectionWorker {
+    // Capture box half-size: the widest consumer range (Bezal)
+    private static final double CAPTURE_RANGE = Math.max(BezalFarmer.DETECTION_RANGE,
+        Math.max(SeaCreatureKiller.DETECTION_RANGE, XYZMacro.DETECTION_RANGE));
+
+    private static final String[] XYZ_MOB_NAMES = {"exe", "wai", "zee"}; // Lowercase, matched against the name tag
+    private static final int MAX_XYZ_CANDIDATES = 8;
+    private static final int MAX_LOW_HP_BEZALS = 4;
+
+    // Worker thread selectors
+    private static final TargetSelector<TargetFrame> seaCreatureSelector = new TargetSelector<TargetFrame>(1)
+        .score(TargetScorers.frameDistance(SeaCreatureKiller.DETECTION_RANGE));
+    private static final TargetSelector<TargetFrame> bezalSelector = new TargetSelector<TargetFrame>(1)
+        .score(TargetScorers.frameDistance(BezalFarmer.DETECTION_RANGE));
+    private static final TargetSelector<TargetFrame> lowHpBezalSelector = new TargetSelector<TargetFrame>(MAX_LOW_HP_BEZALS)
+        .score(TargetScorers.frameHealthBelow(BezalFarmer.LOW_HP_THRESHOLD), 0) // Filter only, nearest first
+        .score(TargetScorers.frameDistance(BezalFarmer.DETECTION_RANGE));
+    private static final EntityIdSet xyzBlacklist = new EntityIdSet();
+    private static final TargetSelector<TargetFrame> xyzSelector = new TargetSelector<TargetFrame>(MAX_XYZ_CANDIDATES)
+        .score(TargetScorers.frameDistance(XYZMacro.DETECTION_RANGE))
+        .exclude(xyzBlacklist);
+
+    private static final ArrayBlockingQueue<TargetFrame> freeFrames = new ArrayBlockingQueue<>(3);
+    private static final AtomicReference<TargetFrame> pendingFrame = new AtomicReference<>();
+    private static volatile TargetResults latest = TargetResults.EMPTY;
+    private static Thread worker;
+    private static long sequence;
+    private static long staleThrough = -1; // Frames up to this one were captured before capture last stopped
+
+    // Client thread capture buffers
+    private static final List<ArmorStandEntity> capturedStands = new ArrayList<>();
+    private static final List<LivingEntity> capturedMobs = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < 3; i++) {
+            freeFrames.add(new TargetFrame());
+        }
+    }
+
+    private TargetSelectionWorker() {
+    }
+
+    /**
+     * Newest results (never null; EMPTY until the first frame captured since capture (re)started is processed)
+     */
+    public static TargetResults latest() {
+        TargetResults results = latest;
+        return results.getSequence() > staleThrough ? results : TargetResults.EMPTY;
+    }
+
+    /**
+     * Capture stopped (TargetCapture task disabled): results of the frames taken so far are
+     * stale once it resumes, including one the worker may still be selecting
+     */
+    public static void onCaptureStopped() {
+        staleThrough = sequence;
+    }
+
+    /**
+     * Copy this tick's nearby entities into a frame and hand it to the worker (client thread, after EntitySnapshot.update)
+     */
+    public static void capture() {
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null) {
+            return;
+        }
+
+        TargetFrame frame = freeFrames.poll();
+        if (frame == null) {
+            frame = pendingFrame.getAndSet(null); // Worker is behind, reuse the frame it has not started
+            if (frame == null) {
+                return;
+            }
+        }
+
+        fill(frame, client.player.getX(), client.player.getY(), client.player.getZ());
+
+        TargetFrame dropped = pendingFrame.getAndSet(frame);
+        if (dropped != null) {
+            freeFrames.offer(dropped);
+        }
+        startOrWake();
+    }
+
+    // ===== Capture (client thread) =====
+
+    private static void fill(TargetFrame frame, double px, double py, double pz) {
+        frame.clear();
+        frame.sequence = ++sequence;
+        frame.playerX = px;
+        frame.playerY = py;
+        frame.playerZ = pz;
+
+        capturedStands.clear();
+        EntitySnapshot.getNamedArmorStandGrid().queryBox(
+            px - CAPTURE_RANGE, py - CAPTURE_RANGE, pz - CAPTURE_RANGE,
+            px + CAPTURE_RANGE, py + CAPTURE_RANGE, pz + CAPTURE_RANGE,
+            capturedStands
+        );
+        for (int i = 0; i < capturedStands.size(); i++) {
+            ArmorStandEntity stand = capturedStands.get(i);
+            NametagCache.Entry nametag = NametagCache.get(stand);
+            if (nametag != null) {
+                frame.addStand(stand.getId(), stand.getX(), stand.getY(), stand.getZ(),
+                    nametag.lower, nametag.flags, nametag.creatureId, nametag.currentHp);
+            }
+        }
+        capturedStands.clear();
+
+        capturedMobs.clear();
+        EntitySnapshot.getLivingMobGrid().queryBox(
+            px - CAPTURE_RANGE, py - CAPTURE_RANGE, pz - CAPTURE_RANGE,
+            px + CAPTURE_RANGE, py + CAPTURE_RANGE, pz + CAPTURE_RANGE,
+            capturedMobs
+        );
+        for (int i = 0; i < capturedMobs.size(); i++) {
+            LivingEntity mob = capturedMobs.get(i);
+            NametagCache.Entry nametag = NametagCache.get(mob);
+            int creature = nametag != null ? nametag.creatureId : SeaCreatureCatalog.classify(mob); // Unnamed: cached per type
+            int flags = isVanillaSeaCreature(mob) ? TargetFrame.MOB_VANILLA_SEA_CREATURE : 0;
+            frame.addMob(mob.getId(), mob.getX(), mob.getY(), mob.getZ(), creature, flags);
+        }
+        capturedMobs.clear();
+
+        XYZMacro.copyBlacklistedIds(frame.xyzExcluded);
+    }
+
+    private static boolean isVanillaSeaCreature(LivingEntity mob) {
+        return mob instanceof SquidEntity
+            || mob instanceof GlowSquidEntity
+            || mob instanceof GuardianEntity
+            || mob instanceof ElderGuardianEntity;
+    }
+
+    private static void startOrWake() {
+        if (worker == null) {
+            worker = new Thread(TargetSelectionWorker::run, "RedClient Target Selector");
+            worker.setDaemon(true);
+            worker.start();
+        }
+        LockSupport.unpark(worker);
+    }
+
+    // ===== Selection (worker thread) =====
+
+    private static void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            TargetFrame frame = pendingFrame.getAndSet(null);
+            if (frame == null) {
+                LockSupport.park();
+                continue;
+            }
+
+            try {
+                latest = select(frame);
+            } catch (RuntimeException e) {
+                System.err.println("[TargetSelector] Selection failed: " + e.getMessage());
+            } finally {
+                freeFrames.offer(frame);
+            }
+        }
+    }
+
+    /**
+     * Everything the features need from one frame
+     */
+    static TargetResults select(TargetFrame frame) {
+        // Sea Creature Killer: count in the box, nearest in the sphere (same shape as the old grid queries)
+        int seaCreatureCount = 0;
+        seaCreatureSelector.begin(frame);
+        for (int c = 0; c < frame.candidateCount(); c++) {
+            if (isSeaCreature(frame, c) && frame.inBox(c, SeaCreatureKiller.DETECTION_RANGE)) {
+                seaCreatureCount++;
+                seaCreatureSelector.offer(c, frame.id(c));
+            }
+        }
+        seaCreatureSelector.finish();
+
+        // Bezal Farmer: nearest Bezal name tag, then the mob under it; the low HP ones are Blackhole targets
+        bezalSelector.begin(frame);
+        lowHpBezalSelector.begin(frame);
+        for (int i = 0; i < frame.standCount; i++) {
+            if (isBezalNametag(frame, i)) {
+                bezalSelector.offer(i, frame.standIds[i]);
+                lowHpBezalSelector.offer(i, frame.standIds[i]);
+            }
+        }
+        int bezalStand = bezalSelector.finish() > 0 ? bezalSelector.get(0) : -1;
+        int[] lowHpBezalStandIds = new int[lowHpBezalSelector.finish()];
+        for (int i = 0; i < lowHpBezalStandIds.length; i++) {
+            lowHpBezalStandIds[i] = lowHpBezalSelector.getEntityId(i);
+        }
+
+        // XYZ macro: nearest exe/wai/zee name tags that are not blacklisted
+        xyzBlacklist.clear();
+        xyzBlacklist.addAll(frame.xyzExcluded);
+        xyzSelector.begin(frame);
+        for (int i = 0; i < frame.standCount; i++) {
+            if (isXyzNametag(frame.standNames[i])) {
+                xyzSelector.offer(i, frame.standIds[i]);
+            }
+        }
+        int[] xyzStandIds = new int[xyzSelector.finish()];
+        for (int i = 0; i < xyzStandIds.length; i++) {
+            xyzStandIds[i] = xyzSelector.getEntityId(i);
+        }
+
+        return new TargetResults(
+            frame.sequence,
+            seaCreatureCount,
+            seaCreatureSelector.size() > 0 ? seaCreatureSelector.getEntityId(0) : TargetResults.NO_ENTITY,
+            bezalStand >= 0 ? frame.standIds[bezalStand] : TargetResults.NO_ENTITY,
+            bezalStand >= 0 ? linkMobBelow(frame, bezalStand) : TargetResults.NO_ENTITY,
+            lowHpBezalStandIds,
+            xyzStandIds
+        );
+    }
+
+    private static boolean isSeaCreature(TargetFrame frame, int candidate) {
+        if (frame.creature(candidate) != SeaCreatureCatalog.NONE) {
+            return true;
+        }
+        return !frame.isStand(candidate)
+            && (frame.mobFlags[candidate - frame.standCount] & TargetFrame.MOB_VANILLA_SEA_CREATURE) != 0;
+    }
+
+    private static boolean isBezalNametag(TargetFrame frame, int i) {
+        int flags = frame.standNameFlags[i];
+        return (flags & NametagCache.FLAG_HEALTH) != 0
+            && (flags & NametagCache.FLAG_PLAYER_NAME) == 0
+            && frame.standNames[i].contains("bezal");
+    }
+
+    /**
+     * Closest mob inside NametagLinker's tolerance under a name tag
+     */
+    private static int linkMobBelow(TargetFrame frame, int stand) {
+        int best = TargetResults.NO_ENTITY;
+        double bestSq = Double.MAX_VALUE;
+        for (int i = 0; i < frame.mobCount; i++) {
+            double dx = frame.mobX[i] - frame.standX[stand];
+            double dy = frame.mobY[i] - frame.standY[stand];
+            double dz = frame.mobZ[i] - frame.standZ[stand];
+            if (!NametagLinker.isWithinLinkTolerance(dx, dy, dz)) {
+                continue;
+            }
+            double distanceSq = dx * dx + dy * dy + dz * dz;
+            if (distanceSq < bestSq) {
+                bestSq = distanceSq;
+                best = frame.mobIds[i];
+            }
+        }
+        return best;
+    }
+
+    private static boolean isXyzNametag(String lowerName) {
+        for (String name : XYZ_MOB_NAMES) {
+            if (lowerName.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,225 @@
+package red.client.target;
+
+import red.client.entity.EntityIdSet;
+
+import java.util.Arrays;
+
+/**
+ * Target Selector - Top-k candidates by a weighted sum of pluggable scores
+ *
+ * One selector replaces the hand-written "closest so far" loops: the caller
+ * offers candidates (an index into whatever context it scans, plus the entity
+ * id), every scorer rates the candidate, and the k lowest totals are kept in a
+ * bounded max-heap whose root is the worst kept candidate. A new candidate
+ * either loses against the root in O(1) or replaces it in O(log k).
+ *
+ * Scores are "lower is better". A scorer returns REJECT to drop a candidate
+ * outright (out of range, wrong kind, no line of sight...), the remaining
+ * scorers are then skipped. Candidates whose entity id is in an exclusion set
+ * are dropped before any scoring.
+ *
+ * Usage:
+ *   begin(context) -> offer(...) per candidate -> finish() -> get(0 .. size-1), best first
+ *
+ * A selector instance is single-threaded (one per feature / per worker), the
+ * scorer list is fixed once it is in use.
+ *
+ * Performance: O(n log k) per selection, allocation-free after construction
+ */
+public final class TargetSelector<C> {
+    public static final double REJECT = Double.POSITIVE_INFINITY;
+
+    /**
+     * Rates one candidate of a context (lower is better, REJECT to drop it)
+     */
+    @FunctionalInterface
+    public interface Scorer<C> {
+        double score(C context, int candidate);
+    }
+
+    private final int limit;
+    private Scorer<C>[] scorers;
+    private double[] weights;
+    private EntityIdSet[] exclusions = new EntityIdSet[0];
+
+    // Bounded max-heap, parallel arrays
+    private final int[] candidates;
+    private final int[] entityIds;
+    private final double[] scores;
+    private int size;
+    private C context;
+
+    @SuppressWarnings("unchecked")
+    public TargetSelector(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Selector limit must be at least 1: " + limit);
+        }
+        this.limit = limit;
+        this.scorers = new Scorer[0];
+        this.weights = new double[0];
+        this.candidates = new int[limit];
+        this.entityIds = new int[limit];
+        this.scores = new double[limit];
+    }
+
+    /**
+     * Add a scorer with weight 1
+     */
+    public TargetSelector<C> score(Scorer<C> scorer) {
+        return score(scorer, 1.0);
+    }
+
+    /**
+     * Add a weighted scorer (a REJECT from it drops the candidate regardless of weight)
+     */
+    public TargetSelector<C> score(Scorer<C> scorer, double weight) {
+        scorers = Arrays.copyOf(scorers, scorers.length + 1);
+        weights = Arrays.copyOf(weights, weights.length + 1);
+        scorers[scorers.length - 1] = scorer;
+        weights[weights.length - 1] = weight;
+        return this;
+    }
+
+    /**
+     * Drop candidates whose entity id is in this set (the set is read on the selecting thread)
+     */
+    public TargetSelector<C> exclude(EntityIdSet ids) {
+        exclusions = Arrays.copyOf(exclusions, exclusions.length + 1);
+        exclusions[exclusions.length - 1] = ids;
+        return this;
+    }
+
+    /**
+     * Start a selection over a context
+     */
+    public void begin(C context) {
+        this.context = context;
+        this.size = 0;
+    }
+
+    /**
+     * Rate one candidate and keep it if it is among the best k so far
+     * @return true if it was kept (it may still be pushed out later)
+     */
+    public boolean offer(int candidate, int entityId) {
+        for (EntityIdSet excluded : exclusions) {
+            if (excluded.contains(entityId)) {
+                return false;
+            }
+        }
+
+        double total = 0;
+        for (int i = 0; i < scorers.length; i++) {
+            double score = scorers[i].score(context, candidate);
+            if (score == REJECT) {
+                return false;
+            }
+            total += score * weights[i];
+        }
+        if (size == limit && total >= scores[0]) {
+            return false; // Not better than the worst kept one
+        }
+
+        if (size < limit) {
+            int slot = size++;
+            set(slot, candidate, entityId, total);
+            siftUp(slot);
+        } else {
+            set(0, candidate, entityId, total);
+            siftDown(0, size);
+        }
+        return true;
+    }
+
+    /**
+     * Order the kept candidates best first
+     * @return number of kept candidates
+     */
+    public int finish() {
+        // In-place heapsort: repeatedly move the worst to the end
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        context = null;
+        return size;
+    }
+
+    /**
+     * Kept candidates (after finish)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Candidate index of the i-th best (after finish)
+     */
+    public int get(int index) {
+        return candidates[index];
+    }
+
+    /**
+     * Entity id of the i-th best (after finish)
+     */
+    public int getEntityId(int index) {
+        return entityIds[index];
+    }
+
+    /**
+     * Total score of the i-th best (after finish)
+     */
+    public double getScore(int index) {
+        return scores[index];
+    }
+
+    // ===== Internals =====
+
+    private void set(int slot, int candidate, int entityId, double score) {
+        candidates[slot] = candidate;
+        entityIds[slot] = entityId;
+        scores[slot] = score;
+    }
+
+    private void siftUp(int slot) {
+        while (slot > 0) {
+            int parent = (slot - 1) >>> 1;
+            if (scores[parent] >= scores[slot]) {
+                return;
+            }
+            swap(parent, slot);
+            slot = parent;
+        }
+    }
+
+    private void siftDown(int slot, int end) {
+        while (true) {
+            int child = slot * 2 + 1;
+            if (child >= end) {
+                return;
+            }
+            if (child + 1 < end && scores[child + 1] > scores[child]) {
+                child++;
+            }
+            if (scores[slot] >= scores[child]) {
+                return;
+            }
+            swap(slot, child);
+            slot = child;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int candidate = candidates[a];
+        candidates[a] = candidates[b];
+        candidates[b] = candidate;
+
+        int entityId = entityIds[a];
+        entityIds[a] = entityIds[b];
+        entityIds[b] = entityId;
+
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+    }
+}
@@ -0,0 +1,239 @@
+package red.client.tick;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import red.client.perf.TickProfiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Tick Scheduler - One place that decides which feature runs on which tick
+ *
+ * Features register a task with a cadence (every N ticks), a phase (start or end
+ * of the client tick) and an enablement predicate. Each tick the scheduler walks
+ * its run list in registration order:
+ * - a disabled task costs one predicate call; it is never invoked or timed, and
+ *   its onDisable hook runs once when it flips from enabled to disabled
+ * - an enabled task runs on the ticks where tick % period == offset, timed under
+ *   its own TickProfiler section
+ *
+ * Disabled tasks stay in the run list on purpose: enablement comes from config
+ * flags flipped by /red commands and keybinds, and from timer and sequence
+ * state, none of which tell the scheduler when they change. Polling a field per
+ * task is cheaper and safer than routing every one of those writes through it.
+ *
+ * Offsets are picked when a task registers: the scheduler keeps a per-phase load
+ * table over a short tick horizon and gives every periodic task the offset whose
+ * ticks are least busy, so two 10-tick scans never land on the same tick.
+ *
+ * Tasks only run while a player and world exist. Client thread only.
+ *
+ * Performance: O(registered tasks) predicate reads per tick, no allocation
+ */
+public final class TickScheduler {
+    // Load table length; a multiple of every common period (1-6, 8, 10, 12, 15, 20, 24, 30...)
+    private static final int HORIZON = 240;
+
+    /**
+     * Where in the client tick a task runs
+     */
+    public enum Phase {
+        START,
+        END
+    }
+
+    private static final List<Task> startTasks = new ArrayList<>();
+    private static final List<Task> endTasks = new ArrayList<>();
+    private static final int[] startLoad = new int[HORIZON];
+    private static final int[] endLoad = new int[HORIZON];
+    private static long startTick;
+    private static long endTick;
+    private static boolean installed = false;
+
+    // Whole end phase, shown by /red perf as the tick total
+    private static final TickProfiler.Section PROFILE_TOTAL = TickProfiler.section("Total");
+
+    /**
+     * One scheduled feature; configure with the fluent setters, then register()
+     */
+    public static final class Task {
+        private final String name;
+        private final Runnable action;
+        private Phase phase = Phase.END;
+        private int period = 1;
+        private int offset;
+        private BooleanSupplier enabled = () -> true;
+        private Runnable onDisable;
+        private TickProfiler.Section profile;
+        private boolean active;
+        private boolean registered;
+
+        private Task(String name, Runnable action) {
+            this.name = name;
+            this.action = action;
+        }
+
+        /**
+         * Run every N ticks (default 1), staggered against other periodic tasks
+         */
+        public Task every(int ticks) {
+            if (ticks < 1) {
+                throw new IllegalArgumentException("Tick period must be at least 1: " + ticks);
+            }
+            this.period = ticks;
+            return this;
+        }
+
+        /**
+         * Tick phase (default END)
+         */
+        public Task phase(Phase phase) {
+            this.phase = phase;
+            return this;
+        }
+
+        /**
+         * Only run while the predicate holds (default: always)
+         */
+        public Task enabledWhen(BooleanSupplier predicate) {
+            this.enabled = predicate;
+            return this;
+        }
+
+        /**
+         * Cleanup run once when the task goes from enabled to disabled
+         */
+        public Task onDisable(Runnable hook) {
+            this.onDisable = hook;
+            return this;
+        }
+
+        /**
+         * Add the task to its phase's run list (after everything registered before it)
+         */
+        public Task register() {
+            TickScheduler.add(this);
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getPeriod() {
+            return period;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private TickScheduler() {
+    }
+
+    /**
+     * Start describing a task (nothing runs until register())
+     */
+    public static Task task(String name, Runnable action) {
+        return new Task(name, action);
+    }
+
+    /**
+     * Registered tasks of a phase, in run order (debug)
+     */
+    public static List<Task> getTasks(Phase phase) {
+        return phase == Phase.START ? startTasks : endTasks;
+    }
+
+    // ===== Internals =====
+
+    private static void add(Task task) {
+        if (task.registered) {
+            return;
+        }
+        task.registered = true;
+        install();
+
+        int[] load = task.phase == Phase.START ? startLoad : endLoad;
+        task.offset = leastLoadedOffset(load, task.period);
+        for (int tick = task.offset; tick < HORIZON; tick += task.period) {
+            load[tick]++;
+        }
+
+        task.profile = TickProfiler.section(task.name);
+        (task.phase == Phase.START ? startTasks : endTasks).add(task);
+    }
+
+    /**
+     * Offset whose ticks carry the smallest peak load (then the smallest total)
+     */
+    private static int leastLoadedOffset(int[] load, int period) {
+        int bestOffset = 0;
+        int bestPeak = Integer.MAX_VALUE;
+        int bestTotal = Integer.MAX_VALUE;
+
+        for (int offset = 0; offset < period && offset < HORIZON; offset++) {
+            int peak = 0;
+            int total = 0;
+            for (int tick = offset; tick < HORIZON; tick += period) {
+                peak = Math.max(peak, load[tick]);
+                total += load[tick];
+            }
+            if (peak < bestPeak || (peak == bestPeak && total < bestTotal)) {
+                bestOffset = offset;
+                bestPeak = peak;
+                bestTotal = total;
+            }
+        }
+        return bestOffset;
+    }
+
+    private static void install() {
+        if (installed) {
+            return;
+        }
+        installed = true;
+
+        ClientTickEvents.START_CLIENT_TICK.register(client -> {
+            if (client.player != null && client.world != null) {
+                run(startTasks, startTick++);
+            }
+        });
+        ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            if (client.player != null && client.world != null) {
+                TickProfiler.time(PROFILE_TOTAL, TickScheduler::runEnd);
+            }
+        });
+    }
+
+    private static void runEnd() {
+        run(endTasks, endTick++);
+    }
+
+    private static void run(List<Task> tasks, long tick) {
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+
+            if (!task.enabled.getAsBoolean()) {
+                if (task.active) {
+                    task.active = false;
+                    if (task.onDisable != null) {
+                        task.onDisable.run();
+                    }
+                }
+                continue;
+            }
+            task.active = true;
+
+            if (task.period == 1 || tick % task.period == task.offset) {
+                TickProfiler.time(task.profile, task.action);
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package red.client.tick;
+
+import red.client.world.GameViews;
+
+/**
+ * Timer Wheel - One-shot timers for macro delays and cooldowns
+ *
+ * A feature declares its Timers once and schedules them with a delay; the
+ * timer's action runs on the client thread at the first tick start where the
+ * delay has elapsed. Until then nothing polls: no per-tick countdown, no clock
+ * comparison in the feature. A timer without an action is a cooldown, read
+ * with isPending().
+ *
+ * Time is the GameView's monotonic clock (System.nanoTime in game), so NTP
+ * corrections or a suspended machine neither fire timers early nor hold them
+ * back. Headless runs drive it with InMemoryGameView's clock and advance().
+ *
+ * Hierarchical wheel: slots are one tick (50ms) wide. Level 0 holds the 64
+ * slots of the current 3.2s block, level 1 the 64 blocks of the current
+ * 3.4 min, level 2 of 3.6 h and level 3 of 9.7 days; later deadlines wait in an
+ * overflow list. Entering a new block moves the timers of its bucket one level
+ * down, and advance() jumps straight over empty slots. Timers are intrusive
+ * list nodes, so scheduling and cancelling never allocate.
+ *
+ * Advanced at the start of every tick while a timer is pending ("Timers" task,
+ * FishingMod). Client thread only.
+ *
+ * Performance: O(1) schedule/cancel, amortized O(1) per tick, no allocation
+ */
+public final class TimerWheel {
+    public static final long TICK_NANOS = 50_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int OVERFLOW = LEVELS;  // Level of timers past the top level
+    private static final int IDLE = -1;          // Level of timers that are not scheduled
+
+    private static final Timer[][] buckets = new Timer[LEVELS][SLOTS];
+    private static Timer overflow;
+    private static long occupied;                // Non-empty level 0 buckets, bit per slot
+    private static int pending;
+
+    private static long epoch;                   // Clock time of slot 0, re-anchored whenever the wheel is empty
+    private static long currentSlot;
+    private static boolean advancing;
+
+    /**
+     * One timer; schedule it as often as needed (rescheduling a pending timer moves it)
+     */
+    public static final class Timer {
+        private final String name;
+        private final Runnable action;
+        private long deadline;
+        private int level = IDLE;
+        private int bucket;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(String name, Runnable action) {
+            this.name = name;
+            this.action = action;
+        }
+
+        /**
+         * Fire after delayMillis
+         */
+        public void schedule(long delayMillis) {
+            scheduleAt(now() + delayMillis * NANOS_PER_MILLI);
+        }
+
+        /**
+         * Fire at the tick start a number of ticks from now (50ms each)
+         * The deadline sits half a tick early: called mid-tick, the Nth tick start comes slightly
+         * less than N x 50ms later and should still count
+         */
+        public void scheduleTicks(int ticks) {
+            scheduleAt(now() + ticks * TICK_NANOS - TICK_NANOS / 2);
+        }
+
+        /**
+         * Fire once the clock (now()) reaches deadlineNanos; a past deadline fires on the next tick
+         */
+        public void scheduleAt(long deadlineNanos) {
+            unlink(this);
+            if (pending == 0 && !advancing) {
+                epoch = now();
+                currentSlot = 0;
+            }
+            deadline = deadlineNanos;
+            insert(this);
+        }
+
+        /**
+         * Drop the timer without firing (no-op if not pending)
+         */
+        public void cancel() {
+            unlink(this);
+        }
+
+        public boolean isPending() {
+            return level != IDLE;
+        }
+
+        /**
+         * Time left until the timer fires, 0 when not pending
+         */
+        public long remainingMillis() {
+            return remainingNanos() / NANOS_PER_MILLI;
+        }
+
+        /**
+         * Time left until the timer fires in nanoseconds, 0 when not pending
+         */
+        public long remainingNanos() {
+            return isPending() ? Math.max(0, deadline - now()) : 0;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private TimerWheel() {
+    }
+
+    /**
+     * Declare a timer that runs the action when it fires (call once, keep the result in a field)
+     */
+    public static Timer timer(String name, Runnable action) {
+        return new Timer(name, action);
+    }
+
+    /**
+     * Declare a cooldown: a timer with no action, checked with isPending()
+     */
+    public static Timer timer(String name) {
+        return new Timer(name, null);
+    }
+
+    /**
+     * Monotonic clock the timers run on, in nanoseconds
+     */
+    public static long now() {
+        return GameViews.get().nanoTime();
+    }
+
+    public static boolean hasPending() {
+        return pending > 0;
+    }
+
+    public static int getPendingCount() {
+        return pending;
+    }
+
+    /**
+     * Fire every timer whose deadline has passed (once per tick, at tick start)
+     */
+    public static void advance() {
+        if (pending == 0) {
+            return;
+        }
+
+        advancing = true;
+        try {
+            long now = now();
+            long nowSlot = slotOf(now);
+            fireDue(now);
+            while (currentSlot < nowSlot && pending > 0) {
+                // Next occupied slot of this block, or the start of the next block
+                int offset = (int) (currentSlot & MASK);
+                long later = offset == MASK ? 0 : occupied & (-1L << (offset + 1));
+                long next = later != 0
+                    ? (currentSlot & ~MASK) + Long.numberOfTrailingZeros(later)
+                    : (currentSlot | MASK) + 1;
+                currentSlot = Math.min(next, nowSlot);
+                if ((currentSlot & MASK) == 0) {
+                    cascade();
+                }
+                fireDue(now);
+            }
+        } finally {
+            advancing = false;
+        }
+    }
+
+    // ===== Internals =====
+
+    private static long slotOf(long nanos) {
+        return Math.floorDiv(nanos - epoch, TICK_NANOS);
+    }
+
+    /**
+     * Run the due timers of the current slot; later ones (current slot only) stay
+     */
+    private static void fireDue(long now) {
+        int bucket = (int) (currentSlot & MASK);
+        Timer timer = buckets[0][bucket];
+        while (timer != null) {
+            if (timer.deadline > now) {
+                timer = timer.next;
+                continue;
+            }
+            unlink(timer);
+            if (timer.action != null) {
+                timer.action.run();
+            }
+            timer = buckets[0][bucket]; // The action may have scheduled or cancelled timers
+        }
+    }
+
+    /**
+     * Entering a new block: move the timers of its higher-level buckets down
+     */
+    private static void cascade() {
+        if ((currentSlot & ((1L << (BITS * LEVELS)) - 1)) == 0) {
+            Timer timer = overflow;
+            overflow = null;
+            reinsert(timer);
+        }
+        for (int level = LEVELS - 1; level > 0; level--) {
+            if ((currentSlot & ((1L << (BITS * level)) - 1)) != 0) {
+                continue;
+            }
+            int bucket = (int) ((currentSlot >>> (BITS * level)) & MASK);
+            Timer timer = buckets[level][bucket];
+            buckets[level][bucket] = null;
+            reinsert(timer);
+        }
+    }
+
+    private static void reinsert(Timer timer) {
+        while (timer != null) {
+            Timer next = timer.next;
+            pending--;
+            timer.level = IDLE;
+            timer.prev = null;
+            timer.next = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Lowest level whose current block contains the deadline's slot (past deadlines go to the current slot)
+     */
+    private static void insert(Timer timer) {
+        long slot = Math.max(slotOf(timer.deadline), currentSlot);
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * (level + 1);
+            if ((slot >>> shift) == (currentSlot >>> shift)) {
+                link(timer, level, (int) ((slot >>> (BITS * level)) & MASK));
+                return;
+            }
+        }
+        link(timer, OVERFLOW, 0);
+    }
+
+    private static void link(Timer timer, int level, int bucket) {
+        Timer head = level == OVERFLOW ? overflow : buckets[level][bucket];
+        timer.level = level;
+        timer.bucket = bucket;
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        if (level == OVERFLOW) {
+            overflow = timer;
+        } else {
+            buckets[level][bucket] = timer;
+        }
+        if (level == 0) {
+            occupied |= 1L << bucket;
+        }
+        pending++;
+    }
+
+    private static void unlink(Timer timer) {
+        if (timer.level == IDLE) {
+            return;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else if (timer.level == OVERFLOW) {
+            overflow = timer.next;
+        } else {
+            buckets[timer.level][timer.bucket] = timer.next;
+            if (timer.level == 0 && timer.next == null) {
+                occupied &= ~(1L << timer.bucket);
+            }
+        }
+        timer.level = IDLE;
+        timer.prev = null;
+        timer.next = null;
+        pending--;
+    }
+}
@@ -0,0 +1,237 @@
+package red.client.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Multi Pattern Matcher - Aho-Corasick automaton over a fixed set of literal patterns
+ *
+ * Built once from the pattern list, then finds every pattern occurring in a text
+ * in a single left-to-right pass, independent of how many patterns there are.
+ * The automaton is compiled to a dense transition table over a compact alphabet
+ * (only characters that appear in some pattern get their own column), so each
+ * input character costs one table lookup.
+ *
+ * Pattern ids are their index in the array passed to the constructor.
+ *
+ * Performance: O(text length) per query, no allocation while matching
+ */
+public final class MultiPatternMatcher {
+    public static final int NO_MATCH = -1;
+
+    /**
+     * Callback for forEachMatch
+     */
+    @FunctionalInterface
+    public interface MatchConsumer {
+        /**
+         * @param patternId index of the matched pattern
+         * @param end       exclusive end offset of the match in the text
+         */
+        void accept(int patternId, int end);
+    }
+
+    private final boolean ignoreCase;
+    private final int[] patternLengths;
+
+    // Alphabet: ASCII via direct table, everything else via sorted lookup (class 0 = not in any pattern)
+    private final int[] asciiClasses = new int[128];
+    private final char[] otherChars;
+    private final int[] otherClasses;
+    private final int alphabetSize;
+
+    // Automaton tables, indexed by state (and state * alphabetSize + class for transitions)
+    private final int[] transitions;
+    private final int[] output;      // pattern ending exactly at this state, or NO_MATCH
+    private final int[] outputLink;  // nearest proper suffix state with an output, or -1
+    private final int[] longest;     // longest pattern ending at this state (own output or via link)
+
+    /**
+     * Compile the automaton
+     * @param patterns   literal patterns (empty strings are ignored)
+     * @param ignoreCase match regardless of letter case
+     */
+    public MultiPatternMatcher(String[] patterns, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.patternLengths = new int[patterns.length];
+
+        // Build the compact alphabet
+        List<Character> others = new ArrayList<>();
+        int nextClass = 1;
+        for (String pattern : patterns) {
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = normalize(pattern.charAt(i));
+                if (c < 128) {
+                    if (asciiClasses[c] == 0) {
+                        asciiClasses[c] = nextClass++;
+                    }
+                } else if (!others.contains(c)) {
+                    others.add(c);
+                }
+            }
+        }
+        others.sort(null);
+        otherChars = new char[others.size()];
+        otherClasses = new int[others.size()];
+        for (int i = 0; i < others.size(); i++) {
+            otherChars[i] = others.get(i);
+            otherClasses[i] = nextClass++;
+        }
+        alphabetSize = nextClass;
+
+        // Build the trie (transition rows grow as states are added, -1 = no edge yet)
+        List<int[]> rows = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        rows.add(newRow());
+        outputs.add(NO_MATCH);
+
+        for (int id = 0; id < patterns.length; id++) {
+            String pattern = patterns[id];
+            patternLengths[id] = pattern.length();
+            if (pattern.isEmpty()) {
+                continue;
+            }
+
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                int cls = classOf(pattern.charAt(i));
+                int[] row = rows.get(state);
+                if (row[cls] == -1) {
+                    row[cls] = rows.size();
+                    rows.add(newRow());
+                    outputs.add(NO_MATCH);
+                }
+                state = row[cls];
+            }
+
+            // Duplicate patterns keep the first id
+            if (outputs.get(state) == NO_MATCH) {
+                outputs.set(state, id);
+            }
+        }
+
+        int stateCount = rows.size();
+        transitions = new int[stateCount * alphabetSize];
+        output = new int[stateCount];
+        outputLink = new int[stateCount];
+        longest = new int[stateCount];
+        int[] fail = new int[stateCount];
+
+        for (int s = 0; s < stateCount; s++) {
+            output[s] = outputs.get(s);
+        }
+
+        // Breadth-first: fill missing edges from the failure state, compute output links
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        int[] root = rows.get(0);
+        for (int cls = 0; cls < alphabetSize; cls++) {
+            int child = root[cls];
+            if (child == -1) {
+                transitions[cls] = 0;
+            } else {
+                transitions[cls] = child;
+                fail[child] = 0;
+                queue.add(child);
+            }
+        }
+        outputLink[0] = -1;
+        longest[0] = NO_MATCH;
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int f = fail[state];
+            outputLink[state] = output[f] != NO_MATCH ? f : outputLink[f];
+            longest[state] = output[state] != NO_MATCH ? output[state] : longest[f];
+
+            int[] row = rows.get(state);
+            int base = state * alphabetSize;
+            int failBase = f * alphabetSize;
+            for (int cls = 0; cls < alphabetSize; cls++) {
+                int child = row[cls];
+                if (child == -1) {
+                    transitions[base + cls] = transitions[failBase + cls];
+                } else {
+                    transitions[base + cls] = child;
+                    fail[child] = transitions[failBase + cls];
+                    queue.add(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of patterns the matcher was built with
+     */
+    public int patternCount() {
+        return patternLengths.length;
+    }
+
+    /**
+     * Whether any pattern occurs in the text
+     */
+    public boolean matchesAny(CharSequence text) {
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            if (longest[state] != NO_MATCH) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Longest pattern occurring anywhere in the text (earliest end wins ties)
+     * @return pattern id, or NO_MATCH
+     */
+    public int findLongest(CharSequence text) {
+        int state = 0;
+        int best = NO_MATCH;
+        int bestLength = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            int candidate = longest[state];
+            if (candidate != NO_MATCH && patternLengths[candidate] > bestLength) {
+                best = candidate;
+                bestLength = patternLengths[candidate];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Report every occurrence of every pattern, in order of end offset
+     */
+    public void forEachMatch(CharSequence text, MatchConsumer consumer) {
+        int state = 0;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            state = transitions[state * alphabetSize + classOf(text.charAt(i))];
+            for (int s = output[state] != NO_MATCH ? state : outputLink[state]; s != -1; s = outputLink[s]) {
+                consumer.accept(output[s], i + 1);
+            }
+        }
+    }
+
+    // ===== Internals =====
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private char normalize(char c) {
+        return ignoreCase ? Character.toLowerCase(c) : c;
+    }
+
+    private int classOf(char c) {
+        c = normalize(c);
+        if (c < 128) {
+            return asciiClasses[c];
+        }
+        int index = Arrays.binarySearch(otherChars, c);
+        return index >= 0 ? otherClasses[index] : 0;
+    }
+}
@@ -0,0 +1,211 @@
+package red.client.world;
+
+import net.minecraft.util.Formatting;
+
+/**
+ * Game View - The narrow slice of the game the macro state machines read and act on
+ *
+ * Features ask this view for the player, inventory, fishing hook, nearby
+ * entities and worker-selected targets, and click / aim / fight / message
+ * through it, instead of reaching into MinecraftClient. In game the view is MinecraftGameView; InMemoryGameView lets
+ * the same state machines be driven tick by tick from tests or benchmarks.
+ *
+ * Inventory slots use the vanilla PlayerInventory layout: 0-8 hotbar, 9-35 main
+ * inventory, OFF_HAND_SLOT for the off hand. Entities are addressed by their
+ * network id (Entity.getId()), NO_ENTITY when there is none.
+ */
+public interface GameView {
+    int HOTBAR_SIZE = 9;
+    int MAIN_SIZE = 36;
+    int OFF_HAND_SLOT = 40;
+    int NO_ENTITY = -1;
+
+    /**
+     * What an inventory slot holds, as far as the macros care
+     */
+    enum ItemKind {
+        EMPTY,
+        FISHING_ROD,
+        HYPERION,
+        FIRE_VEIL_WAND,
+        MELEE_WEAPON,
+        OTHER
+    }
+
+    // ===== World / player =====
+
+    /**
+     * Whether a player is in a world (every other query assumes this)
+     */
+    boolean isInGame();
+
+    double getPlayerX();
+
+    double getPlayerY();
+
+    double getPlayerZ();
+
+    float getPlayerYaw();
+
+    float getPlayerPitch();
+
+    /**
+     * Whether a screen (inventory, chest, chat...) is open over the game
+     */
+    boolean isScreenOpen();
+
+    // ===== Entities =====
+
+    /**
+     * Whether the entity is loaded and not removed (every other entity query assumes this)
+     */
+    boolean isEntityPresent(int entityId);
+
+    double getEntityX(int entityId);
+
+    double getEntityY(int entityId);
+
+    double getEntityZ(int entityId);
+
+    /**
+     * Custom name if the entity has one, otherwise its formatted type name
+     */
+    String getEntityName(int entityId);
+
+    /**
+     * Whether the entity is a catalogued or vanilla sea creature
+     */
+    boolean isSeaCreature(int entityId);
+
+    /**
+     * Whether a name tag showing the REEL indicator floats within radius of a point
+     */
+    boolean hasReelIndicatorNear(double x, double y, double z, double radius);
+
+    // ===== Targets (selected off-thread, a tick old) =====
+
+    int getSeaCreatureCount();
+
+    int getNearestSeaCreatureId();
+
+    /**
+     * XYZ name tags, nearest first, blacklist already excluded at capture time
+     */
+    int getXyzCandidateCount();
+
+    int getXyzStandId(int index);
+
+    // ===== Aim (smooth rotation, one owner at a time) =====
+
+    /**
+     * Follow an entity, aiming yOffset above its feet
+     * @return false if another owner holds the rotation
+     */
+    boolean lookAt(Object owner, int entityId, double yOffset, float speed);
+
+    boolean rotateTo(Object owner, float yaw, float pitch, float speed);
+
+    boolean isAimOwner(Object owner);
+
+    /**
+     * Whether owner holds the rotation and is within tolerance of its target
+     */
+    boolean isAimSettled(Object owner, float toleranceDegrees);
+
+    void releaseAim(Object owner);
+
+    // ===== Combat (Sea Creature Killer's selected combat mode) =====
+
+    /**
+     * Set up the combat mode (weapon, rotation) against a target
+     */
+    void enterCombat(int entityId);
+
+    boolean canAttack();
+
+    void attack(int entityId);
+
+    void exitCombat();
+
+    String getCombatModeName();
+
+    // ===== Inventory =====
+
+    ItemKind getItemKind(int slot);
+
+    int getSelectedSlot();
+
+    void selectSlot(int hotbarSlot);
+
+    /**
+     * Swap a main inventory slot with a hotbar slot (inventory click)
+     */
+    void swapWithHotbar(int inventorySlot, int hotbarSlot);
+
+    // ===== Fishing =====
+
+    boolean hasFishHook();
+
+    /**
+     * Whether the fishing hook is floating in water or lava
+     */
+    boolean isFishHookInLiquid();
+
+    /**
+     * Consume a bite on the player's own hook ("!!!" marker over the bobber)
+     * @return clock time (nanoTime) the marker appeared, or -1 if there is no new bite
+     */
+    long pollBite();
+
+    // ===== Input / output =====
+
+    void rightClick();
+
+    void leftClick();
+
+    boolean isCursorLocked();
+
+    void setCursorLocked(boolean locked);
+
+    /**
+     * Chat message to the local player, "[prefix] message"
+     */
+    void sendMessage(String prefix, String message, Formatting color);
+
+    /**
+     * Monotonic clock for delays, cooldowns and bite times, in nanoseconds (System.nanoTime in game)
+     */
+    long nanoTime();
+
+    // ===== Helpers =====
+
+    /**
+     * Squared distance from the player's feet to the entity's
+     */
+    default double getDistanceSq(int entityId) {
+        double dx = getEntityX(entityId) - getPlayerX();
+        double dy = getEntityY(entityId) - getPlayerY();
+        double dz = getEntityZ(entityId) - getPlayerZ();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Whether the selected hotbar slot or the off hand holds the given kind
+     */
+    default boolean isHolding(ItemKind kind) {
+        return getItemKind(getSelectedSlot()) == kind || getItemKind(OFF_HAND_SLOT) == kind;
+    }
+
+    /**
+     * First slot in [from, to) holding the given kind
+     * @return slot index, or -1 if none
+     */
+    default int findSlot(ItemKind kind, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (getItemKind(i) == kind) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,27 @@
+package red.client.world;
+
+/**
+ * Game Views - Holder for the GameView the features run against
+ *
+ * Defaults to the live client. Tests and benchmarks install an InMemoryGameView
+ * before ticking a feature.
+ */
+public final class GameViews {
+    private static GameView current;
+
+    private GameViews() {
+    }
+
+    public static GameView get() {
+        GameView view = current;
+        if (view == null) {
+            view = new MinecraftGameView();
+            current = view;
+        }
+        return view;
+    }
+
+    public static void set(GameView view) {
+        current = view;
+    }
+}
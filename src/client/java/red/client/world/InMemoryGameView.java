@@ -0,0 +1,332 @@
+package red.client.world;
+
+import net.minecraft.util.Formatting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-Memory Game View - Scriptable GameView with no client behind it
+ *
+ * Every field is plain state the caller sets between ticks (hook landed, bite
+ * marker appeared, sea creature spawned, clock advanced); every action is
+ * recorded so the caller can assert on or count it. Lets macro state machines
+ * run headless.
+ */
+public final class InMemoryGameView implements GameView {
+    public boolean inGame = true;
+    public double playerX;
+    public double playerY;
+    public double playerZ;
+    public float playerYaw;
+    public float playerPitch;
+    public boolean screenOpen;
+
+    public final ItemKind[] inventory = new ItemKind[OFF_HAND_SLOT + 1];
+    public int selectedSlot;
+
+    public boolean fishHook;
+    public boolean fishHookInLiquid;
+    public long biteAtNanos = -1; // Set to timeNanos when a bite marker appears, consumed by pollBite()
+    public boolean cursorLocked = true;
+    public long timeNanos;
+
+    public final Map<Integer, EntityState> entities = new HashMap<>();
+    public int seaCreatureCount;
+    public int nearestSeaCreatureId = NO_ENTITY;
+    public int[] xyzStandIds = new int[0];
+    public boolean aimSettled = true; // Whether the owner's rotation has reached its target
+    public boolean attackReady = true;
+    public String combatModeName = "Melee";
+
+    // Recorded actions
+    public int rightClicks;
+    public int leftClicks;
+    public int swaps;
+    public int attacks;
+    public Object aimOwner;
+    public int aimedEntityId = NO_ENTITY;
+    public int combatTargetId = NO_ENTITY;
+    public final List<String> messages = new ArrayList<>();
+
+    /**
+     * A scripted entity; remove it from entities to despawn it
+     */
+    public static final class EntityState {
+        public double x;
+        public double y;
+        public double z;
+        public String name;
+        public boolean seaCreature;
+        public boolean reelIndicator; // Shows a REEL name tag at its position
+    }
+
+    public InMemoryGameView() {
+        Arrays.fill(inventory, ItemKind.EMPTY);
+    }
+
+    /**
+     * Add (or replace) an entity at a position
+     */
+    public EntityState addEntity(int entityId, double x, double y, double z, String name, boolean seaCreature) {
+        EntityState entity = new EntityState();
+        entity.x = x;
+        entity.y = y;
+        entity.z = z;
+        entity.name = name;
+        entity.seaCreature = seaCreature;
+        entities.put(entityId, entity);
+        return entity;
+    }
+
+    /**
+     * Advance the clock by one game tick (50 ms)
+     */
+    public void advanceTick() {
+        timeNanos += 50_000_000L;
+    }
+
+    @Override
+    public boolean isInGame() {
+        return inGame;
+    }
+
+    @Override
+    public double getPlayerX() {
+        return playerX;
+    }
+
+    @Override
+    public double getPlayerY() {
+        return playerY;
+    }
+
+    @Override
+    public double getPlayerZ() {
+        return playerZ;
+    }
+
+    @Override
+    public float getPlayerYaw() {
+        return playerYaw;
+    }
+
+    @Override
+    public float getPlayerPitch() {
+        return playerPitch;
+    }
+
+    @Override
+    public boolean isScreenOpen() {
+        return screenOpen;
+    }
+
+    @Override
+    public boolean isEntityPresent(int entityId) {
+        return entities.containsKey(entityId);
+    }
+
+    @Override
+    public double getEntityX(int entityId) {
+        return entities.get(entityId).x;
+    }
+
+    @Override
+    public double getEntityY(int entityId) {
+        return entities.get(entityId).y;
+    }
+
+    @Override
+    public double getEntityZ(int entityId) {
+        return entities.get(entityId).z;
+    }
+
+    @Override
+    public String getEntityName(int entityId) {
+        EntityState entity = entities.get(entityId);
+        return entity != null ? entity.name : "";
+    }
+
+    @Override
+    public boolean isSeaCreature(int entityId) {
+        EntityState entity = entities.get(entityId);
+        return entity != null && entity.seaCreature;
+    }
+
+    @Override
+    public boolean hasReelIndicatorNear(double x, double y, double z, double radius) {
+        for (EntityState entity : entities.values()) {
+            double dx = entity.x - x;
+            double dy = entity.y - y;
+            double dz = entity.z - z;
+            if (entity.reelIndicator && dx * dx + dy * dy + dz * dz <= radius * radius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getSeaCreatureCount() {
+        return seaCreatureCount;
+    }
+
+    @Override
+    public int getNearestSeaCreatureId() {
+        return nearestSeaCreatureId;
+    }
+
+    @Override
+    public int getXyzCandidateCount() {
+        return xyzStandIds.length;
+    }
+
+    @Override
+    public int getXyzStandId(int index) {
+        return xyzStandIds[index];
+    }
+
+    @Override
+    public boolean lookAt(Object owner, int entityId, double yOffset, float speed) {
+        if (!acquireAim(owner) || !entities.containsKey(entityId)) {
+            return false;
+        }
+        aimedEntityId = entityId;
+        return true;
+    }
+
+    @Override
+    public boolean rotateTo(Object owner, float yaw, float pitch, float speed) {
+        if (!acquireAim(owner)) {
+            return false;
+        }
+        aimedEntityId = NO_ENTITY;
+        return true;
+    }
+
+    @Override
+    public boolean isAimOwner(Object owner) {
+        return aimOwner == owner;
+    }
+
+    @Override
+    public boolean isAimSettled(Object owner, float toleranceDegrees) {
+        return aimOwner == owner && aimSettled;
+    }
+
+    @Override
+    public void releaseAim(Object owner) {
+        if (aimOwner == owner) {
+            aimOwner = null;
+            aimedEntityId = NO_ENTITY;
+        }
+    }
+
+    @Override
+    public void enterCombat(int entityId) {
+        combatTargetId = entityId;
+    }
+
+    @Override
+    public boolean canAttack() {
+        return attackReady;
+    }
+
+    @Override
+    public void attack(int entityId) {
+        attacks++;
+    }
+
+    @Override
+    public void exitCombat() {
+        combatTargetId = NO_ENTITY;
+    }
+
+    @Override
+    public String getCombatModeName() {
+        return combatModeName;
+    }
+
+    @Override
+    public ItemKind getItemKind(int slot) {
+        return slot >= 0 && slot < inventory.length ? inventory[slot] : ItemKind.EMPTY;
+    }
+
+    @Override
+    public int getSelectedSlot() {
+        return selectedSlot;
+    }
+
+    @Override
+    public void selectSlot(int hotbarSlot) {
+        selectedSlot = hotbarSlot;
+    }
+
+    @Override
+    public void swapWithHotbar(int inventorySlot, int hotbarSlot) {
+        ItemKind moved = inventory[inventorySlot];
+        inventory[inventorySlot] = inventory[hotbarSlot];
+        inventory[hotbarSlot] = moved;
+        swaps++;
+    }
+
+    @Override
+    public boolean hasFishHook() {
+        return fishHook;
+    }
+
+    @Override
+    public boolean isFishHookInLiquid() {
+        return fishHook && fishHookInLiquid;
+    }
+
+    @Override
+    public long pollBite() {
+        long bite = biteAtNanos;
+        biteAtNanos = -1;
+        return bite;
+    }
+
+    @Override
+    public void rightClick() {
+        rightClicks++;
+    }
+
+    @Override
+    public void leftClick() {
+        leftClicks++;
+    }
+
+    @Override
+    public boolean isCursorLocked() {
+        return cursorLocked;
+    }
+
+    @Override
+    public void setCursorLocked(boolean locked) {
+        cursorLocked = locked;
+    }
+
+    @Override
+    public void sendMessage(String prefix, String message, Formatting color) {
+        messages.add("[" + prefix + "] " + message);
+    }
+
+    @Override
+    public long nanoTime() {
+        return timeNanos;
+    }
+
+    // ===== Internals =====
+
+    private boolean acquireAim(Object owner) {
+        if (aimOwner != null && aimOwner != owner) {
+            return false;
+        }
+        aimOwner = owner;
+        return true;
+    }
+}
@@ -0,0 +1,350 @@
+package red.client.world;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.decoration.ArmorStandEntity;
+import net.minecraft.entity.projectile.FishingBobberEntity;
+import net.minecraft.screen.slot.SlotActionType;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import red.client.entity.EntitySnapshot;
+import red.client.entity.NametagCache;
+import red.client.fishing.combat.CombatMode;
+import red.client.fishing.combat.CombatModeManager;
+import red.client.fishing.feature.SeaCreatureKiller;
+import red.client.fishing.util.BiteDetector;
+import red.client.fishing.util.FishMouseSimulator;
+import red.client.fishing.util.SeaCreatureCatalog;
+import red.client.inventory.InventoryIndex;
+import red.client.rotation.RotationService;
+import red.client.target.TargetSelectionWorker;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minecraft Game View - GameView backed by the running client
+ *
+ * Bites come from BiteDetector, which sees the marker as its name tag arrives.
+ * Item kinds come from InventoryIndex's per-slot classification. Entity ids are
+ * resolved through the client world on every call, targets come from
+ * TargetSelectionWorker, aim from RotationService and combat from the mode
+ * CombatModeManager has selected.
+ */
+public final class MinecraftGameView implements GameView {
+    private final MinecraftClient client = MinecraftClient.getInstance();
+    private final List<ArmorStandEntity> nearbyStands = new ArrayList<>(); // Reused spatial query buffer
+
+    @Override
+    public boolean isInGame() {
+        return client.player != null && client.world != null;
+    }
+
+    @Override
+    public double getPlayerX() {
+        return client.player.getX();
+    }
+
+    @Override
+    public double getPlayerY() {
+        return client.player.getY();
+    }
+
+    @Override
+    public double getPlayerZ() {
+        return client.player.getZ();
+    }
+
+    @Override
+    public float getPlayerYaw() {
+        return client.player.getYaw();
+    }
+
+    @Override
+    public float getPlayerPitch() {
+        return client.player.getPitch();
+    }
+
+    @Override
+    public boolean isScreenOpen() {
+        return client.currentScreen != null;
+    }
+
+    @Override
+    public boolean isEntityPresent(int entityId) {
+        return entity(entityId) != null;
+    }
+
+    @Override
+    public double getEntityX(int entityId) {
+        return entity(entityId).getX();
+    }
+
+    @Override
+    public double getEntityY(int entityId) {
+        return entity(entityId).getY();
+    }
+
+    @Override
+    public double getEntityZ(int entityId) {
+        return entity(entityId).getZ();
+    }
+
+    @Override
+    public String getEntityName(int entityId) {
+        Entity entity = entity(entityId);
+        if (entity == null) {
+            return "";
+        }
+        if (entity.hasCustomName() && entity.getCustomName() != null) {
+            return entity.getCustomName().getString();
+        }
+        return SeaCreatureCatalog.formatTypeName(entity.getType());
+    }
+
+    @Override
+    public boolean isSeaCreature(int entityId) {
+        return SeaCreatureKiller.isTargetSeaCreature(entity(entityId));
+    }
+
+    @Override
+    public boolean hasReelIndicatorNear(double x, double y, double z, double radius) {
+        // Unnamed stands only ever display "Armor Stand", so the named stand grid is enough
+        nearbyStands.clear();
+        EntitySnapshot.getNamedArmorStandGrid().queryRadius(x, y, z, radius, nearbyStands);
+        for (int i = 0; i < nearbyStands.size(); i++) {
+            NametagCache.Entry nametag = NametagCache.get(nearbyStands.get(i));
+            if (nametag != null && nametag.has(NametagCache.FLAG_REEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int getSeaCreatureCount() {
+        return TargetSelectionWorker.latest().getSeaCreatureCount();
+    }
+
+    @Override
+    public int getNearestSeaCreatureId() {
+        return TargetSelectionWorker.latest().getNearestSeaCreatureId();
+    }
+
+    @Override
+    public int getXyzCandidateCount() {
+        return TargetSelectionWorker.latest().getXyzCandidateCount();
+    }
+
+    @Override
+    public int getXyzStandId(int index) {
+        return TargetSelectionWorker.latest().getXyzStandId(index);
+    }
+
+    @Override
+    public boolean lookAt(Object owner, int entityId, double yOffset, float speed) {
+        Entity entity = entity(entityId);
+        return entity != null && RotationService.lookAt(owner, entity, yOffset, speed);
+    }
+
+    @Override
+    public boolean rotateTo(Object owner, float yaw, float pitch, float speed) {
+        return RotationService.rotateTo(owner, yaw, pitch, speed);
+    }
+
+    @Override
+    public boolean isAimOwner(Object owner) {
+        return RotationService.isOwner(owner);
+    }
+
+    @Override
+    public boolean isAimSettled(Object owner, float toleranceDegrees) {
+        return RotationService.isSettled(owner, toleranceDegrees);
+    }
+
+    @Override
+    public void releaseAim(Object owner) {
+        RotationService.release(owner);
+    }
+
+    @Override
+    public void enterCombat(int entityId) {
+        CombatMode mode = CombatModeManager.getInstance().getCurrentMode();
+        Entity entity = entity(entityId);
+        if (mode != null && entity != null) {
+            mode.enterCombat(entity);
+        }
+    }
+
+    @Override
+    public boolean canAttack() {
+        CombatMode mode = CombatModeManager.getInstance().getCurrentMode();
+        return mode != null && mode.canAttack();
+    }
+
+    @Override
+    public void attack(int entityId) {
+        CombatMode mode = CombatModeManager.getInstance().getCurrentMode();
+        Entity entity = entity(entityId);
+        if (mode != null && entity != null) {
+            mode.performAttack(entity);
+        }
+    }
+
+    @Override
+    public void exitCombat() {
+        CombatMode mode = CombatModeManager.getInstance().getCurrentMode();
+        if (mode != null) {
+            mode.exitCombat();
+        }
+    }
+
+    @Override
+    public String getCombatModeName() {
+        CombatMode mode = CombatModeManager.getInstance().getCurrentMode();
+        return mode != null ? mode.getModeName() : "Unknown";
+    }
+
+    @Override
+    public ItemKind getItemKind(int slot) {
+        return toItemKind(InventoryIndex.getKinds(slot));
+    }
+
+    @Override
+    public int findSlot(ItemKind kind, int from, int to) {
+        int kinds = toKinds(kind);
+        if (kinds == 0) {
+            return GameView.super.findSlot(kind, from, to); // EMPTY / OTHER are not indexed kinds
+        }
+        int slot = InventoryIndex.findFirst(kinds, from, to);
+        while (slot != -1 && getItemKind(slot) != kind) {
+            slot = InventoryIndex.findFirst(kinds, slot + 1, to); // A higher-priority kind shadows this one
+        }
+        return slot;
+    }
+
+    @Override
+    public int getSelectedSlot() {
+        return client.player.getInventory().getSelectedSlot();
+    }
+
+    @Override
+    public void selectSlot(int hotbarSlot) {
+        client.player.getInventory().setSelectedSlot(hotbarSlot);
+    }
+
+    @Override
+    public void swapWithHotbar(int inventorySlot, int hotbarSlot) {
+        if (client.interactionManager == null) {
+            return;
+        }
+        client.interactionManager.clickSlot(
+            client.player.playerScreenHandler.syncId,
+            inventorySlot,
+            hotbarSlot,
+            SlotActionType.SWAP,
+            client.player
+        );
+    }
+
+    @Override
+    public boolean hasFishHook() {
+        return client.player != null && client.player.fishHook != null;
+    }
+
+    @Override
+    public boolean isFishHookInLiquid() {
+        FishingBobberEntity bobber = client.player != null ? client.player.fishHook : null;
+        return bobber != null && (bobber.isTouchingWater() || bobber.isInLava());
+    }
+
+    @Override
+    public long pollBite() {
+        return BiteDetector.poll();
+    }
+
+    @Override
+    public void rightClick() {
+        FishMouseSimulator.simulateRightClick(client);
+    }
+
+    @Override
+    public void leftClick() {
+        FishMouseSimulator.simulateLeftClick(client);
+    }
+
+    @Override
+    public boolean isCursorLocked() {
+        return client.mouse != null && client.mouse.isCursorLocked();
+    }
+
+    @Override
+    public void setCursorLocked(boolean locked) {
+        if (client.mouse == null) {
+            return;
+        }
+        if (locked) {
+            client.mouse.lockCursor();
+        } else {
+            client.mouse.unlockCursor();
+        }
+    }
+
+    @Override
+    public void sendMessage(String prefix, String message, Formatting color) {
+        if (client.player != null) {
+            client.player.sendMessage(
+                Text.literal("[" + prefix + "] ").formatted(Formatting.AQUA, Formatting.BOLD)
+                    .append(Text.literal(message).formatted(color)),
+                false
+            );
+        }
+    }
+
+    @Override
+    public long nanoTime() {
+        return System.nanoTime();
+    }
+
+    // ===== Internals =====
+
+    /**
+     * Live entity for an id, or null if it is not loaded or already removed
+     */
+    private Entity entity(int entityId) {
+        if (client.world == null || entityId == NO_ENTITY) {
+            return null;
+        }
+        Entity entity = client.world.getEntityById(entityId);
+        return entity != null && !entity.isRemoved() ? entity : null;
+    }
+
+    private static ItemKind toItemKind(int kinds) {
+        if (kinds == 0) {
+            return ItemKind.EMPTY;
+        }
+        if ((kinds & InventoryIndex.ROD) != 0) {
+            return ItemKind.FISHING_ROD;
+        }
+        if ((kinds & InventoryIndex.HYPERION) != 0) {
+            return ItemKind.HYPERION;
+        }
+        if ((kinds & InventoryIndex.FIRE_VEIL) != 0) {
+            return ItemKind.FIRE_VEIL_WAND;
+        }
+        if ((kinds & InventoryIndex.MELEE) != 0) {
+            return ItemKind.MELEE_WEAPON;
+        }
+        return ItemKind.OTHER;
+    }
+
+    private static int toKinds(ItemKind kind) {
+        return switch (kind) {
+            case FISHING_ROD -> InventoryIndex.ROD;
+            case HYPERION -> InventoryIndex.HYPERION;
+            case FIRE_VEIL_WAND -> InventoryIndex.FIRE_VEIL;
+            case MELEE_WEAPON -> InventoryIndex.MELEE;
+            default -> 0;
+        };
+    }
+}
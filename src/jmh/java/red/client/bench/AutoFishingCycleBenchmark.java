@@ -0,0 +1,72 @@
+package red.client.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import red.client.fishing.feature.AutoFishingFeature;
+import red.client.tick.TimerWheel;
+import red.client.world.GameView;
+import red.client.world.GameViews;
+import red.client.world.InMemoryGameView;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AutoFishingFeature state machine driven headless through InMemoryGameView
+ *
+ * One operation is a minute of game time (1200 ticks): the scripted world
+ * follows the macro's clicks (a click casts or reels the hook) and reports a
+ * bite 30 ticks into every 2 seconds. Timers are advanced at tick start, as
+ * the "Timers" task does in game.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutoFishingCycleBenchmark {
+    private static final int TICKS = 1200;
+
+    private InMemoryGameView view;
+
+    @Setup
+    public void setup() {
+        view = new InMemoryGameView();
+        view.inventory[0] = GameView.ItemKind.FISHING_ROD;
+        GameViews.set(view);
+        if (!AutoFishingFeature.isEnabled()) {
+            AutoFishingFeature.toggle();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (AutoFishingFeature.isEnabled()) {
+            AutoFishingFeature.toggle();
+        }
+        GameViews.set(null);
+    }
+
+    @Benchmark
+    public int minuteOfFishing() {
+        int clicksBefore = view.rightClicks;
+        for (int tick = 0; tick < TICKS; tick++) {
+            int clicks = view.rightClicks;
+            view.advanceTick();
+            TimerWheel.advance();
+            AutoFishingFeature.tick();
+
+            if (view.rightClicks != clicks) {
+                view.fishHook = !view.fishHook;
+                view.fishHookInLiquid = view.fishHook;
+            }
+            if (view.fishHook && tick % 40 == 30) {
+                view.biteAtNanos = view.timeNanos;
+            }
+        }
+        return view.rightClicks - clicksBefore;
+    }
+}
@@ -0,0 +1,143 @@
+package red.client.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import red.client.fishing.util.SkyblockHealth;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Health parsing over a name tag population
+ *
+ * legacyBezal / legacyMelee are verbatim copies of the parsers that used to live
+ * in BezalFarmer.parseCurrentHP and MeleeMode.getHealthFromArmorStandName, kept
+ * here as the baseline for SkyblockHealth. Run with the gc profiler (the default
+ * for ./gradlew jmh) to see gc.alloc.rate.norm per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HealthParseBenchmark {
+    // Same pattern as net.minecraft.util.Formatting.strip
+    private static final Pattern FORMATTING_CODE = Pattern.compile("(?i)§[0-9A-FK-OR]");
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private String[] formatted;
+    private String[] plain;
+    private final SkyblockHealth.Result result = new SkyblockHealth.Result();
+
+    @Setup
+    public void setup() {
+        formatted = Populations.formattedNametags(size);
+        plain = Populations.nametags(size);
+    }
+
+    @Benchmark
+    public void legacyBezal(Blackhole blackhole) {
+        for (String name : formatted) {
+            blackhole.consume(legacyParseCurrentHP(name));
+        }
+    }
+
+    @Benchmark
+    public void legacyMelee(Blackhole blackhole) {
+        for (String name : plain) {
+            blackhole.consume(legacyGetHealthFromArmorStandName(name));
+        }
+    }
+
+    @Benchmark
+    public void skyblockHealth(Blackhole blackhole) {
+        for (String name : plain) {
+            blackhole.consume(SkyblockHealth.parseCurrent(name, result));
+        }
+    }
+
+    /**
+     * SkyblockHealth including the one formatting strip NametagCache does per update
+     */
+    @Benchmark
+    public void skyblockHealthWithStrip(Blackhole blackhole) {
+        for (String name : formatted) {
+            blackhole.consume(SkyblockHealth.parseCurrent(FORMATTING_CODE.matcher(name).replaceAll(""), result));
+        }
+    }
+
+    // ===== Legacy baselines =====
+
+    private static double legacyParseCurrentHP(String nameTags) {
+        if (nameTags == null || nameTags.isEmpty()) {
+            return -1;
+        }
+
+        String cleanName = FORMATTING_CODE.matcher(nameTags).replaceAll("");
+
+        int slashIndex = cleanName.indexOf('/');
+        if (slashIndex <= 0) {
+            return -1;
+        }
+
+        String currentHPPart = cleanName.substring(0, slashIndex).trim();
+
+        StringBuilder hpStr = new StringBuilder();
+        for (int i = currentHPPart.length() - 1; i >= 0; i--) {
+            char c = currentHPPart.charAt(i);
+            if (Character.isDigit(c) || c == '.' || c == 'k' || c == 'K' || c == 'm' || c == 'M') {
+                hpStr.insert(0, c);
+            } else if (!hpStr.isEmpty()) {
+                break;
+            }
+        }
+
+        if (hpStr.isEmpty()) {
+            return -1;
+        }
+
+        return legacyConvertHPStringToNumber(hpStr.toString());
+    }
+
+    private static double legacyConvertHPStringToNumber(String hpStr) {
+        hpStr = hpStr.toLowerCase().trim();
+
+        try {
+            if (hpStr.endsWith("k")) {
+                return Double.parseDouble(hpStr.substring(0, hpStr.length() - 1)) * 1000.0;
+            } else if (hpStr.endsWith("m")) {
+                return Double.parseDouble(hpStr.substring(0, hpStr.length() - 1)) * 1000000.0;
+            } else {
+                return Double.parseDouble(hpStr);
+            }
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static int legacyGetHealthFromArmorStandName(String name) {
+        int health = 0;
+        try {
+            String[] parts = name.split(" ");
+            for (String part : parts) {
+                if (part.contains("/") && part.matches(".*\\d+/\\d+.*")) {
+                    String healthPart = part.replaceAll("[^0-9/]", "");
+                    String[] healthNumbers = healthPart.split("/");
+                    if (healthNumbers.length >= 2) {
+                        health = Integer.parseInt(healthNumbers[0].replace(",", ""));
+                        break;
+                    }
+                }
+            }
+        } catch (Exception ignored) {
+        }
+        return health;
+    }
+}
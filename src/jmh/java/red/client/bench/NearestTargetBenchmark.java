@@ -0,0 +1,107 @@
+package red.client.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import red.client.entity.SpatialHashGrid;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearest target selection over a scattered entity population
+ *
+ * legacyStreamMin mirrors the old world scan: filter everything in range, then
+ * stream().min() by distance. The grid benchmarks rebuild a SpatialHashGrid (as
+ * EntitySnapshot does once per tick) and then query it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearestTargetBenchmark {
+    private static final double RANGE = 16.0;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private double[] positions;
+    private Target[] targets;
+    private final SpatialHashGrid<Target> grid = new SpatialHashGrid<>();
+
+    // Player at the middle of the population
+    private final double px = 0.0;
+    private final double py = 70.0;
+    private final double pz = 0.0;
+
+    /**
+     * Stand-in for an entity: its position and whether it is alive
+     */
+    static final class Target {
+        final double x;
+        final double y;
+        final double z;
+        final boolean alive;
+
+        Target(double x, double y, double z, boolean alive) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.alive = alive;
+        }
+
+        double squaredDistanceTo(double ox, double oy, double oz) {
+            double dx = x - ox;
+            double dy = y - oy;
+            double dz = z - oz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        positions = Populations.positions(size);
+        targets = new Target[size];
+        for (int i = 0; i < size; i++) {
+            targets[i] = new Target(positions[i * 3], positions[i * 3 + 1], positions[i * 3 + 2], i % 7 != 0);
+        }
+        rebuild();
+    }
+
+    @Benchmark
+    public Target legacyStreamMin() {
+        List<Target> inRange = new ArrayList<>();
+        for (Target target : targets) {
+            if (target.alive && Math.sqrt(target.squaredDistanceTo(px, py, pz)) <= RANGE) {
+                inRange.add(target);
+            }
+        }
+        return inRange.stream()
+            .min(Comparator.comparingDouble(target -> Math.sqrt(target.squaredDistanceTo(px, py, pz))))
+            .orElse(null);
+    }
+
+    @Benchmark
+    public Target gridQuery() {
+        return grid.nearest(px, py, pz, RANGE, target -> target.alive);
+    }
+
+    @Benchmark
+    public Target gridRebuildAndQuery() {
+        rebuild();
+        return grid.nearest(px, py, pz, RANGE, target -> target.alive);
+    }
+
+    private void rebuild() {
+        grid.clear();
+        for (Target target : targets) {
+            grid.add(target, target.x, target.y, target.z);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package red.client.bench;
+
+import red.client.fishing.util.SeaCreatureCatalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Synthetic name tag, item name and position populations for the benchmarks
+ *
+ * Seeded, so every run and every implementation sees the same data.
+ */
+final class Populations {
+    private static final long SEED = 0x5EA_C4EA7L;
+
+    private static final String[] OTHER_MOBS = {
+        "Zombie", "Skeleton", "Enderman", "Crypt Ghoul", "Golden Ghoul", "Voidling Fanatic", "Magma Cube Rider"
+    };
+
+    private static final String[] ITEM_NAMES = {
+        "Hyperion", "Heroic Hyperion", "Withered Valkyrie", "Fire Veil Wand", "Wand of Atonement",
+        "Treecapitator", "Sweet Axe", "Aspect of the Dragons", "Livid Dagger", "Flower of Truth",
+        "Rod of the Sea", "Challenging Rod", "Giant's Sword", "Shadow Fury", "Juju Shortbow",
+        "Enchanted Book", "Magma Lord Chestplate", "Stonk", "Abiphone XII Mega", "Jungle Axe"
+    };
+
+    private static final String[] HP_FORMATS = {"%d/%d", "%dk/%dk", "%d.%dm/%dm", "%,d/%,d"};
+
+    private Populations() {
+    }
+
+    /**
+     * Plain name tags: mostly "[Lv80] Creature 1.2m/3m❤", plus bite markers, prompts and land mobs
+     */
+    static String[] nametags(int size) {
+        Random random = new Random(SEED);
+        List<String> creatures = new ArrayList<>(SeaCreatureCatalog.getNames());
+        String[] out = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            int roll = random.nextInt(20);
+            if (roll == 0) {
+                out[i] = "!!!";
+            } else if (roll == 1) {
+                out[i] = "Reel in the Golden Fish!";
+            } else {
+                String name = roll < 15
+                    ? creatures.get(random.nextInt(creatures.size()))
+                    : OTHER_MOBS[random.nextInt(OTHER_MOBS.length)];
+                out[i] = "[Lv" + (1 + random.nextInt(400)) + "] " + name + " " + health(random) + "❤";
+            }
+        }
+        return out;
+    }
+
+    /**
+     * The same name tags with a colour code in front of every part, as the server sends them
+     */
+    static String[] formattedNametags(int size) {
+        String[] plain = nametags(size);
+        String[] out = new String[size];
+        for (int i = 0; i < size; i++) {
+            out[i] = "§8" + plain[i].replace("] ", "] §c").replace("❤", "§c❤");
+        }
+        return out;
+    }
+
+    /**
+     * Normalized (lowercase, formatting stripped) item names, with random reforges
+     */
+    static String[] itemNames(int size) {
+        Random random = new Random(SEED);
+        String[] reforges = {"", "Heroic ", "Fabled ", "Withered ", "Spicy ", "Suspicious "};
+        String[] out = new String[size];
+        for (int i = 0; i < size; i++) {
+            String name = reforges[random.nextInt(reforges.length)] + ITEM_NAMES[random.nextInt(ITEM_NAMES.length)];
+            out[i] = name.toLowerCase(Locale.ROOT);
+        }
+        return out;
+    }
+
+    /**
+     * x, y, z triples scattered over a 256 x 32 x 256 area around the origin (a crowded hub)
+     */
+    static double[] positions(int size) {
+        Random random = new Random(SEED);
+        double[] out = new double[size * 3];
+        for (int i = 0; i < size; i++) {
+            out[i * 3] = random.nextDouble() * 256.0 - 128.0;
+            out[i * 3 + 1] = 60.0 + random.nextDouble() * 32.0;
+            out[i * 3 + 2] = random.nextDouble() * 256.0 - 128.0;
+        }
+        return out;
+    }
+
+    private static String health(Random random) {
+        String format = HP_FORMATS[random.nextInt(HP_FORMATS.length)];
+        int max = 10 + random.nextInt(900);
+        int current = 1 + random.nextInt(max);
+        if (format.startsWith("%d.%d")) {
+            return String.format(Locale.ROOT, format, current / 100, current % 10, max / 100 + 1);
+        }
+        if (format.indexOf(',') >= 0) {
+            return String.format(Locale.ROOT, format, current * 1000, max * 1000);
+        }
+        return String.format(Locale.ROOT, format, current, max);
+    }
+}
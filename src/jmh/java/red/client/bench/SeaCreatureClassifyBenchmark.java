@@ -0,0 +1,61 @@
+package red.client.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import red.client.fishing.util.SeaCreatureCatalog;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sea creature classification over a name tag population
+ *
+ * legacyContains is the old SeaCreatureKiller.isTargetSeaCreature name check
+ * (one contains() per catalogue entry); catalogMatch is the single-pass
+ * Aho-Corasick lookup SeaCreatureKiller uses now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeaCreatureClassifyBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private String[] names;
+    private Set<String> targetCreatures;
+
+    @Setup
+    public void setup() {
+        names = Populations.nametags(size);
+        targetCreatures = new HashSet<>(SeaCreatureCatalog.getNames());
+    }
+
+    @Benchmark
+    public void legacyContains(Blackhole blackhole) {
+        for (String name : names) {
+            boolean match = false;
+            for (String targetName : targetCreatures) {
+                if (name.contains(targetName)) {
+                    match = true;
+                    break;
+                }
+            }
+            blackhole.consume(match);
+        }
+    }
+
+    @Benchmark
+    public void catalogMatch(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(SeaCreatureCatalog.match(name));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package red.client.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import red.client.fishing.util.WeaponDetector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WeaponDetector keyword lookups over normalized item names
+ *
+ * Measures the name checks behind findBestRCMWeaponSlot / findMeleeWeaponSlot
+ * (ItemStack construction needs a bootstrapped registry, so the stack-level
+ * wrappers are left out).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeaponLookupBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private String[] names;
+
+    @Setup
+    public void setup() {
+        names = Populations.itemNames(size);
+    }
+
+    @Benchmark
+    public void rcmWeapon(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(WeaponDetector.isHyperionName(name) || WeaponDetector.isFireVeilWandName(name));
+        }
+    }
+
+    @Benchmark
+    public void meleeWeapon(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(WeaponDetector.isMeleeWeaponName(name));
+        }
+    }
+}